@@ -0,0 +1,65 @@
+package housekeeping.hub.logic;
+
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Produces the command texts that the logic benchmarks feed to the app, as a user would type them.
+ * Commands are named by a key, which is the command word, or for {@code booking} commands the command word
+ * followed by the action.
+ */
+public class BenchmarkCommands {
+
+    public static final String ADD = "add";
+    public static final String EDIT = "edit";
+    public static final String LIST = "list";
+    public static final String FIND = "find";
+    public static final String LEADS = "leads";
+    public static final String BOOKING_ADD = "bookingAdd";
+    public static final String BOOKING_SEARCH = "bookingSearch";
+    public static final String BOOKING_LIST = "bookingList";
+    /** A key that cycles through {@link #MIX} instead of repeating a single command. */
+    public static final String MIXED = "mix";
+
+    /**
+     * A realistic session: adding and editing clients, looking them up, and managing the bookings of housekeepers.
+     * {@code list} comes before {@code edit} so the edited client is always in the shown list.
+     */
+    public static final String[] MIX = {ADD, LIST, EDIT, FIND, LEADS, BOOKING_SEARCH, BOOKING_ADD, BOOKING_LIST};
+
+    /** Generated housekeepers are booked up to two weeks after the base date, so searches look after that. */
+    private static final int FIRST_SEARCHED_DAY = 30;
+    /** Added bookings start after every searched day, so searches always find the housekeepers free. */
+    private static final int FIRST_ADDED_SLOT = 1000;
+
+    /**
+     * Returns the text of the {@code n}-th command run for {@code key}.
+     * Commands that add to the book use {@code n} to stay unique, so {@code n} should not repeat within a book.
+     */
+    public static String getCommandText(String key, int n) {
+        switch (key) {
+        case ADD:
+            return "add client n/Added Client " + n + " p/" + (90000000 + n % 10_000_000)
+                    + " e/added" + n + "@example.com a/Blk " + (n % 999 + 1) + " Clementi Ave 2, #02-25"
+                    + " ar/west t/new d/2024-01-01 2 months";
+        case EDIT:
+            return "edit client 1 p/" + (n % 2 == 0 ? "91234567" : "97654321");
+        case LIST:
+            return "list client";
+        case FIND:
+            return "find client n/" + n % 1000 + " ar/east west";
+        case LEADS:
+            return "leads";
+        case BOOKING_ADD:
+            return "booking housekeeper add 1 " + BenchmarkData.getBookedDateAndTime(FIRST_ADDED_SLOT + n);
+        case BOOKING_SEARCH:
+            return "booking housekeeper search east "
+                    + BenchmarkData.BASE_DATE.plusDays(FIRST_SEARCHED_DAY + n % 365) + " am";
+        case BOOKING_LIST:
+            return "booking housekeeper list 1";
+        case MIXED:
+            return getCommandText(MIX[n % MIX.length], n / MIX.length);
+        default:
+            throw new IllegalArgumentException("Unknown benchmark command: " + key);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package housekeeping.hub.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.commons.core.Config;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.logic.commands.CommandResult;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.util.BenchmarkData;
+import housekeeping.hub.storage.InMemoryStorage;
+import housekeeping.hub.storage.JsonAddressBookStorage;
+import housekeeping.hub.storage.JsonUserPrefsStorage;
+import housekeeping.hub.storage.Storage;
+import housekeeping.hub.storage.StorageManager;
+
+/**
+ * Benchmarks commands end to end through {@link LogicManager#execute(String)}: parsing, running the command
+ * against the model and saving the book.
+ * Each command is sampled on its own, and as part of a {@link BenchmarkCommands#MIX mix}, so that JMH reports
+ * latency percentiles per command.
+ * With {@code storage=memory} the save costs nothing, so comparing the two storages gives the save cost, and
+ * comparing with {@link housekeeping.hub.logic.parser.AddressBookParserBenchmark} gives the parsing cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LogicManagerBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"memory", "json"})
+    private String storageType;
+
+    @Param({BenchmarkCommands.ADD, BenchmarkCommands.EDIT, BenchmarkCommands.FIND, BenchmarkCommands.LEADS,
+            BenchmarkCommands.BOOKING_ADD, BenchmarkCommands.BOOKING_SEARCH, BenchmarkCommands.BOOKING_LIST,
+            BenchmarkCommands.MIXED})
+    private String command;
+
+    private AddressBook generatedAddressBook;
+    private Path folder;
+    private Logic logic;
+    private int commandCount;
+
+    /**
+     * Generates the book every iteration starts from, and quietens the app's logging so it is not measured.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        Config config = new Config();
+        config.setLogLevel(java.util.logging.Level.WARNING);
+        LogsCenter.init(config);
+        generatedAddressBook = BenchmarkData.getAddressBook(size, BenchmarkData.DEFAULT_SEED);
+        folder = Files.createTempDirectory("logic-benchmark");
+    }
+
+    /**
+     * Starts every iteration from the generated book, since commands like {@code add} keep growing it.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() throws IOException {
+        Storage storage;
+        if (storageType.equals("json")) {
+            storage = new StorageManager(new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        } else {
+            storage = new InMemoryStorage();
+        }
+        storage.saveAddressBook(generatedAddressBook);
+        logic = new LogicManager(new ModelManager(new AddressBook(generatedAddressBook), new UserPrefs()), storage);
+        commandCount = 0;
+    }
+
+    /**
+     * Deletes the files written by the json storage.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(folder.resolve("addressbook.json"));
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException, ParseException {
+        return logic.execute(BenchmarkCommands.getCommandText(command, commandCount++));
+    }
+}
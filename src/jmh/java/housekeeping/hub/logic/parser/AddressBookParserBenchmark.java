@@ -0,0 +1,44 @@
+package housekeeping.hub.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.logic.BenchmarkCommands;
+import housekeeping.hub.logic.commands.Command;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing the commands of {@link housekeeping.hub.logic.LogicManagerBenchmark} on their own, without
+ * running them, to separate the parsing cost from the cost of changing the model and saving.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookParserBenchmark {
+
+    @Param({BenchmarkCommands.ADD, BenchmarkCommands.EDIT, BenchmarkCommands.FIND, BenchmarkCommands.LEADS,
+            BenchmarkCommands.BOOKING_ADD, BenchmarkCommands.BOOKING_SEARCH, BenchmarkCommands.BOOKING_LIST,
+            BenchmarkCommands.MIXED})
+    private String command;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private int commandCount;
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return addressBookParser.parseCommand(BenchmarkCommands.getCommandText(command, commandCount++));
+    }
+}
@@ -0,0 +1,82 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_AREA;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_NAME;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_PHONE;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.Email;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.Name;
+
+/**
+ * Benchmarks the building blocks the command parsers are made of: splitting arguments by prefix with
+ * {@link ArgumentTokenizer}, and validating single fields with {@link ParserUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParserUtilBenchmark {
+
+    private static final String ADD_ARGUMENTS = " client n/John Doe p/98765432 e/johnd@example.com"
+            + " a/311, Clementi Ave 2, #02-25 t/friends ar/west d/2024-01-01 2 months";
+
+    private static final ArgumentTokenizer ADD_TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE,
+            PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_AREA, PREFIX_TAG, PREFIX_DETAILS);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ADD_TOKENIZER.split(ADD_ARGUMENTS);
+    }
+
+    /**
+     * Tokenizes with a tokenizer built for every call, as {@link ArgumentTokenizer#tokenize(String, Prefix...)}
+     * does, to show the cost of building the trie of prefixes.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAddWithNewTokenizer() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_AREA, PREFIX_TAG, PREFIX_DETAILS);
+    }
+
+    @Benchmark
+    public Name parseName() throws ParseException {
+        return ParserUtil.parseName("John Doe");
+    }
+
+    @Benchmark
+    public Email parseEmail() throws ParseException {
+        return ParserUtil.parseEmail("johnd@example.com");
+    }
+
+    @Benchmark
+    public HousekeepingDetails parseHousekeepingDetails() throws ParseException {
+        return ParserUtil.parseHousekeepingDetails(Optional.of("2024-01-01 2 months"));
+    }
+
+    @Benchmark
+    public Booking parseBooking() throws ParseException {
+        return ParserUtil.parseBooking("2024-05-12 am");
+    }
+}
@@ -0,0 +1,64 @@
+package housekeeping.hub.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks {@link AddressBook#resetData(ReadOnlyAddressBook)}, which runs on start-up and on every
+ * {@code clear}, against books of increasing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook source;
+    private AddressBook target;
+
+    /**
+     * Generates the book that is copied by the benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = BenchmarkData.getAddressBook(size, BenchmarkData.DEFAULT_SEED);
+        target = new AddressBook();
+    }
+
+    @Benchmark
+    public AddressBook resetData() {
+        target.resetData(source);
+        return target;
+    }
+
+    @Benchmark
+    public AddressBook resetDataToEmpty() {
+        target.resetData(source);
+        target.resetData(new AddressBook());
+        return target;
+    }
+
+    @Benchmark
+    public AddressBook copy() {
+        return new AddressBook(source);
+    }
+}
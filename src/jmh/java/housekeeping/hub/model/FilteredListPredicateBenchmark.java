@@ -0,0 +1,92 @@
+package housekeeping.hub.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.model.person.BookingSearchPredicate;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.ContainsKeywordsPredicate;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.LeadsFilterPredicate;
+import housekeeping.hub.model.util.BenchmarkData;
+import javafx.collections.transformation.FilteredList;
+
+/**
+ * Benchmarks updating the predicate of the filtered person lists, as {@code find}, {@code leads} and
+ * {@code booking search} do, against books of increasing size.
+ * Every invocation sets a new predicate object, so the {@code FilteredList} always re-filters its source.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FilteredListPredicateBenchmark {
+
+    /** The keywords {@code find} passes for a prefix that was not given. */
+    private static final List<String> NO_KEYWORDS = List.of("");
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private FilteredList<Client> filteredClients;
+    private FilteredList<Housekeeper> filteredHousekeepers;
+    private String bookedDateAndTime;
+
+    /**
+     * Generates the book whose lists are filtered by the benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        AddressBook addressBook = BenchmarkData.getAddressBook(size, BenchmarkData.DEFAULT_SEED);
+        filteredClients = new FilteredList<>(addressBook.getClientList());
+        filteredHousekeepers = new FilteredList<>(addressBook.getHousekeeperList());
+        // generated housekeepers have no bookings this long after the base date, so every one of them is free
+        bookedDateAndTime = BenchmarkData.getBookedDateAndTime(1000);
+    }
+
+    @Benchmark
+    public int findByName() {
+        filteredClients.setPredicate(new ContainsKeywordsPredicate(List.of("42", "4242"), NO_KEYWORDS, NO_KEYWORDS));
+        return filteredClients.size();
+    }
+
+    @Benchmark
+    public int findByAddressAndArea() {
+        filteredClients.setPredicate(
+                new ContainsKeywordsPredicate(NO_KEYWORDS, List.of("Street"), List.of("east", "west")));
+        return filteredClients.size();
+    }
+
+    @Benchmark
+    public int leads() {
+        filteredClients.setPredicate(new LeadsFilterPredicate());
+        return filteredClients.size();
+    }
+
+    @Benchmark
+    public int bookingSearch() {
+        filteredHousekeepers.setPredicate(new BookingSearchPredicate("east", bookedDateAndTime));
+        return filteredHousekeepers.size();
+    }
+
+    @Benchmark
+    public int showAll() {
+        filteredClients.setPredicate(person -> true);
+        return filteredClients.size();
+    }
+}
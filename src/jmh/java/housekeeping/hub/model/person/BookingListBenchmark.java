@@ -0,0 +1,85 @@
+package housekeeping.hub.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks the operations of a housekeeper's {@link BookingList} against lists of increasing size.
+ * A booking list belongs to a single housekeeper, so its sizes stop well short of the book sizes used elsewhere.
+ * A fresh list is built before every invocation, so every invocation starts from {@code bookingCount} unsorted
+ * bookings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BookingListBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int bookingCount;
+
+    private BookingList bookingList;
+    private String lastBookedDateAndTime;
+    private String freeDateAndTime;
+
+    /**
+     * Picks a booked and a free slot for the benchmarks to look up.
+     */
+    @Setup(Level.Trial)
+    public void setUpSlots() {
+        lastBookedDateAndTime = BenchmarkData.getBookedDateAndTime(bookingCount - 1);
+        freeDateAndTime = BenchmarkData.getBookedDateAndTime(bookingCount);
+    }
+
+    /**
+     * Builds a list of {@code bookingCount} bookings, in reverse so that {@code listBooking} has to sort them.
+     */
+    @Setup(Level.Invocation)
+    public void setUpBookings() {
+        bookingList = new BookingList();
+        for (int i = bookingCount - 1; i >= 0; i--) {
+            bookingList.getBookings().add(new Booking(BenchmarkData.getBookedDateAndTime(i)));
+        }
+    }
+
+    @Benchmark
+    public boolean hasDuplicateBooked() {
+        return bookingList.hasDuplicate(lastBookedDateAndTime);
+    }
+
+    @Benchmark
+    public boolean hasDuplicateFree() {
+        return bookingList.hasDuplicate(freeDateAndTime);
+    }
+
+    @Benchmark
+    public String addBooking() {
+        return bookingList.addBooking(freeDateAndTime);
+    }
+
+    @Benchmark
+    public String deleteFirstBooking() {
+        return bookingList.deleteBooking(1);
+    }
+
+    @Benchmark
+    public String listBooking() {
+        return bookingList.listBooking();
+    }
+}
@@ -0,0 +1,70 @@
+package housekeeping.hub.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.model.tag.Tag;
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks picking the best leads with {@link LeadScorer}, as {@code leads top} does, against sorting all the
+ * leads by their next housekeeping date, as {@code leads} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LeadScorerBenchmark {
+
+    private static final int TOP_COUNT = 50;
+
+    @Param({"10000", "100000", "500000"})
+    private int size;
+
+    private List<Client> clients;
+    private final LeadScorer scorer = new LeadScorer();
+    private final LeadScorer tagScorer = new LeadScorer(Set.of(new Tag("elderly"), new Tag("pet-owner")));
+
+    /**
+     * Generates the clients the leads are picked from.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = BenchmarkData.getClients(size, BenchmarkData.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public List<Client> topLeads() {
+        return scorer.getTopLeads(clients, TOP_COUNT, BenchmarkData.BASE_DATE);
+    }
+
+    @Benchmark
+    public List<Client> topLeadsWithPreferredTags() {
+        return tagScorer.getTopLeads(clients, TOP_COUNT, BenchmarkData.BASE_DATE);
+    }
+
+    @Benchmark
+    public List<Client> allLeadsSorted() {
+        return clients.stream()
+                .filter(client -> LeadScorer.isLead(client, BenchmarkData.BASE_DATE))
+                .sorted(new ClientComparator())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,143 @@
+package housekeeping.hub.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks the person-level operations of {@link UniquePersonList} against lists of increasing size.
+ * Operations that change the list are undone after every invocation, outside the measured time, so every
+ * invocation sees a list of exactly {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniquePersonList<Client> persons;
+    private List<Client> clients;
+    private List<Client> everyOtherPerson;
+    private Client firstPerson;
+    private Client middlePerson;
+    private Client editedMiddlePerson;
+    private Client lastPerson;
+    private Client absentPerson;
+    private Operation lastOperation = Operation.READ;
+
+    /**
+     * Fills the list with {@code size} generated clients and picks the persons the benchmarks work on.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = BenchmarkData.getClients(size, BenchmarkData.DEFAULT_SEED);
+        everyOtherPerson = new ArrayList<>();
+        for (int i = 0; i < size; i += 2) {
+            everyOtherPerson.add(clients.get(i));
+        }
+        persons = new UniquePersonList<>();
+        persons.setPersons(clients);
+
+        firstPerson = clients.get(0);
+        middlePerson = clients.get(size / 2);
+        lastPerson = clients.get(size - 1);
+        absentPerson = BenchmarkData.getClient(size, BenchmarkData.DEFAULT_SEED);
+        editedMiddlePerson = new Client(middlePerson.getName(), new Phone("61234567"), middlePerson.getEmail(),
+                middlePerson.getAddress(), middlePerson.getTags(), middlePerson.getDetails(), middlePerson.getArea());
+    }
+
+    @Benchmark
+    public boolean containsFirst() {
+        return persons.contains(firstPerson);
+    }
+
+    @Benchmark
+    public boolean containsLast() {
+        return persons.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPerson);
+    }
+
+    @Benchmark
+    public void add() {
+        lastOperation = Operation.ADD;
+        persons.add(absentPerson);
+    }
+
+    @Benchmark
+    public void setPerson() {
+        lastOperation = Operation.SET_PERSON;
+        persons.setPerson(middlePerson, editedMiddlePerson);
+    }
+
+    @Benchmark
+    public void remove() {
+        lastOperation = Operation.REMOVE;
+        persons.remove(lastPerson);
+    }
+
+    @Benchmark
+    public void removeAllEveryOther() {
+        lastOperation = Operation.REPLACE_ALL;
+        persons.removeAll(everyOtherPerson);
+    }
+
+    @Benchmark
+    public void setPersonsEveryOther() {
+        lastOperation = Operation.REPLACE_ALL;
+        persons.setPersons(everyOtherPerson);
+    }
+
+    /**
+     * Undoes whichever of the benchmarks that change the list ran in the last invocation.
+     */
+    @TearDown(Level.Invocation)
+    public void undoLastOperation() {
+        switch (lastOperation) {
+        case ADD:
+            persons.remove(absentPerson);
+            break;
+        case SET_PERSON:
+            persons.setPerson(editedMiddlePerson, middlePerson);
+            break;
+        case REMOVE:
+            persons.add(lastPerson);
+            break;
+        case REPLACE_ALL:
+            persons.setPersons(clients);
+            break;
+        default:
+            break;
+        }
+        lastOperation = Operation.READ;
+    }
+
+    /** The kinds of operation a benchmark invocation may have done on the list. */
+    private enum Operation {
+        READ, ADD, SET_PERSON, REMOVE, REPLACE_ALL
+    }
+}
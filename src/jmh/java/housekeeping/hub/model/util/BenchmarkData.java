@@ -0,0 +1,66 @@
+package housekeeping.hub.model.util;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.Client;
+
+/**
+ * Builds the persons and books used by the benchmarks, with a {@link SyntheticDataGenerator}.
+ * The same size and seed always give the same data, so results of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    public static final long DEFAULT_SEED = 42L;
+    /** Number of clients in a book for every housekeeper in it. */
+    public static final int CLIENTS_PER_HOUSEKEEPER = 10;
+    /**
+     * The day the generated data is used on. Housekeepers are booked in the years before it and in the
+     * two weeks after it only.
+     */
+    public static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private static final int BOOKINGS_PER_YEAR = 12;
+    private static final int HISTORY_YEARS = 2;
+
+    /**
+     * Returns the generator of the benchmark data for {@code seed}.
+     */
+    public static SyntheticDataGenerator getGenerator(long seed) {
+        return new SyntheticDataGenerator(seed, BASE_DATE, BOOKINGS_PER_YEAR, HISTORY_YEARS);
+    }
+
+    /**
+     * Returns the client with the given {@code index} generated from {@code seed}.
+     * Clients with different indexes never have the same name.
+     */
+    public static Client getClient(int index, long seed) {
+        return getGenerator(seed).generateClient(index);
+    }
+
+    /**
+     * Returns {@code count} clients generated from {@code seed}.
+     */
+    public static List<Client> getClients(int count, long seed) {
+        return getGenerator(seed).generateClients(count);
+    }
+
+    /**
+     * Returns a book of {@code clientCount} clients and one housekeeper for every
+     * {@link #CLIENTS_PER_HOUSEKEEPER} clients, generated from {@code seed}.
+     */
+    public static AddressBook getAddressBook(int clientCount, long seed) {
+        return getGenerator(seed).generateAddressBook(clientCount,
+                Math.max(1, clientCount / CLIENTS_PER_HOUSEKEEPER));
+    }
+
+    /**
+     * Returns the booked date and time of the {@code n}-th half-day slot from {@link #BASE_DATE},
+     * in the format accepted by {@link Booking#Booking(String)}.
+     */
+    public static String getBookedDateAndTime(int n) {
+        return BASE_DATE.plusDays(n / 2) + (n % 2 == 0 ? " am" : " pm");
+    }
+}
@@ -0,0 +1,64 @@
+package housekeeping.hub.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.ReadOnlyUserPrefs;
+import housekeeping.hub.model.UserPrefs;
+
+/**
+ * A {@code Storage} that keeps the last saved book and preferences in memory instead of writing them to disk.
+ * Saving only stores a reference, so benchmarks using it measure everything but the cost of saving.
+ */
+public class InMemoryStorage implements Storage {
+
+    private ReadOnlyAddressBook addressBook;
+    private UserPrefs userPrefs;
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return Paths.get("in-memory", "preferences.json");
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() {
+        return Optional.ofNullable(userPrefs);
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        this.userPrefs = new UserPrefs(userPrefs);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return Paths.get("in-memory", "addressbook.json");
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() {
+        return Optional.ofNullable(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+        return readAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        this.addressBook = addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void setAddressBookStorage(AddressBookStorage addressBookStorage) {
+        // the book is always kept in memory
+    }
+}
@@ -0,0 +1,87 @@
+package housekeeping.hub.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks a full round trip through {@link JsonAddressBookStorage}, which is what every command that changes
+ * the book waits for, against generated books of increasing size.
+ * Run with {@code -prof gc} (as {@code gradlew jmh} does) to see the allocation rate of each operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({"0"})
+    private int compressionLevel;
+
+    private Path folder;
+    private JsonAddressBookStorage saveStorage;
+    private JsonAddressBookStorage readStorage;
+    private AddressBook addressBook;
+
+    /**
+     * Generates the book and writes the file that the read benchmark loads.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storage-benchmark");
+        StorageSettings settings = new StorageSettings(StorageSettings.DEFAULT_BACKEND,
+                StorageSettings.DEFAULT_BUFFER_SIZE, StorageSettings.SyncMode.NONE, compressionLevel);
+        addressBook = BenchmarkData.getAddressBook(size, BenchmarkData.DEFAULT_SEED);
+        saveStorage = new JsonAddressBookStorage(folder.resolve("saved.json"), settings);
+        readStorage = new JsonAddressBookStorage(folder.resolve("read.json"), settings);
+        readStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public void saveAddressBook(WrittenBytes writtenBytes) throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        writtenBytes.bytes += Files.size(saveStorage.getAddressBookFilePath());
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+}
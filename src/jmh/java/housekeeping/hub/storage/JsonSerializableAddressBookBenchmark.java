@@ -0,0 +1,98 @@
+package housekeeping.hub.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import housekeeping.hub.commons.exceptions.IllegalValueException;
+import housekeeping.hub.commons.util.JsonUtil;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.util.BenchmarkData;
+
+/**
+ * Benchmarks the steps of a save and a read that do not touch the disk: converting between the model and
+ * {@link JsonSerializableAddressBook}, and turning that into JSON text with {@link JsonUtil} and back.
+ * Compare with {@link JsonAddressBookStorageBenchmark} to see how much of a round trip is spent on the file itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private JsonSerializableAddressBook jsonAddressBook;
+    private String json;
+
+    /**
+     * Generates the book and its JSON form that the benchmarks convert.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressBook = BenchmarkData.getAddressBook(size, BenchmarkData.DEFAULT_SEED);
+        jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+        json = JsonUtil.toJsonString(jsonAddressBook);
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromModelType() {
+        return new JsonSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return jsonAddressBook.toModelType();
+    }
+
+    @Benchmark
+    public String toJsonString() throws IOException {
+        return JsonUtil.toJsonString(jsonAddressBook);
+    }
+
+    @Benchmark
+    public void writeJson(WrittenBytes writtenBytes) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        JsonUtil.writeJson(out, jsonAddressBook);
+        writtenBytes.bytes += out.count;
+    }
+
+    @Benchmark
+    public JsonSerializableAddressBook fromJsonString() throws IOException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+    }
+
+    /**
+     * Discards everything written to it, keeping only the number of bytes.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
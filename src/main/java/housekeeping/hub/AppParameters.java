@@ -17,7 +17,11 @@ import javafx.application.Application;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    public static final String SCRIPT_MODE_ALL_OR_NOTHING = "all-or-nothing";
+
     private Path configPath;
+    private Path scriptPath;
+    private boolean isScriptAllOrNothing;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +31,25 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the script to run instead of opening the app window, or null if the app is to be opened.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public boolean isScriptAllOrNothing() {
+        return isScriptAllOrNothing;
+    }
+
+    public void setScriptAllOrNothing(boolean isScriptAllOrNothing) {
+        this.isScriptAllOrNothing = isScriptAllOrNothing;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,6 +64,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Opening the app instead.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+        appParameters.setScriptAllOrNothing(SCRIPT_MODE_ALL_OR_NOTHING.equals(namedParameters.get("script-mode")));
+
         return appParameters;
     }
 
@@ -56,18 +87,22 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isScriptAllOrNothing == otherAppParameters.isScriptAllOrNothing;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, isScriptAllOrNothing);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isScriptAllOrNothing", isScriptAllOrNothing)
                 .toString();
     }
 }
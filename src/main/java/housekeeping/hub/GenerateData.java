@@ -0,0 +1,83 @@
+package housekeeping.hub;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.model.util.SyntheticDataGenerator;
+import housekeeping.hub.storage.StreamingJsonAddressBookWriter;
+
+/**
+ * Writes a data file of generated clients and housekeepers, for load testing the app at a realistic scale.
+ * Run with {@code gradlew generateData -PgeneratorArgs="--clients=100000 --output=data/addressbook.json"}.
+ */
+public class GenerateData {
+
+    public static final String USAGE = "Usage: GenerateData [--clients=COUNT] [--housekeepers=COUNT] [--seed=SEED]"
+            + " [--today=yyyy-mm-dd] [--bookings-per-year=COUNT] [--history-years=COUNT] [--compression=0-9]"
+            + " [--output=FILE_PATH]";
+
+    public static final int DEFAULT_CLIENT_COUNT = 10_000;
+    public static final int CLIENTS_PER_HOUSEKEEPER = 10;
+    public static final long DEFAULT_SEED = 42L;
+    public static final String DEFAULT_OUTPUT = "data/addressbook.json";
+
+    /**
+     * Generates the data file described by {@code args}, each of the form {@code --name=value}.
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            int clientCount = Integer.parseInt(options.getOrDefault("clients", String.valueOf(DEFAULT_CLIENT_COUNT)));
+            int housekeeperCount = Integer.parseInt(options.getOrDefault("housekeepers",
+                    String.valueOf(Math.max(1, clientCount / CLIENTS_PER_HOUSEKEEPER))));
+            long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(DEFAULT_SEED)));
+            LocalDate today = options.containsKey("today") ? LocalDate.parse(options.get("today")) : LocalDate.now();
+            int bookingsPerYear = Integer.parseInt(options.getOrDefault("bookings-per-year",
+                    String.valueOf(SyntheticDataGenerator.DEFAULT_BOOKINGS_PER_YEAR)));
+            int historyYears = Integer.parseInt(options.getOrDefault("history-years",
+                    String.valueOf(SyntheticDataGenerator.DEFAULT_HISTORY_YEARS)));
+            int compressionLevel = Integer.parseInt(options.getOrDefault("compression",
+                    String.valueOf(StorageSettings.NO_COMPRESSION)));
+            Path output = Paths.get(options.getOrDefault("output", DEFAULT_OUTPUT));
+            if (clientCount < 0 || housekeeperCount < 0) {
+                throw new IllegalArgumentException("Person counts cannot be negative");
+            }
+
+            SyntheticDataGenerator generator =
+                    new SyntheticDataGenerator(seed, today, bookingsPerYear, historyYears);
+            StreamingJsonAddressBookWriter writer = new StreamingJsonAddressBookWriter(new StorageSettings(
+                    StorageSettings.DEFAULT_BACKEND, StorageSettings.DEFAULT_BUFFER_SIZE,
+                    StorageSettings.SyncMode.NONE, compressionLevel));
+            long start = System.nanoTime();
+            long personCount = writer.write(output, generator.streamClients(clientCount).iterator(),
+                    generator.streamHousekeepers(housekeeperCount).iterator());
+            System.out.printf("Wrote %d clients and %d housekeepers (%d persons) to %s in %d ms%n",
+                    clientCount, housekeeperCount, personCount, output, (System.nanoTime() - start) / 1_000_000);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write the data file: " + e);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals == -1) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
@@ -37,5 +37,11 @@ public class Main {
 
         logger.warning("The warning about Unsupported JavaFX configuration below can be ignored.");
         Application.launch(MainApp.class, args);
+
+        // the launcher returns once the app has stopped, which leaves the exit status at 0 unless it is set here
+        int exitStatus = MainApp.getExitStatus();
+        if (exitStatus != 0) {
+            System.exit(exitStatus);
+        }
     }
 }
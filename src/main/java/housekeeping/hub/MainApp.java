@@ -7,12 +7,22 @@ import java.util.logging.Logger;
 
 import housekeeping.hub.commons.core.Config;
 import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
 import housekeeping.hub.commons.core.Version;
 import housekeeping.hub.commons.exceptions.DataLoadingException;
 import housekeeping.hub.commons.util.ConfigUtil;
 import housekeeping.hub.commons.util.StringUtil;
 import housekeeping.hub.logic.Logic;
 import housekeeping.hub.logic.LogicManager;
+import housekeeping.hub.logic.commands.RunCommand;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.logic.replay.CommandRecorder;
+import housekeeping.hub.management.CommandStats;
+import housekeeping.hub.management.FxThreadStats;
+import housekeeping.hub.management.ManagementBeans;
+import housekeeping.hub.management.ModelStats;
+import housekeeping.hub.management.StorageStats;
 import housekeeping.hub.model.AddressBook;
 import housekeeping.hub.model.Model;
 import housekeeping.hub.model.ModelManager;
@@ -21,7 +31,7 @@ import housekeeping.hub.model.ReadOnlyUserPrefs;
 import housekeeping.hub.model.UserPrefs;
 import housekeeping.hub.model.util.SampleDataUtil;
 import housekeeping.hub.storage.AddressBookStorage;
-import housekeeping.hub.storage.JsonAddressBookStorage;
+import housekeeping.hub.storage.AddressBookStorageProviders;
 import housekeeping.hub.storage.JsonUserPrefsStorage;
 import housekeeping.hub.storage.Storage;
 import housekeeping.hub.storage.StorageManager;
@@ -29,6 +39,7 @@ import housekeeping.hub.storage.UserPrefsStorage;
 import housekeeping.hub.ui.Ui;
 import housekeeping.hub.ui.UiManager;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -38,33 +49,89 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** The status the app exits with when a script given with {@code --script} fails. */
+    public static final int EXIT_STATUS_SCRIPT_FAILED = 1;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    // static, as the app is created by the JavaFX launcher and cannot be reached from Main after it has stopped
+    private static volatile int exitStatus = 0;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected CommandRecorder commandRecorder;
+    protected AppParameters appParameters;
+    protected ManagementBeans managementBeans;
+    protected FxThreadStats fxThreadStats;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        StartupPhaseEvent phase = StartupPhaseEvent.start("config");
+        appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        phase.commit();
 
+        phase = StartupPhaseEvent.start("storage");
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = AddressBookStorageProviders.create(userPrefs.getAddressBookFilePath(),
+                config.getStorageSettings());
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = storageManager;
+        phase.commit();
 
+        phase = StartupPhaseEvent.start("model");
         model = initModelManager(storage, userPrefs);
+        phase.commit();
 
-        logic = new LogicManager(model, storage);
+        phase = StartupPhaseEvent.start("logic");
+        commandRecorder = initCommandRecorder(config);
+        logic = new LogicManager(model, storage, commandRecorder, config.getStorageSettings(), this::saveBackend);
+        phase.commit();
 
+        phase = StartupPhaseEvent.start("ui");
         ui = new UiManager(logic);
+        phase.commit();
+
+        phase = StartupPhaseEvent.start("monitoring");
+        initManagementBeans(storageManager);
+        phase.commit();
+    }
+
+    /**
+     * Saves {@code storageSettings} to the config file and the data file path to the preferences file, so that the
+     * app is started again on the data file that a {@code convert} command switched it to.
+     */
+    private void saveBackend(StorageSettings storageSettings) {
+        config.setStorageSettings(storageSettings);
+        Path configFilePath = appParameters.getConfigPath() != null
+                ? appParameters.getConfigPath() : Config.DEFAULT_CONFIG_FILE;
+        try {
+            ConfigUtil.saveConfig(config, configFilePath);
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.warning("Failed to save the switched data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Registers the beans that monitoring tools read the state of the app from through JMX.
+     */
+    private void initManagementBeans(StorageManager storageManager) {
+        managementBeans = new ManagementBeans();
+        fxThreadStats = new FxThreadStats();
+        managementBeans.register("Model", new ModelStats(model));
+        managementBeans.register("Storage", new StorageStats(config.getStorageSettings().getBackend(),
+                storageManager.getAddressBookFilePath(), storageManager.getStorageMetrics()));
+        managementBeans.register("Commands", new CommandStats(logic.getCommandMetrics()));
+        managementBeans.register("FxThread", fxThreadStats);
     }
 
     /**
@@ -96,6 +163,26 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns a {@code CommandRecorder} that records to the file in {@code config}, or null if commands are not to
+     * be recorded or the file cannot be opened.
+     */
+    private CommandRecorder initCommandRecorder(Config config) {
+        Path recordFilePath = config.getCommandRecordFilePath();
+        if (recordFilePath == null) {
+            return null;
+        }
+
+        try {
+            logger.info("Recording commands to " + recordFilePath);
+            return new CommandRecorder(recordFilePath);
+        } catch (IOException e) {
+            logger.warning("Could not open command recording " + recordFilePath + ": " + StringUtil.getDetails(e)
+                    + " Commands will not be recorded.");
+            return null;
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,9 +261,38 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        fxThreadStats.setThread(Thread.currentThread());
+        if (appParameters.getScriptPath() != null) {
+            runScript(appParameters.getScriptPath(), appParameters.isScriptAllOrNothing());
+            Platform.exit();
+            return;
+        }
         ui.start(primaryStage);
     }
 
+    /**
+     * Returns the status the app should exit with once it has stopped, which is not 0 if a script given with
+     * {@code --script} failed.
+     */
+    public static int getExitStatus() {
+        return exitStatus;
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} with a {@code run} command and prints its result, without opening the
+     * app window. If the script fails, the app is to exit with {@link #EXIT_STATUS_SCRIPT_FAILED}.
+     */
+    private void runScript(Path scriptPath, boolean isAllOrNothing) {
+        String commandText = RunCommand.COMMAND_WORD + " " + (isAllOrNothing ? RunCommand.ALL_OR_NOTHING + " " : "")
+                + scriptPath;
+        try {
+            System.out.println(logic.execute(commandText).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            exitStatus = EXIT_STATUS_SCRIPT_FAILED;
+        }
+    }
+
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
@@ -185,5 +301,21 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (commandRecorder != null) {
+            try {
+                commandRecorder.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close command recording " + StringUtil.getDetails(e));
+            }
+        }
+        managementBeans.unregisterAll();
+        if (config.getMetricsFilePath() != null) {
+            try {
+                logic.getCommandMetrics().saveToFile(config.getMetricsFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+            }
+        }
+        LogsCenter.shutdown();
     }
 }
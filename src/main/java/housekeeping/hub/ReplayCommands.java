@@ -0,0 +1,164 @@
+package housekeeping.hub;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import housekeeping.hub.commons.core.Config;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.logic.LogicManager;
+import housekeeping.hub.logic.replay.CommandRecorder;
+import housekeeping.hub.logic.replay.CommandReplayer;
+import housekeeping.hub.logic.replay.CommandReplayer.Pacing;
+import housekeeping.hub.logic.replay.RecordedCommand;
+import housekeeping.hub.logic.replay.ReplayReport;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.storage.AddressBookStorage;
+import housekeeping.hub.storage.AddressBookStorageProviders;
+import housekeeping.hub.storage.JsonUserPrefsStorage;
+import housekeeping.hub.storage.StorageManager;
+
+/**
+ * Replays a command recording against a copy of a data file without the GUI, and reports how long the commands took.
+ * The data file itself is never changed.
+ * Run with {@code gradlew replayCommands -PreplayArgs="--recording=commands.jsonl --data=data/addressbook.json"}.
+ */
+public class ReplayCommands {
+
+    public static final String USAGE = "Usage: ReplayCommands --recording=FILE_PATH --data=FILE_PATH"
+            + " [--pacing=full|recorded] [--backend=NAME]";
+
+    /**
+     * Replays the recording described by {@code args}, each of the form {@code --name=value}.
+     */
+    public static void main(String[] args) {
+        int status = run(args);
+        LogsCenter.shutdown();
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    private static int run(String[] args) {
+        Path workFolder = null;
+        try {
+            Map<String, String> options = parseOptions(args);
+            if (!options.containsKey("recording") || !options.containsKey("data")) {
+                throw new IllegalArgumentException("Both a recording and a data file are needed");
+            }
+            Path recordingPath = Paths.get(options.get("recording"));
+            Path dataPath = Paths.get(options.get("data"));
+            Pacing pacing = parsePacing(options.getOrDefault("pacing", "full"));
+            String backend = options.getOrDefault("backend", StorageSettings.DEFAULT_BACKEND);
+
+            Config config = new Config();
+            config.setLogLevel(Level.WARNING);
+            LogsCenter.init(config);
+
+            List<RecordedCommand> commands = CommandRecorder.readRecording(recordingPath);
+            workFolder = Files.createTempDirectory("replay");
+            Path dataCopyPath = copyDataFiles(dataPath, workFolder);
+
+            AddressBookStorage addressBookStorage = AddressBookStorageProviders.create(dataCopyPath,
+                    new StorageSettings().withBackend(backend));
+            Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook();
+            if (!addressBook.isPresent()) {
+                throw new IllegalArgumentException("Data file not found: " + dataPath);
+            }
+            StorageManager storage = new StorageManager(addressBookStorage,
+                    new JsonUserPrefsStorage(workFolder.resolve("preferences.json")));
+            LogicManager logic = new LogicManager(new ModelManager(addressBook.get(), new UserPrefs()), storage);
+
+            System.out.printf("Replaying %d commands from %s against a copy of %s%n",
+                    commands.size(), recordingPath, dataPath);
+            ReplayReport report = new CommandReplayer(logic, pacing).replay(commands);
+            System.out.print(report.format());
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return 1;
+        } catch (IOException | DataLoadingException e) {
+            System.err.println("Could not read the recording or the data file: " + e);
+            return 1;
+        } catch (InterruptedException e) {
+            System.err.println("Replay interrupted");
+            return 1;
+        } finally {
+            deleteQuietly(workFolder);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals == -1) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    private static Pacing parsePacing(String pacing) {
+        switch (pacing) {
+        case "full":
+            return Pacing.FULL_SPEED;
+        case "recorded":
+            return Pacing.RECORDED;
+        default:
+            throw new IllegalArgumentException("Invalid pacing: " + pacing);
+        }
+    }
+
+    /**
+     * Copies the data file at {@code dataPath}, and any files next to it that belong to it (such as the shards of
+     * a {@code sharded} data file), into {@code folder}.
+     *
+     * @return the path of the copied data file.
+     */
+    private static Path copyDataFiles(Path dataPath, Path folder) throws IOException {
+        String fileName = dataPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String stem = dot > 0 ? fileName.substring(0, dot) : fileName;
+        Path dataFolder = dataPath.toAbsolutePath().getParent();
+
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(dataFolder, stem + "*")) {
+            for (Path sibling : siblings) {
+                if (Files.isRegularFile(sibling)) {
+                    Files.copy(sibling, folder.resolve(sibling.getFileName()));
+                }
+            }
+        }
+        return folder.resolve(fileName);
+    }
+
+    private static void deleteQuietly(Path folder) {
+        if (folder == null) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(folder)) {
+            List<Path> toDelete = new ArrayList<>();
+            files.forEach(toDelete::add);
+            for (Path file : toDelete) {
+                Files.delete(file);
+            }
+            Files.delete(folder);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + folder + ": " + e);
+        }
+    }
+}
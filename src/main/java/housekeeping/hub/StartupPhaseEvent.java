@@ -0,0 +1,30 @@
+package housekeeping.hub;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for one phase of starting the app.
+ */
+@Name("housekeeping.hub.StartupPhase")
+@Label("Startup Phase")
+@Category({"Housekeeping Hub", "Startup"})
+@Description("A phase of initializing the app")
+public class StartupPhaseEvent extends Event {
+
+    @Label("Phase")
+    private String phase;
+
+    /**
+     * Creates and begins an event for {@code phase}.
+     */
+    public static StartupPhaseEvent start(String phase) {
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,227 @@
+package housekeeping.hub.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that hands log records over to a background writer thread instead of writing them on the
+ * thread that logs them, which is usually the JavaFX application thread.
+ * Records wait in a bounded queue, from which the writer passes them to the target handlers in batches and flushes
+ * the targets once per batch. What happens when the queue is full is decided by the {@link OverflowPolicy}.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop records below {@code WARNING}, so that logging never holds up the app. Warnings and errors wait
+         * for space instead. The number of dropped records is logged once the writer catches up.
+         */
+        DROP,
+        /** Wait for space for every record, so that no record is lost. */
+        BLOCK
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** The most records passed to the targets before they are flushed. */
+    static final int MAX_BATCH_SIZE = 256;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final long CLOSED_CHECK_INTERVAL_MILLIS = 100;
+
+    /** Tells the writer to stop once every record queued before it is written. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> queue;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object writtenLock = new Object();
+    private final AtomicLong queuedCount = new AtomicLong();
+    private long writtenCount;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that writes to {@code targets} through a queue of {@code capacity} records, and starts its
+     * writer thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        requireNonNull(overflowPolicy);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.targets = List.of(targets);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        setLevel(Level.ALL);
+
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Queues {@code record} for the writer. Records published after the handler is closed are ignored.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the source is found from the stack of the logging thread, so it must be found before the record is
+        // handed over to the writer
+        record.getSourceClassName();
+
+        boolean isQueued;
+        if (overflowPolicy == OverflowPolicy.DROP && record.getLevel().intValue() < Level.WARNING.intValue()) {
+            isQueued = queue.offer(record);
+        } else {
+            isQueued = putUntilClosed(record);
+        }
+        if (isQueued) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until every record published before this call is written to the targets, then flushes them.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+        synchronized (writtenLock) {
+            try {
+                long remainingNanos = deadline - System.nanoTime();
+                while (writtenCount < target && writer.isAlive() && remainingNanos > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(writtenLock, remainingNanos);
+                    remainingNanos = deadline - System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes every queued record, stops the writer and closes the targets. Closing more than once has no effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        try {
+            if (queue.offer(END_OF_RECORDS, CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                writer.join(CLOSE_TIMEOUT_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Waits for space for {@code record} until it is queued, the handler is closed or the thread is interrupted.
+     */
+    private boolean putUntilClosed(LogRecord record) {
+        try {
+            while (!queue.offer(record, CLOSED_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (isClosed) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        long reportedDroppedCount = 0;
+        boolean isEnd = false;
+        while (!isEnd) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // only close() stops the writer
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+            long dropped = droppedCount.get();
+            if (dropped > reportedDroppedCount) {
+                writeToTargets(createDroppedRecord(dropped - reportedDroppedCount));
+                reportedDroppedCount = dropped;
+            }
+            int writtenInBatch = 0;
+            for (LogRecord record : batch) {
+                if (record == END_OF_RECORDS) {
+                    isEnd = true;
+                } else {
+                    writeToTargets(record);
+                    writtenInBatch++;
+                }
+            }
+            targets.forEach(Handler::flush);
+            batch.clear();
+
+            synchronized (writtenLock) {
+                writtenCount += writtenInBatch;
+                writtenLock.notifyAll();
+            }
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private LogRecord createDroppedRecord(long dropped) {
+        LogRecord record = new LogRecord(Level.WARNING, dropped + " log records were dropped as logging fell behind");
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        record.setSourceMethodName("publish");
+        return record;
+    }
+}
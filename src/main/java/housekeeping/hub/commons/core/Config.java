@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import housekeeping.hub.commons.core.AsyncLogHandler.OverflowPolicy;
 import housekeeping.hub.commons.util.ToStringBuilder;
 
 /**
@@ -16,7 +17,11 @@ public class Config {
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.DROP;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageSettings storageSettings = new StorageSettings();
+    private Path commandRecordFilePath = null;
+    private Path metricsFilePath = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -26,6 +31,17 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what is done with log messages logged faster than they can be written.
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -34,6 +50,37 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        this.storageSettings = storageSettings;
+    }
+
+    /**
+     * Returns the file every entered command is recorded to, or null if commands are not recorded.
+     */
+    public Path getCommandRecordFilePath() {
+        return commandRecordFilePath;
+    }
+
+    public void setCommandRecordFilePath(Path commandRecordFilePath) {
+        this.commandRecordFilePath = commandRecordFilePath;
+    }
+
+    /**
+     * Returns the file the command latencies of a session are saved to when the app exits, or null if they are
+     * not saved.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,19 +94,28 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageSettings, otherConfig.storageSettings)
+                && Objects.equals(commandRecordFilePath, otherConfig.commandRecordFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, storageSettings, commandRecordFilePath,
+                metricsFilePath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageSettings", storageSettings)
+                .add("commandRecordFilePath", commandRecordFilePath)
+                .add("metricsFilePath", metricsFilePath)
                 .toString();
     }
 
@@ -0,0 +1,99 @@
+package housekeeping.hub.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Wraps a {@link Logger} to log messages that are only built if they are going to be logged.
+ * Use it where messages are logged often, such as for every command, so that messages below the log level cost
+ * nothing more than the level check:
+ * <pre>
+ *     logger.fine(() -&gt; "Initializing with hub book: " + addressBook);
+ * </pre>
+ * Messages are logged with the class the logger is for as their source. The calling method is not looked up, since
+ * walking the stack for every message would cost more than building most of them.
+ */
+public class LazyLogger {
+
+    private final Logger logger;
+    private final String sourceClassName;
+
+    /**
+     * Creates a {@code LazyLogger} that logs to {@code logger} with {@code sourceClass} as the source of its messages.
+     */
+    public LazyLogger(Logger logger, Class<?> sourceClass) {
+        requireNonNull(logger);
+        requireNonNull(sourceClass);
+        this.logger = logger;
+        this.sourceClassName = sourceClass.getName();
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    public boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    public void severe(String message) {
+        log(Level.SEVERE, message);
+    }
+
+    public void severe(Supplier<String> messageSupplier) {
+        log(Level.SEVERE, messageSupplier);
+    }
+
+    public void warning(String message) {
+        log(Level.WARNING, message);
+    }
+
+    public void warning(Supplier<String> messageSupplier) {
+        log(Level.WARNING, messageSupplier);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    public void info(Supplier<String> messageSupplier) {
+        log(Level.INFO, messageSupplier);
+    }
+
+    public void fine(String message) {
+        log(Level.FINE, message);
+    }
+
+    public void fine(Supplier<String> messageSupplier) {
+        log(Level.FINE, messageSupplier);
+    }
+
+    public void finer(String message) {
+        log(Level.FINER, message);
+    }
+
+    public void finer(Supplier<String> messageSupplier) {
+        log(Level.FINER, messageSupplier);
+    }
+
+    /**
+     * Logs {@code message} at {@code level}, if that level is logged.
+     */
+    public void log(Level level, String message) {
+        if (logger.isLoggable(level)) {
+            logger.logp(level, sourceClassName, null, message);
+        }
+    }
+
+    /**
+     * Logs the message from {@code messageSupplier} at {@code level}, only calling it if that level is logged.
+     */
+    public void log(Level level, Supplier<String> messageSupplier) {
+        if (logger.isLoggable(level)) {
+            logger.logp(level, sourceClassName, null, messageSupplier.get());
+        }
+    }
+}
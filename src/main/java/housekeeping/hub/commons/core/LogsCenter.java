@@ -6,7 +6,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,6 +18,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not hold up
+ *   the thread that logs. Call {@link #shutdown()} before the app exits to write the messages still waiting.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -24,6 +28,7 @@ public class LogsCenter {
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler; // writes the messages of the baseLogger to its targets
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +45,15 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        asyncHandler.setOverflowPolicy(config.getLogOverflowPolicy());
+    }
+
+    /**
+     * Writes the log messages that are still waiting to be written, and closes the console and file handlers.
+     * Messages logged afterwards are not written.
+     */
+    public static void shutdown() {
+        asyncHandler.close();
     }
 
     /**
@@ -66,6 +80,13 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Creates a {@link LazyLogger} for the given class name, for classes that log often.
+     */
+    public static <T> LazyLogger getLazyLogger(Class<T> clazz) {
+        return new LazyLogger(getLogger(clazz), clazz);
+    }
+
     /**
      * Removes all handlers from the {@code logger}.
      */
@@ -75,7 +96,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
+     * Creates a logger named 'ab3', whose messages are written to a {@code ConsoleHandler} and a {@code FileHandler}
+     * through an {@code AsyncLogHandler}.
      * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
@@ -89,18 +111,23 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
 
         // add a FileHandler to log to a file
+        FileHandler fileHandler = null;
         try {
-            FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
-    }
 
+        Handler[] targets = fileHandler == null
+                ? new Handler[] {consoleHandler}
+                : new Handler[] {consoleHandler, fileHandler};
+        asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP,
+                targets);
+        baseLogger.addHandler(asyncHandler);
+    }
 
 }
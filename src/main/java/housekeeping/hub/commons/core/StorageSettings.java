@@ -0,0 +1,108 @@
+package housekeeping.hub.commons.core;
+
+import java.util.Objects;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+
+/**
+ * Contains the settings of the storage backend used for the hub book data file.
+ * Guarantees: immutable.
+ */
+public class StorageSettings {
+
+    public static final String DEFAULT_BACKEND = "json";
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    public static final int NO_COMPRESSION = 0;
+    public static final int MAX_COMPRESSION_LEVEL = 9;
+
+    /**
+     * How hard a save tries to make sure the data has reached the disk before it returns.
+     */
+    public enum SyncMode {
+        /** Leave flushing the written data to the operating system. */
+        NONE,
+        /** Force the written data to the disk at the end of every save. */
+        FSYNC
+    }
+
+    private final String backend;
+    private final int bufferSize;
+    private final SyncMode syncMode;
+    private final int compressionLevel;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default backend and tuning.
+     */
+    public StorageSettings() {
+        this(DEFAULT_BACKEND, DEFAULT_BUFFER_SIZE, SyncMode.NONE, NO_COMPRESSION);
+    }
+
+    /**
+     * Constructs a {@code StorageSettings} with the given backend and tuning.
+     *
+     * @param compressionLevel {@value #NO_COMPRESSION} to store the data file uncompressed, or a GZIP level from 1
+     *     (fastest) to {@value #MAX_COMPRESSION_LEVEL} (smallest). Only the json and sharded backends compress.
+     */
+    public StorageSettings(String backend, int bufferSize, SyncMode syncMode, int compressionLevel) {
+        this.backend = backend;
+        this.bufferSize = bufferSize;
+        this.syncMode = syncMode;
+        this.compressionLevel = compressionLevel;
+    }
+
+    public String getBackend() {
+        return backend == null ? DEFAULT_BACKEND : backend;
+    }
+
+    public int getBufferSize() {
+        return bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE;
+    }
+
+    public SyncMode getSyncMode() {
+        return syncMode == null ? SyncMode.NONE : syncMode;
+    }
+
+    public int getCompressionLevel() {
+        return Math.max(NO_COMPRESSION, Math.min(MAX_COMPRESSION_LEVEL, compressionLevel));
+    }
+
+    /**
+     * Returns a copy of these settings that uses {@code backend} instead.
+     */
+    public StorageSettings withBackend(String backend) {
+        return new StorageSettings(backend, bufferSize, syncMode, compressionLevel);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherSettings = (StorageSettings) other;
+        return getBackend().equals(otherSettings.getBackend())
+                && getBufferSize() == otherSettings.getBufferSize()
+                && getSyncMode() == otherSettings.getSyncMode()
+                && getCompressionLevel() == otherSettings.getCompressionLevel();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getBackend(), getBufferSize(), getSyncMode(), getCompressionLevel());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backend", getBackend())
+                .add("bufferSize", getBufferSize())
+                .add("syncMode", getSyncMode())
+                .add("compressionLevel", getCompressionLevel())
+                .toString();
+    }
+}
@@ -0,0 +1,73 @@
+package housekeeping.hub.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper functions for reading and writing rows of comma-separated values.
+ * A value that contains a comma or a double quote is enclosed in double quotes, in which a double quote is written
+ * twice. A row must be on a single line.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted value is not closed";
+
+    /**
+     * Splits {@code row} into its values, with the quotes around quoted values removed.
+     *
+     * @throws IllegalArgumentException if a quoted value in {@code row} is not closed.
+     */
+    public static List<String> splitRow(String row) {
+        requireNonNull(row);
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < row.length(); i++) {
+            char c = row.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < row.length() && row.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalArgumentException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * Joins {@code values} into a row, quoting the values that contain a comma or a double quote.
+     */
+    public static String joinRow(List<String> values) {
+        requireNonNull(values);
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (i > 0) {
+                row.append(',');
+            }
+            if (value.indexOf(',') == -1 && value.indexOf('"') == -1) {
+                row.append(value);
+            } else {
+                row.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+        return row.toString();
+    }
+}
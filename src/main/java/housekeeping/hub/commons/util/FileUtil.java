@@ -1,10 +1,19 @@
 package housekeeping.hub.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
@@ -13,6 +22,9 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    /** The first two bytes of every GZIP stream. */
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -66,10 +78,21 @@ public class FileUtil {
     }
 
     /**
-     * Assumes file exists
+     * Assumes file exists.
+     * A file written with compression by {@link #writeAtomically} is detected and decompressed.
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        byte[] content = Files.readAllBytes(file);
+        if (isCompressed(content)) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+                content = in.readAllBytes();
+            }
+        }
+        return new String(content, CHARSET);
+    }
+
+    private static boolean isCompressed(byte[] content) {
+        return content.length >= GZIP_MAGIC.length && content[0] == GZIP_MAGIC[0] && content[1] == GZIP_MAGIC[1];
     }
 
     /**
@@ -80,4 +103,74 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes a file through a buffered stream of {@code bufferSize} bytes, creating missing parent directories.
+     * The content is written to a temporary file next to {@code file} which then replaces {@code file}, so
+     * readers never see a partly written file.
+     *
+     * @param compressionLevel 0 to write the content as it is, or a {@link java.util.zip.Deflater} level from 1
+     *     (fastest) to 9 (smallest) to write it GZIP compressed.
+     * @param isForcedToDisk whether to wait until the content has reached the disk before replacing the file.
+     * @param writer writes the content to the stream it is given. It should not close the stream.
+     */
+    public static void writeAtomically(Path file, int bufferSize, int compressionLevel, boolean isForcedToDisk,
+            StreamWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile.toFile())) {
+            OutputStream out = new BufferedOutputStream(fileOut, bufferSize);
+            if (compressionLevel > 0) {
+                LeveledGzipOutputStream compressedOut = new LeveledGzipOutputStream(out, bufferSize, compressionLevel);
+                try {
+                    writer.writeTo(compressedOut);
+                    compressedOut.finish();
+                } finally {
+                    // the stream is not closed, since that would close the file before it is synced
+                    compressedOut.end();
+                }
+            } else {
+                writer.writeTo(out);
+            }
+            out.flush();
+            if (isForcedToDisk) {
+                fileOut.getFD().sync();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A GZIP output stream that compresses at a given {@link java.util.zip.Deflater} level rather than the default.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int bufferSize, int level) throws IOException {
+            super(out, bufferSize);
+            def.setLevel(level);
+        }
+
+        /**
+         * Releases the native memory of the deflater, after which nothing more can be written.
+         */
+        void end() {
+            def.end();
+        }
+    }
+
 }
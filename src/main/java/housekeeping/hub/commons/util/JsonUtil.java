@@ -3,6 +3,7 @@ package housekeeping.hub.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -111,6 +114,36 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Writes the JSON data representation of {@code instance} to {@code out}, in the same format as
+     * {@link #toJsonString(Object)}. The stream is flushed but not closed.
+     */
+    public static <T> void writeJson(OutputStream out, T instance) throws IOException {
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(out, instance);
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code out} piece by piece, in the same format as
+     * {@link #writeJson(OutputStream, Object)}. Objects written with {@link JsonGenerator#writeObject(Object)} are
+     * serialized the same way as by the other methods of this class.
+     * Closing the generator flushes but does not close {@code out}.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter()
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Converts a given instance of a class into a compact JSON string that fits on a single line.
+     * Line breaks inside string values are escaped, so the result can be used as a record in a JSON-lines file.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
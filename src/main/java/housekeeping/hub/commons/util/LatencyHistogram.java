@@ -0,0 +1,133 @@
+package housekeeping.hub.commons.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values, such as latencies in nanoseconds, that can be recorded to from any thread
+ * without locking.
+ * Values are counted in buckets whose width grows with the value, in the style of HdrHistogram: values below 32
+ * are counted exactly, and larger values to within 1/16 (about 6%) of their size. The histogram takes a few
+ * kilobytes however many values are recorded, and covers every {@code long} value.
+ */
+public class LatencyHistogram {
+
+    /** Values below this are each counted in a bucket of their own. */
+    private static final int LINEAR_BUCKET_COUNT = 32;
+    private static final int SUB_BUCKET_BITS = 4;
+    /** Number of buckets every power of two from {@code LINEAR_BUCKET_COUNT} upwards is split into. */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int FIRST_LOG_EXPONENT = Long.numberOfTrailingZeros(LINEAR_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = LINEAR_BUCKET_COUNT + (63 - FIRST_LOG_EXPONENT) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records one occurrence of {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        counts.incrementAndGet(getBucketIndex(recorded));
+        totalCount.increment();
+        totalValue.add(recorded);
+        if (recorded > maxValue.get()) {
+            maxValue.accumulateAndGet(recorded, Math::max);
+        }
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if none have been recorded.
+     */
+    public double getMean() {
+        long count = totalCount.sum();
+        return count == 0 ? 0 : (double) totalValue.sum() / count;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at or below, or 0 if none have
+     * been recorded. The result is the highest value in the bucket of that value, but never more than the maximum.
+     *
+     * @param percentile a percentage from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        long count = totalCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seenCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seenCount += counts.get(i);
+            if (seenCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        // values recorded while the buckets were being read may not have been seen yet
+        return getMax();
+    }
+
+    /**
+     * Adds the values recorded in {@code other} to this histogram.
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.totalCount.sum());
+        totalValue.add(other.totalValue.sum());
+        maxValue.accumulateAndGet(other.getMax(), Math::max);
+    }
+
+    /**
+     * Forgets all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maxValue.set(0);
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return LINEAR_BUCKET_COUNT + (exponent - FIRST_LOG_EXPONENT) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long getBucketUpperBound(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = FIRST_LOG_EXPONENT + (index - LINEAR_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - LINEAR_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long nextLowerBound = (long) (SUB_BUCKET_COUNT + subBucket + 1) << shift;
+        // the last bucket ends at Long.MAX_VALUE, where the next lower bound overflows
+        return nextLowerBound <= 0 ? Long.MAX_VALUE : nextLowerBound - 1;
+    }
+}
@@ -0,0 +1,80 @@
+package housekeeping.hub.commons.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts events over a sliding window of whole seconds, such as the last minute, without locking.
+ * The window is a ring of one-second buckets that are reused as time passes.
+ */
+public class RateCounter {
+
+    private static final long UNUSED = Long.MIN_VALUE;
+
+    private final int windowSeconds;
+    private final LongSupplier secondsSource;
+    private final AtomicLongArray counts;
+    /** The second each bucket is counting, or {@code UNUSED}. */
+    private final AtomicLongArray bucketSeconds;
+
+    public RateCounter(int windowSeconds) {
+        this(windowSeconds, () -> TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+    }
+
+    /**
+     * Creates a {@code RateCounter} over the last {@code windowSeconds} seconds, as told by {@code secondsSource}.
+     */
+    RateCounter(int windowSeconds, LongSupplier secondsSource) {
+        if (windowSeconds <= 0) {
+            throw new IllegalArgumentException("Window must be at least a second");
+        }
+        this.windowSeconds = windowSeconds;
+        this.secondsSource = secondsSource;
+        counts = new AtomicLongArray(windowSeconds);
+        bucketSeconds = new AtomicLongArray(windowSeconds);
+        for (int i = 0; i < windowSeconds; i++) {
+            bucketSeconds.set(i, UNUSED);
+        }
+    }
+
+    /**
+     * Counts one event now.
+     */
+    public void increment() {
+        long second = secondsSource.getAsLong();
+        int index = Math.floorMod(second, windowSeconds);
+        long bucketSecond = bucketSeconds.get(index);
+        if (bucketSecond != second && bucketSeconds.compareAndSet(index, bucketSecond, second)) {
+            // an event counted by another thread between the two updates is lost, which is fine for a rate
+            counts.set(index, 0);
+        }
+        counts.incrementAndGet(index);
+    }
+
+    /**
+     * Returns the number of events counted in the window that ends now.
+     */
+    public long getCount() {
+        long now = secondsSource.getAsLong();
+        long count = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            long bucketSecond = bucketSeconds.get(i);
+            if (bucketSecond != UNUSED && now - bucketSecond < windowSeconds) {
+                count += counts.get(i);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the average number of events per second in the window that ends now.
+     */
+    public double getRatePerSecond() {
+        return (double) getCount() / windowSeconds;
+    }
+
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+}
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import housekeeping.hub.commons.core.GuiSettings;
 import housekeeping.hub.logic.commands.CommandResult;
 import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.metrics.CommandMetrics;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
 import housekeeping.hub.model.ReadOnlyAddressBook;
 import housekeeping.hub.model.person.Client;
@@ -24,6 +25,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the latencies of the commands executed so far.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the AddressBook.
      *
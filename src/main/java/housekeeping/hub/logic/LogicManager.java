@@ -3,19 +3,26 @@ package housekeeping.hub.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.logging.Logger;
+import java.util.function.Consumer;
 
 import housekeeping.hub.commons.core.GuiSettings;
+import housekeeping.hub.commons.core.LazyLogger;
 import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.util.StringUtil;
 import housekeeping.hub.logic.commands.Command;
 import housekeeping.hub.logic.commands.CommandResult;
 import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandTimer;
 import housekeeping.hub.logic.parser.AddressBookParser;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.logic.replay.CommandRecorder;
 import housekeeping.hub.model.Model;
 import housekeeping.hub.model.ReadOnlyAddressBook;
 import housekeeping.hub.model.person.Client;
 import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.storage.AddressBookStorage;
 import housekeeping.hub.storage.Storage;
 import javafx.collections.ObservableList;
 
@@ -28,38 +35,116 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private final LazyLogger logger = LogsCenter.getLazyLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandRecorder commandRecorder;
+    private final CommandMetrics commandMetrics;
+    private final Consumer<StorageSettings> backendSettingsSaver;
+    /** The number of commands whose changes to the hub book were saved. */
+    private long savedCommandCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that records every command
+     * it is given to {@code commandRecorder}, unless it is null.
+     */
+    public LogicManager(Model model, Storage storage, CommandRecorder commandRecorder) {
+        this(model, storage, commandRecorder, new StorageSettings());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, CommandRecorder)}, whose commands
+     * that write data files do so with {@code storageSettings}.
+     */
+    public LogicManager(Model model, Storage storage, CommandRecorder commandRecorder,
+            StorageSettings storageSettings) {
+        this(model, storage, commandRecorder, storageSettings, settings -> { });
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, CommandRecorder, StorageSettings)},
+     * which gives {@code backendSettingsSaver} the settings of the backend that a {@code convert} command switched the
+     * app to, so that the app can be started on it again.
+     */
+    public LogicManager(Model model, Storage storage, CommandRecorder commandRecorder,
+            StorageSettings storageSettings, Consumer<StorageSettings> backendSettingsSaver) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.commandRecorder = commandRecorder;
+        this.backendSettingsSaver = backendSettingsSaver;
+        commandMetrics = new CommandMetrics();
+        addressBookParser = new AddressBookParser(commandMetrics, storageSettings, this::prepareBackendSwitch);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        if (commandRecorder != null) {
+            commandRecorder.record(commandText);
+        }
 
+        String commandWord = addressBookParser.findCommandWord(commandText)
+                .orElse(CommandMetrics.UNKNOWN_COMMAND_WORD);
+        CommandTimer timer = commandMetrics.startCommand(commandWord);
+        boolean isSuccessful = false;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            CommandResult commandResult;
+            Command command = addressBookParser.parseCommand(commandText);
+            timer.endParse();
+            commandResult = command.execute(model);
+            timer.endExecute();
+
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            savedCommandCount++;
+
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            timer.finish(isSuccessful);
         }
+    }
 
-        return commandResult;
+    /**
+     * Returns what switches the app to reading and saving the hub book with {@code target}, for a conversion that is
+     * started by the command being run. The converted file holds the hub book as it was when the conversion started,
+     * so the hub book is saved to it again when it is switched to if other commands were run in the meantime.
+     */
+    Runnable prepareBackendSwitch(AddressBookStorage target, StorageSettings settings) {
+        // the command that starts the conversion is saved once it is run, which the converted file already holds
+        long savedCommandCountAtConversion = savedCommandCount + 1;
+        return () -> {
+            storage.setAddressBookStorage(target);
+            model.setAddressBookFilePath(target.getAddressBookFilePath());
+            backendSettingsSaver.accept(settings);
+            if (savedCommandCount == savedCommandCountAtConversion) {
+                return;
+            }
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException e) {
+                logger.warning(() -> String.format(FILE_OPS_ERROR_FORMAT, StringUtil.getDetails(e)));
+            }
+        };
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
     }
 
     @Override
@@ -315,6 +315,15 @@ public class BookingCommand extends Command {
         }
 
         String deleteResult = housekeeperToDeleteBooking.deleteBooking(bookingToDeleteIndex);
+
+        // edit housekeeper with updated booking list so that the change is observed by the model
+        EditCommand.EditPersonDescriptor editHousekeeperDescriptor = new EditCommand.EditPersonDescriptor();
+        editHousekeeperDescriptor.setBookingList(housekeeperToDeleteBooking.getBookingList());
+        EditHousekeeperCommand command = new EditHousekeeperCommand(index, editHousekeeperDescriptor);
+        Housekeeper editedHousekeeper = command.createEditedPerson(housekeeperToDeleteBooking,
+                editHousekeeperDescriptor);
+
+        model.setHousekeeper(housekeeperToDeleteBooking, editedHousekeeper);
         return new CommandResult(deleteResult);
     }
 
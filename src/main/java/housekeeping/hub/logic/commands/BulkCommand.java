@@ -0,0 +1,191 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import housekeeping.hub.commons.core.index.Index;
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.Messages;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.Person;
+
+/**
+ * Changes every client or housekeeper selected by a range of displayed indexes or by find keywords.
+ * The selected persons are all changed in one pass over the hub book, so that the list is only updated, and the
+ * hub book only saved, once however many persons are changed.
+ */
+public abstract class BulkCommand extends Command {
+
+    public static final String COMMAND_WORD = "bulk";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Deletes, tags, moves or defers every client or "
+            + "housekeeper selected by a range of indexes in the displayed list, or by the keywords of the find "
+            + "command.\n"
+            + "Parameters: TYPE(client or housekeeper) ACTION SELECTION [VALUES]\n"
+            + "ACTION is one of: delete, tag [t/TAG]..., area to/AREA, defer d/DEFERMENT (clients only)\n"
+            + "SELECTION is either INDEX[-INDEX] or [n/NAME_KEYWORDS] [a/ADDRESS_KEYWORDS] [ar/AREA_KEYWORDS]\n"
+            + "Example: " + COMMAND_WORD + " client area ar/west to/northwest\n"
+            + "Example: " + COMMAND_WORD + " housekeeper delete 2-5";
+
+    public static final String MESSAGE_NONE_SELECTED = "No %1$ss were selected.";
+
+    protected final String type;
+    protected final Selector selector;
+
+    /**
+     * Creates a BulkCommand that changes the persons of {@code type} selected by {@code selector}.
+     */
+    protected BulkCommand(String type, Selector selector) {
+        requireNonNull(type);
+        requireNonNull(selector);
+        this.type = type;
+        this.selector = selector;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (type.equals("client")) {
+            List<Client> targets = selector.select(model.getFilteredClientList(),
+                    model.getAddressBook().getClientList(), Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+            if (targets.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NONE_SELECTED, type));
+            }
+            return applyToClients(model, targets);
+        } else {
+            List<Housekeeper> targets = selector.select(model.getFilteredHousekeeperList(),
+                    model.getAddressBook().getHousekeeperList(), Messages.MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX);
+            if (targets.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_NONE_SELECTED, type));
+            }
+            return applyToHousekeepers(model, targets);
+        }
+    }
+
+    /**
+     * Changes all of the selected {@code clients}, of which there is at least one.
+     */
+    protected abstract CommandResult applyToClients(Model model, List<Client> clients) throws CommandException;
+
+    /**
+     * Changes all of the selected {@code housekeepers}, of which there is at least one.
+     */
+    protected abstract CommandResult applyToHousekeepers(Model model, List<Housekeeper> housekeepers)
+            throws CommandException;
+
+    /**
+     * Selects persons either by a range of indexes in the displayed list, or by a predicate over the whole hub book.
+     */
+    public static class Selector {
+        private final Index first;
+        private final Index last;
+        private final Predicate<Person> predicate;
+
+        private Selector(Index first, Index last, Predicate<Person> predicate) {
+            this.first = first;
+            this.last = last;
+            this.predicate = predicate;
+        }
+
+        /**
+         * Returns a selector of the displayed persons from {@code first} to {@code last}, both inclusive.
+         */
+        public static Selector ofRange(Index first, Index last) {
+            requireNonNull(first);
+            requireNonNull(last);
+            if (first.getZeroBased() > last.getZeroBased()) {
+                throw new IllegalArgumentException("The first index must not be after the last");
+            }
+            return new Selector(first, last, null);
+        }
+
+        /**
+         * Returns a selector of the persons in the hub book that match {@code predicate}, whether they are shown.
+         */
+        public static Selector ofPredicate(Predicate<Person> predicate) {
+            requireNonNull(predicate);
+            return new Selector(null, null, predicate);
+        }
+
+        /**
+         * Returns the selected persons, from {@code shownList} if this is a range and from {@code allList}
+         * otherwise.
+         *
+         * @throws CommandException with {@code invalidIndexMessage} if the range is not within the shown list.
+         */
+        <T extends Person> List<T> select(List<T> shownList, List<T> allList, String invalidIndexMessage)
+                throws CommandException {
+            if (predicate == null) {
+                if (last.getZeroBased() >= shownList.size()) {
+                    throw new CommandException(invalidIndexMessage);
+                }
+                return new ArrayList<>(shownList.subList(first.getZeroBased(), last.getOneBased()));
+            }
+            List<T> selected = new ArrayList<>();
+            for (T person : allList) {
+                if (predicate.test(person)) {
+                    selected.add(person);
+                }
+            }
+            return selected;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Selector)) {
+                return false;
+            }
+
+            Selector otherSelector = (Selector) other;
+            return Objects.equals(first, otherSelector.first)
+                    && Objects.equals(last, otherSelector.last)
+                    && Objects.equals(predicate, otherSelector.predicate);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("first", first)
+                    .add("last", last)
+                    .add("predicate", predicate)
+                    .toString();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkCommand)) {
+            return false;
+        }
+
+        BulkCommand otherBulkCommand = (BulkCommand) other;
+        return getClass() == otherBulkCommand.getClass()
+                && type.equals(otherBulkCommand.type)
+                && selector.equals(otherBulkCommand.selector);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("selector", selector)
+                .toString();
+    }
+}
@@ -0,0 +1,89 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Period;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+
+/**
+ * Defers the next housekeeping of every selected client by the same period.
+ * Clients without housekeeping details have no next housekeeping to defer, so they are left as they are.
+ */
+public class BulkDeferCommand extends BulkCommand {
+
+    public static final String MESSAGE_SUCCESS = "Deferred the housekeeping of %1$d client(s).";
+    public static final String MESSAGE_SKIPPED = "%1$d client(s) without housekeeping details were skipped.";
+    public static final String MESSAGE_NO_DETAILS = "None of the selected clients have housekeeping details.";
+    public static final String MESSAGE_CLIENTS_ONLY = "Only the housekeeping of clients can be deferred.";
+
+    private final Period deferment;
+
+    /**
+     * Creates a BulkDeferCommand that defers the housekeeping of the selected clients by {@code deferment}.
+     */
+    public BulkDeferCommand(Selector selector, Period deferment) {
+        super("client", selector);
+        requireNonNull(deferment);
+        this.deferment = deferment;
+    }
+
+    @Override
+    protected CommandResult applyToClients(Model model, List<Client> clients) throws CommandException {
+        requireNonNull(model);
+        Map<Client, Client> deferredClients = new HashMap<>();
+        for (Client client : clients) {
+            if (client.getDetails() == null || !client.hasHousekeepingDetails()) {
+                continue;
+            }
+            // the details are copied rather than deferred in place, so that the client being replaced is unchanged
+            HousekeepingDetails details = new HousekeepingDetails(client.getDetails());
+            details.addDeferment(deferment);
+            deferredClients.put(client, new Client(client.getName(), client.getPhone(), client.getEmail(),
+                    client.getAddress(), client.getTags(), details, client.getArea()));
+        }
+        if (deferredClients.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_DETAILS);
+        }
+
+        model.replaceClients(deferredClients);
+        String result = String.format(MESSAGE_SUCCESS, deferredClients.size());
+        int skippedCount = clients.size() - deferredClients.size();
+        if (skippedCount > 0) {
+            result += "\n" + String.format(MESSAGE_SKIPPED, skippedCount);
+        }
+        return new CommandResult(result);
+    }
+
+    @Override
+    protected CommandResult applyToHousekeepers(Model model, List<Housekeeper> housekeepers)
+            throws CommandException {
+        throw new CommandException(MESSAGE_CLIENTS_ONLY);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!super.equals(other)) {
+            return false;
+        }
+
+        BulkDeferCommand otherBulkDeferCommand = (BulkDeferCommand) other;
+        return deferment.equals(otherBulkDeferCommand.deferment);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("selector", selector)
+                .add("deferment", deferment)
+                .toString();
+    }
+}
@@ -0,0 +1,35 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+
+/**
+ * Deletes every selected client or housekeeper from the hub book.
+ */
+public class BulkDeleteCommand extends BulkCommand {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d %2$s(s).";
+
+    public BulkDeleteCommand(String type, Selector selector) {
+        super(type, selector);
+    }
+
+    @Override
+    protected CommandResult applyToClients(Model model, List<Client> clients) {
+        requireNonNull(model);
+        model.deleteClients(clients);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clients.size(), type));
+    }
+
+    @Override
+    protected CommandResult applyToHousekeepers(Model model, List<Housekeeper> housekeepers) {
+        requireNonNull(model);
+        model.deleteHousekeepers(housekeepers);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, housekeepers.size(), type));
+    }
+}
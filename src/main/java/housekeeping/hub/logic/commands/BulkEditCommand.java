@@ -0,0 +1,86 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Area;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.tag.Tag;
+
+/**
+ * Replaces the tags, or changes the area, of every selected client or housekeeper.
+ */
+public class BulkEditCommand extends BulkCommand {
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d %2$s(s).";
+
+    private final Optional<Set<Tag>> tags;
+    private final Optional<Area> area;
+
+    /**
+     * Creates a BulkEditCommand that gives the selected persons {@code tags} and {@code area}, where present.
+     */
+    public BulkEditCommand(String type, Selector selector, Optional<Set<Tag>> tags, Optional<Area> area) {
+        super(type, selector);
+        requireNonNull(tags);
+        requireNonNull(area);
+        this.tags = tags.map(Set::copyOf);
+        this.area = area;
+    }
+
+    @Override
+    protected CommandResult applyToClients(Model model, List<Client> clients) {
+        requireNonNull(model);
+        Map<Client, Client> editedClients = new HashMap<>();
+        for (Client client : clients) {
+            // the details are shared with the edited client, as the edit command does
+            editedClients.put(client, new Client(client.getName(), client.getPhone(), client.getEmail(),
+                    client.getAddress(), tags.orElse(client.getTags()), client.getDetails(),
+                    area.orElse(client.getArea())));
+        }
+        model.replaceClients(editedClients);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clients.size(), type));
+    }
+
+    @Override
+    protected CommandResult applyToHousekeepers(Model model, List<Housekeeper> housekeepers) {
+        requireNonNull(model);
+        Map<Housekeeper, Housekeeper> editedHousekeepers = new HashMap<>();
+        for (Housekeeper housekeeper : housekeepers) {
+            editedHousekeepers.put(housekeeper, new Housekeeper(housekeeper.getName(), housekeeper.getPhone(),
+                    housekeeper.getEmail(), housekeeper.getAddress(), tags.orElse(housekeeper.getTags()),
+                    area.orElse(housekeeper.getArea()), housekeeper.getBookingList()));
+        }
+        model.replaceHousekeepers(editedHousekeepers);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, housekeepers.size(), type));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!super.equals(other)) {
+            return false;
+        }
+
+        BulkEditCommand otherBulkEditCommand = (BulkEditCommand) other;
+        return tags.equals(otherBulkEditCommand.tags)
+                && area.equals(otherBulkEditCommand.area);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("selector", selector)
+                .add("tags", tags)
+                .add("area", area)
+                .toString();
+    }
+}
@@ -0,0 +1,204 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import housekeeping.hub.commons.core.LazyLogger;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.util.StringUtil;
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.storage.AddressBookStorage;
+import housekeeping.hub.storage.AddressBookStorageProvider;
+import housekeeping.hub.storage.AddressBookStorageProviders;
+import javafx.application.Platform;
+
+/**
+ * Writes a copy of the hub book to a file of another storage backend, and then switches the app over to it.
+ * The hub book in memory is written rather than read back from the current data file, which holds the same persons
+ * because every command that changes them saves them. The persons are copied when the command is run and written on
+ * a background thread, so that the app keeps running on the current data file while the copy is written. Once it is
+ * written, the app is switched to it on the FX thread, and stays on the current data file if it could not be written.
+ */
+public class ConvertCommand extends Command {
+
+    /**
+     * Switches the app over to a converted data file.
+     */
+    @FunctionalInterface
+    public interface BackendSwitcher {
+        /**
+         * Returns what switches the app to reading and saving the hub book with {@code target}, created with
+         * {@code settings}. It is called on the FX thread when the conversion starts, and what it returns is run on the
+         * FX thread once the converted file is written.
+         */
+        Runnable prepareSwitch(AddressBookStorage target, StorageSettings settings);
+    }
+
+    /** A {@code BackendSwitcher} that leaves the app on its current data file. */
+    public static final BackendSwitcher NO_SWITCH = (target, settings) -> () -> { };
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes a copy of all clients and housekeepers "
+            + "to a data file of the given storage backend.\n"
+            + "Parameters: BACKEND FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " sql data/addressbook.db";
+
+    public static final String MESSAGE_SUCCESS = "Converting %1$d client(s) and %2$d housekeeper(s) to the %3$s "
+            + "backend at %4$s. The app switches to it once it is written.";
+    public static final String MESSAGE_UNKNOWN_BACKEND = "Unknown storage backend: %1$s. Available backends: %2$s";
+    public static final String MESSAGE_CURRENT_FILE = "Cannot convert onto the data file that is currently in use.";
+    public static final String MESSAGE_FAILURE = "Could not write to %1$s: %2$s";
+
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(ConvertCommand.class);
+
+    /**
+     * Writes the conversions one at a time. Its thread is not a daemon, so that a conversion that is still being
+     * written when the app exits is finished first.
+     */
+    private static final Executor BACKGROUND_EXECUTOR = createBackgroundExecutor();
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final String backend;
+    private final Path filePath;
+    private final StorageSettings settings;
+    private final BackendSwitcher backendSwitcher;
+    private final Executor executor;
+    private final Executor fxExecutor;
+
+    public ConvertCommand(String backend, Path filePath) {
+        this(backend, filePath, new StorageSettings(), NO_SWITCH);
+    }
+
+    /**
+     * Creates a ConvertCommand to write the hub book to {@code filePath} with the backend named {@code backend},
+     * with the buffer size, compression level and sync mode in {@code settings}, and to switch the app to it with
+     * {@code backendSwitcher}.
+     */
+    public ConvertCommand(String backend, Path filePath, StorageSettings settings, BackendSwitcher backendSwitcher) {
+        this(backend, filePath, settings, backendSwitcher, BACKGROUND_EXECUTOR, Platform::runLater);
+    }
+
+    /**
+     * Creates a ConvertCommand that writes the file with {@code executor} instead of on the background thread, and
+     * switches to it with {@code fxExecutor} instead of on the FX thread.
+     */
+    ConvertCommand(String backend, Path filePath, StorageSettings settings, BackendSwitcher backendSwitcher,
+            Executor executor, Executor fxExecutor) {
+        requireNonNull(backend);
+        requireNonNull(filePath);
+        requireNonNull(settings);
+        requireNonNull(backendSwitcher);
+        requireNonNull(executor);
+        requireNonNull(fxExecutor);
+        this.backend = backend;
+        this.filePath = filePath;
+        this.settings = settings;
+        this.backendSwitcher = backendSwitcher;
+        this.executor = executor;
+        this.fxExecutor = fxExecutor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<AddressBookStorageProvider> provider = AddressBookStorageProviders.find(backend);
+        if (!provider.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_BACKEND, backend,
+                    String.join(", ", AddressBookStorageProviders.getNames())));
+        }
+        if (filePath.toAbsolutePath().normalize().equals(
+                model.getAddressBookFilePath().toAbsolutePath().normalize())) {
+            throw new CommandException(MESSAGE_CURRENT_FILE);
+        }
+
+        // the persons are copied, so that later commands that change them in place do not change the conversion
+        List<Client> clients = new ArrayList<>();
+        for (Client client : model.getAddressBook().getClientList()) {
+            clients.add(client.copy());
+        }
+        List<Housekeeper> housekeepers = new ArrayList<>();
+        for (Housekeeper housekeeper : model.getAddressBook().getHousekeeperList()) {
+            housekeepers.add(housekeeper.copy());
+        }
+        AddressBook snapshot = new AddressBook();
+        snapshot.setClients(clients);
+        snapshot.setHousekeepers(housekeepers);
+
+        StorageSettings targetSettings = settings.withBackend(backend);
+        AddressBookStorage target = provider.get().create(filePath, targetSettings);
+        Runnable switchToTarget = backendSwitcher.prepareSwitch(target, targetSettings);
+        executor.execute(() -> {
+            if (write(target, snapshot)) {
+                fxExecutor.execute(switchToTarget);
+            }
+        });
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clients.size(), housekeepers.size(), backend,
+                filePath));
+    }
+
+    /**
+     * Writes {@code snapshot} with {@code target}, and returns whether it was written.
+     */
+    private boolean write(AddressBookStorage target, ReadOnlyAddressBook snapshot) {
+        try {
+            target.saveAddressBook(snapshot);
+            logger.info(() -> "Converted the hub book to the " + backend + " backend at " + filePath);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warning(() -> String.format(MESSAGE_FAILURE, filePath, StringUtil.getDetails(e)));
+            return false;
+        }
+    }
+
+    private static Executor createBackgroundExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "convert-writer"));
+        // the thread is only kept while there are conversions, so that it does not keep the app from exiting
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConvertCommand)) {
+            return false;
+        }
+
+        ConvertCommand otherConvertCommand = (ConvertCommand) other;
+        return backend.equals(otherConvertCommand.backend)
+                && filePath.equals(otherConvertCommand.filePath)
+                && settings.equals(otherConvertCommand.settings);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("backend", backend)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
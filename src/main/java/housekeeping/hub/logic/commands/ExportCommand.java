@@ -0,0 +1,186 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import housekeeping.hub.commons.core.LazyLogger;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.commons.util.StringUtil;
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.storage.PersonExporter;
+import housekeeping.hub.storage.PersonExporter.Format;
+
+/**
+ * Writes the clients or housekeepers shown in the list, or everyone in the hub book, to a CSV or JSON lines file.
+ * The persons are copied when the command is run, and written to the file on a background thread, so that later
+ * commands neither wait for the file nor change what is written to it. The file is checked to be writable before
+ * the command succeeds, so that the writing can then only fail for reasons such as a full disk, which are logged.
+ */
+public class ExportCommand extends Command {
+
+    /**
+     * Which persons are exported.
+     */
+    public enum Scope {
+        /** The clients shown in the client list. */
+        CLIENT,
+        /** The housekeepers shown in the housekeeper list. */
+        HOUSEKEEPER,
+        /** Every client and housekeeper in the hub book, whatever is shown. */
+        ALL
+    }
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the clients or housekeepers shown in the "
+            + "list, or all clients and housekeepers, to a CSV (" + Format.CSV.getExtension() + ") or JSON lines ("
+            + Format.JSON_LINES.getExtension() + ") file.\n"
+            + "Parameters: client|housekeeper|all FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " client data/leads.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exporting %1$d client(s) and %2$d housekeeper(s) to %3$s.";
+    public static final String MESSAGE_CURRENT_FILE = "Cannot export onto the data file that is currently in use.";
+    public static final String MESSAGE_FAILURE = "Could not write to %1$s: %2$s";
+    public static final String MESSAGE_NOT_WRITABLE = "Cannot write to %1$s: it is a folder or is read-only.";
+
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(ExportCommand.class);
+
+    /**
+     * Writes the exports one at a time. Its thread is not a daemon, so that an export that is still being written
+     * when the app exits is finished first.
+     */
+    private static final Executor BACKGROUND_EXECUTOR = createBackgroundExecutor();
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 5;
+
+    private final Scope scope;
+    private final Path filePath;
+    private final Format format;
+    private final Executor executor;
+
+    /**
+     * Creates an ExportCommand to write the persons in {@code scope} to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Scope scope, Path filePath, Format format) {
+        this(scope, filePath, format, BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Creates an ExportCommand that writes the file with {@code executor} instead of on the background thread.
+     */
+    ExportCommand(Scope scope, Path filePath, Format format, Executor executor) {
+        requireNonNull(scope);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(executor);
+        this.scope = scope;
+        this.filePath = filePath;
+        this.format = format;
+        this.executor = executor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (filePath.toAbsolutePath().normalize().equals(
+                model.getAddressBookFilePath().toAbsolutePath().normalize())) {
+            throw new CommandException(MESSAGE_CURRENT_FILE);
+        }
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+        if (!isWritable(filePath)) {
+            throw new CommandException(String.format(MESSAGE_NOT_WRITABLE, filePath));
+        }
+
+        // the persons are copied, so that later commands that change them in place do not change the export
+        List<Client> clients = new ArrayList<>();
+        if (scope != Scope.HOUSEKEEPER) {
+            for (Client client : scope == Scope.ALL
+                    ? model.getAddressBook().getClientList() : model.getFilteredClientList()) {
+                clients.add(client.copy());
+            }
+        }
+        List<Housekeeper> housekeepers = new ArrayList<>();
+        if (scope != Scope.CLIENT) {
+            for (Housekeeper housekeeper : scope == Scope.ALL
+                    ? model.getAddressBook().getHousekeeperList() : model.getFilteredHousekeeperList()) {
+                housekeepers.add(housekeeper.copy());
+            }
+        }
+
+        executor.execute(() -> write(clients, housekeepers));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, clients.size(), housekeepers.size(), filePath));
+    }
+
+    /**
+     * Returns true if {@code filePath}, whose parent folder exists, can be written or created.
+     */
+    private static boolean isWritable(Path filePath) {
+        if (Files.exists(filePath)) {
+            return Files.isRegularFile(filePath) && Files.isWritable(filePath);
+        }
+        Path parent = filePath.toAbsolutePath().getParent();
+        return parent != null && Files.isWritable(parent);
+    }
+
+    private void write(List<Client> clients, List<Housekeeper> housekeepers) {
+        try {
+            long personCount = new PersonExporter().export(filePath, format, clients.iterator(),
+                    housekeepers.iterator());
+            logger.info(() -> "Exported " + personCount + " person(s) to " + filePath);
+        } catch (IOException | RuntimeException e) {
+            logger.warning(() -> String.format(MESSAGE_FAILURE, filePath, StringUtil.getDetails(e)));
+        }
+    }
+
+    private static Executor createBackgroundExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "export-writer"));
+        // the thread is only kept while there are exports, so that it does not keep the app from exiting
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return scope == otherExportCommand.scope
+                && filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scope", scope)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -0,0 +1,296 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import housekeeping.hub.commons.util.CsvUtil;
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.parser.ParserUtil;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.person.Address;
+import housekeeping.hub.model.person.Area;
+import housekeeping.hub.model.person.BookingList;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Email;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.Name;
+import housekeeping.hub.model.person.Person;
+import housekeeping.hub.model.person.Phone;
+import housekeeping.hub.model.tag.Tag;
+import housekeeping.hub.storage.PersonExporter;
+
+/**
+ * Adds the clients and housekeepers in a CSV file to the hub book.
+ * The file is read a chunk of rows at a time, so that only one chunk is held in memory however large the file is.
+ * The rows of a chunk are checked in parallel, and the valid ones are added to the hub book together. Rows that
+ * cannot be added are written to an error file next to the imported file, with the reason above each of them.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String HEADER = PersonExporter.CSV_HEADER;
+    public static final String ERROR_FILE_SUFFIX = ".errors.csv";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the clients and housekeepers in a CSV file.\n"
+            + "The columns are: " + HEADER + ". The header row, blank lines and lines starting with # are skipped. "
+            + "Tags are separated by ;, and details are only for clients.\n"
+            + "Rows that cannot be added are written to a file ending in " + ERROR_FILE_SUFFIX + " next to it.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/new-franchise.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d client(s) and %2$d housekeeper(s) from %3$s.";
+    public static final String MESSAGE_REJECTED_ROWS = "%1$d row(s) could not be imported and were written to %2$s.";
+    public static final String MESSAGE_FILE_FAILURE = "Could not import %1$s: %2$s";
+    public static final String MESSAGE_PARTIAL_FAILURE = "Stopped importing %1$s at line %2$d: %3$s";
+    public static final String MESSAGE_COLUMN_COUNT = "Expected %1$d to %2$d columns but found %3$d";
+    public static final String MESSAGE_DUPLICATE_ROW = "This person is already in the hub book or earlier in the file";
+    public static final String MESSAGE_REJECTED_LINE = "# Line %1$d: %2$s";
+
+    /** The most rows held in memory at a time. */
+    static final int CHUNK_SIZE = 1000;
+    private static final int REQUIRED_COLUMNS = 6;
+    private static final int COLUMNS = 8;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the clients and housekeepers in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the file that the rows of {@code filePath} that cannot be imported are written to.
+     */
+    public static Path getErrorFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String stem = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(stem + ERROR_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path errorFilePath = getErrorFilePath(filePath);
+        Importer importer = new Importer(model);
+        int lineNumber = 0;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                RejectedRows rejectedRows = new RejectedRows(errorFilePath)) {
+            importer.rejectedRows = rejectedRows;
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            boolean isFirstRow = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                    continue;
+                }
+                if (isFirstRow) {
+                    isFirstRow = false;
+                    if (trimmedLine.toLowerCase().startsWith("type,")) {
+                        continue;
+                    }
+                }
+                chunk.add(new Row(lineNumber, line));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importer.add(chunk);
+                    chunk.clear();
+                }
+            }
+            importer.add(chunk);
+        } catch (IOException e) {
+            if (importer.clientCount == 0 && importer.housekeeperCount == 0) {
+                throw new CommandException(String.format(MESSAGE_FILE_FAILURE, filePath, e.getMessage()), e);
+            }
+            // the rows added so far stay in the hub book, so the result must let them be saved
+            return new CommandResult(importer.getResult(errorFilePath) + "\n"
+                    + String.format(MESSAGE_PARTIAL_FAILURE, filePath, lineNumber, e.getMessage()));
+        }
+        return new CommandResult(importer.getResult(errorFilePath));
+    }
+
+    /**
+     * Adds the valid rows of each chunk to the model, and passes the others on to the rejected rows.
+     */
+    private class Importer {
+        private final Model model;
+        private final Set<Name> clientNames;
+        private final Set<Name> housekeeperNames;
+        private RejectedRows rejectedRows;
+        private int clientCount;
+        private int housekeeperCount;
+
+        Importer(Model model) {
+            this.model = model;
+            // the names are kept in hash sets, as checking each row against the hub book would take linear time
+            clientNames = model.getAddressBook().getClientList().stream()
+                    .map(Person::getName).collect(Collectors.toCollection(HashSet::new));
+            housekeeperNames = model.getAddressBook().getHousekeeperList().stream()
+                    .map(Person::getName).collect(Collectors.toCollection(HashSet::new));
+        }
+
+        void add(List<Row> chunk) throws IOException {
+            chunk.parallelStream().forEach(Row::parse);
+
+            List<Client> clients = new ArrayList<>();
+            List<Housekeeper> housekeepers = new ArrayList<>();
+            for (Row row : chunk) {
+                if (row.error != null) {
+                    rejectedRows.write(row, row.error);
+                } else if (row.person instanceof Client && clientNames.add(row.person.getName())) {
+                    clients.add((Client) row.person);
+                } else if (row.person instanceof Housekeeper && housekeeperNames.add(row.person.getName())) {
+                    housekeepers.add((Housekeeper) row.person);
+                } else {
+                    rejectedRows.write(row, MESSAGE_DUPLICATE_ROW);
+                }
+            }
+
+            if (!clients.isEmpty()) {
+                model.addClients(clients);
+                clientCount += clients.size();
+            }
+            if (!housekeepers.isEmpty()) {
+                model.addHousekeepers(housekeepers);
+                housekeeperCount += housekeepers.size();
+            }
+        }
+
+        String getResult(Path errorFilePath) {
+            String result = String.format(MESSAGE_SUCCESS, clientCount, housekeeperCount, filePath);
+            if (rejectedRows.count > 0) {
+                result += "\n" + String.format(MESSAGE_REJECTED_ROWS, rejectedRows.count, errorFilePath);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A row of the CSV file, which is parsed into either a person or the reason it is invalid.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final String text;
+        private Person person;
+        private String error;
+
+        Row(int lineNumber, String text) {
+            this.lineNumber = lineNumber;
+            this.text = text;
+        }
+
+        void parse() {
+            try {
+                person = toPerson(CsvUtil.splitRow(text));
+            } catch (ParseException | IllegalArgumentException e) {
+                error = e.getMessage();
+            }
+        }
+
+        private static Person toPerson(List<String> values) throws ParseException {
+            if (values.size() < REQUIRED_COLUMNS || values.size() > COLUMNS) {
+                throw new ParseException(String.format(MESSAGE_COLUMN_COUNT, REQUIRED_COLUMNS, COLUMNS,
+                        values.size()));
+            }
+            String type = ParserUtil.parseType(values.get(0));
+            Name name = ParserUtil.parseName(values.get(1));
+            Phone phone = ParserUtil.parsePhone(values.get(2));
+            Email email = ParserUtil.parseEmail(values.get(3));
+            Address address = ParserUtil.parseAddress(values.get(4));
+            Area area = ParserUtil.parseArea(values.get(5));
+            String tagValues = values.size() > 6 ? values.get(6).trim() : "";
+            Set<Tag> tags = ParserUtil.parseTags(tagValues.isEmpty() ? List.of() : Arrays.asList(tagValues.split(";")));
+            String detailsValue = values.size() > 7 ? values.get(7).trim() : "";
+            HousekeepingDetails details = ParserUtil.parseHousekeepingDetails(
+                    detailsValue.isEmpty() ? Optional.empty() : Optional.of(detailsValue));
+
+            if (type.equals("client")) {
+                return new Client(name, phone, email, address, tags, details, area);
+            }
+            if (!details.isEmpty()) {
+                throw new ParseException(AddHousekeeperCommand.MESSAGE_NO_HOUSEKEEPING_DETAILS);
+            }
+            return new Housekeeper(name, phone, email, address, tags, area, new BookingList());
+        }
+    }
+
+    /**
+     * Writes rejected rows to the error file, which is only created once there is a row to write.
+     */
+    private static class RejectedRows implements Closeable {
+        private final Path errorFilePath;
+        private BufferedWriter writer;
+        private int count;
+
+        RejectedRows(Path errorFilePath) throws IOException {
+            this.errorFilePath = errorFilePath;
+            // an error file left by an earlier import would otherwise be mistaken for this one's
+            Files.deleteIfExists(errorFilePath);
+        }
+
+        void write(Row row, String reason) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(errorFilePath, StandardCharsets.UTF_8);
+                writer.write(HEADER);
+                writer.newLine();
+            }
+            writer.write(String.format(MESSAGE_REJECTED_LINE, row.lineNumber, reason));
+            writer.newLine();
+            writer.write(row.text);
+            writer.newLine();
+            count++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
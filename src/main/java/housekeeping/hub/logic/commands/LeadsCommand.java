@@ -1,36 +1,76 @@
 package housekeeping.hub.logic.commands;
 
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_TAG;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import housekeeping.hub.commons.util.ToStringBuilder;
 import housekeeping.hub.logic.Messages;
 import housekeeping.hub.model.Model;
 import housekeeping.hub.model.person.Client;
 import housekeeping.hub.model.person.ClientComparator;
+import housekeeping.hub.model.person.LeadScorer;
 import housekeeping.hub.model.person.LeadsFilterPredicate;
+import housekeeping.hub.model.person.Name;
 
 /**
- * Generates a list of leads based on the client's predicted next housekeeping date.
+ * Generates a list of leads based on the client's predicted next housekeeping date,
+ * or the given number of leads with the highest scores.
  */
 public class LeadsCommand extends Command {
 
     public static final String COMMAND_WORD = "leads";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Generates a list of leads based on the client's "
-            + "predicted next housekeeping date.\n"
-            + "Example: " + COMMAND_WORD;
+            + "predicted next housekeeping date, or only the leads with the highest scores.\n"
+            + "Parameters: [top NUMBER [" + PREFIX_TAG + "PREFERRED_TAG]...]\n"
+            + "Example: " + COMMAND_WORD + " top 20 " + PREFIX_TAG + "elderly";
 
     private final LeadsFilterPredicate predicate = new LeadsFilterPredicate();
     private final Comparator<Client> comparator = new ClientComparator();
+    private final LeadScorer scorer;
+    private final int topCount;
 
-    public LeadsCommand() {}
+    /**
+     * Creates a LeadsCommand that lists all the leads.
+     */
+    public LeadsCommand() {
+        this.scorer = null;
+        this.topCount = 0;
+    }
+
+    /**
+     * Creates a LeadsCommand that lists the {@code topCount} leads with the highest scores given by {@code scorer}.
+     */
+    public LeadsCommand(LeadScorer scorer, int topCount) {
+        requireNonNull(scorer);
+        this.scorer = scorer;
+        this.topCount = topCount;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateAndSortFilteredClientList(predicate, comparator);
+        if (scorer == null) {
+            model.updateAndSortFilteredClientList(predicate, comparator);
+        } else {
+            List<Client> topLeads = scorer.getTopLeads(model.getAddressBook().getClientList(), topCount,
+                    LocalDate.now());
+            // ranked by name, which stays the same when a lead is edited, so that edited leads stay where they are
+            Map<Name, Integer> ranks = new HashMap<>();
+            for (int i = 0; i < topLeads.size(); i++) {
+                ranks.put(topLeads.get(i).getName(), i);
+            }
+            // clients of the previous list are ranked last, as the sorted list may compare them before it is filtered
+            model.updateAndSortFilteredClientList(client -> ranks.containsKey(client.getName()),
+                    Comparator.comparing(client -> ranks.getOrDefault(client.getName(), topLeads.size())));
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
     }
@@ -46,13 +86,17 @@ public class LeadsCommand extends Command {
             return false;
         }
 
-        return true;
+        LeadsCommand otherLeadsCommand = (LeadsCommand) other;
+        return Objects.equals(scorer, otherLeadsCommand.scorer)
+                && topCount == otherLeadsCommand.topCount;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("scorer", scorer)
+                .add("topCount", topCount)
                 .toString();
     }
 }
@@ -0,0 +1,145 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.parser.AddressBookParser;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line, as a single command.
+ * The changes of the whole script are applied to the hub book together, so that the lists are updated and the hub
+ * book is saved once after the whole script has run, instead of after every command in it.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+    public static final String ALL_OR_NOTHING = "all-or-nothing";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one command "
+            + "per line. Blank lines and lines starting with # are skipped.\n"
+            + "With " + ALL_OR_NOTHING + ", no changes are kept unless every command succeeds.\n"
+            + "Parameters: [" + ALL_OR_NOTHING + "] FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ALL_OR_NOTHING + " data/weekly-bookings.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_FAILED_LINES = "Ran %1$d command(s) from %2$s, of which %3$d failed:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more.";
+    public static final String MESSAGE_ALL_OR_NOTHING_FAILED = "Line %1$d of %2$s failed, so no changes were made: "
+            + "%3$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "A script cannot run another script.";
+
+    /** The most failed lines listed in the result. */
+    public static final int MAX_LISTED_ERRORS = 20;
+
+    private final Path scriptPath;
+    private final boolean isAllOrNothing;
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a RunCommand to run the commands in {@code scriptPath}, parsing them with {@code addressBookParser}.
+     * If {@code isAllOrNothing}, the hub book is left unchanged if any of the commands fails.
+     */
+    public RunCommand(Path scriptPath, boolean isAllOrNothing, AddressBookParser addressBookParser) {
+        requireNonNull(scriptPath);
+        requireNonNull(addressBookParser);
+        this.scriptPath = scriptPath;
+        this.isAllOrNothing = isAllOrNothing;
+        this.addressBookParser = addressBookParser;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, scriptPath, e.getMessage()), e);
+        }
+
+        // the changes are staged and applied together, so that the lists are only updated once for the whole script
+        model.beginTransaction();
+        int commandCount = 0;
+        List<String> errors = new ArrayList<>();
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i).trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    runLine(line, model);
+                } catch (CommandException | ParseException e) {
+                    if (isAllOrNothing) {
+                        model.rollbackTransaction();
+                        throw new CommandException(String.format(MESSAGE_ALL_OR_NOTHING_FAILED, i + 1, scriptPath,
+                                e.getMessage()), e);
+                    }
+                    errors.add(String.format(MESSAGE_LINE_ERROR, i + 1, e.getMessage()));
+                }
+            }
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+
+        if (errors.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, scriptPath));
+        }
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_FAILED_LINES, commandCount, scriptPath,
+                errors.size()));
+        errors.stream().limit(MAX_LISTED_ERRORS).forEach(error -> builder.append('\n').append(error));
+        if (errors.size() > MAX_LISTED_ERRORS) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_LISTED_ERRORS));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private void runLine(String line, Model model) throws CommandException, ParseException {
+        Command command = addressBookParser.parseCommand(line);
+        if (command instanceof RunCommand) {
+            throw new CommandException(MESSAGE_NESTED_SCRIPT);
+        }
+        command.execute(model);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && isAllOrNothing == otherRunCommand.isAllOrNothing
+                && addressBookParser == otherRunCommand.addressBookParser;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("isAllOrNothing", isAllOrNothing)
+                .toString();
+    }
+}
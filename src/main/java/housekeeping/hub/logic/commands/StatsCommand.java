@@ -0,0 +1,91 @@
+package housekeeping.hub.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import housekeeping.hub.commons.util.LatencyHistogram;
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandWordMetrics;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+
+/**
+ * Shows how long the commands run in this session took, and how many persons are in the hub book.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long the commands run since the app "
+            + "was started took, and how many persons are in the hub book.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SIZES = "Clients: %d (%d listed). Housekeepers: %d (%d listed).";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_HEADER = "Latency in ms (p50 / p99 / max) since %s:";
+    public static final String MESSAGE_COMMAND_WORD =
+            "%s: %d run, %d failed | parse %s | execute %s | save %s";
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a StatsCommand that shows the latencies in {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SIZES,
+                addressBook.getClientList().size(), model.getFilteredClientList().size(),
+                addressBook.getHousekeeperList().size(), model.getFilteredHousekeeperList().size()));
+
+        Map<String, CommandWordMetrics> metricsByCommandWord = commandMetrics.getMetricsByCommandWord();
+        if (metricsByCommandWord.isEmpty()) {
+            return new CommandResult(builder.append('\n').append(MESSAGE_NO_COMMANDS).toString());
+        }
+        builder.append('\n').append(String.format(MESSAGE_HEADER, commandMetrics.getStartTime()));
+        metricsByCommandWord.forEach((commandWord, metrics) -> builder.append('\n').append(String.format(
+                MESSAGE_COMMAND_WORD, commandWord, metrics.getCommandCount(), metrics.getFailureCount(),
+                formatLatencies(metrics.getParseLatencies()), formatLatencies(metrics.getExecuteLatencies()),
+                formatLatencies(metrics.getSaveLatencies()))));
+        return new CommandResult(builder.toString());
+    }
+
+    private static String formatLatencies(LatencyHistogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return "-";
+        }
+        return String.format("%.2f / %.2f / %.2f", histogram.getValueAtPercentile(50) / 1e6,
+                histogram.getValueAtPercentile(99) / 1e6, histogram.getMax() / 1e6);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics.equals(otherStatsCommand.commandMetrics);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandMetrics", commandMetrics)
+                .toString();
+    }
+}
@@ -0,0 +1,56 @@
+package housekeeping.hub.logic.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event for one command, from parsing it to saving the data it changed.
+ */
+@Name("housekeeping.hub.Command")
+@Label("Command")
+@Category({"Housekeeping Hub", "Logic"})
+@Description("A command entered by the user, from parsing to saving")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+
+    void setParseDuration(long nanos) {
+        parseDuration = nanos;
+    }
+
+    void setExecuteDuration(long nanos) {
+        executeDuration = nanos;
+    }
+
+    void setSaveDuration(long nanos) {
+        saveDuration = nanos;
+    }
+}
@@ -0,0 +1,100 @@
+package housekeeping.hub.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import housekeeping.hub.commons.util.JsonUtil;
+import housekeeping.hub.commons.util.RateCounter;
+
+/**
+ * Keeps the latencies of the commands run in this session, by command word.
+ * Recording takes no locks, so it can be left on at all times.
+ */
+public class CommandMetrics {
+
+    /** The command word that input not starting with a known command word is recorded under. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
+    /** Number of seconds the recent command rate is averaged over. */
+    public static final int RATE_WINDOW_SECONDS = 60;
+
+    private final Map<String, CommandWordMetrics> metricsByCommandWord = new ConcurrentHashMap<>();
+    private final RateCounter recentCommands = new RateCounter(RATE_WINDOW_SECONDS);
+    private final Instant startTime;
+
+    public CommandMetrics() {
+        this(Instant.now());
+    }
+
+    /**
+     * Creates a {@code CommandMetrics} for a session that started at {@code startTime}.
+     */
+    public CommandMetrics(Instant startTime) {
+        requireNonNull(startTime);
+        this.startTime = startTime;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Returns a timer for a command with {@code commandWord} that starts timing its parse stage now.
+     */
+    public CommandTimer startCommand(String commandWord) {
+        requireNonNull(commandWord);
+        return new CommandTimer(commandWord, metricsByCommandWord.computeIfAbsent(commandWord,
+                unused -> new CommandWordMetrics()), recentCommands);
+    }
+
+    /**
+     * Returns the number of commands run so far.
+     */
+    public long getCommandCount() {
+        return metricsByCommandWord.values().stream().mapToLong(CommandWordMetrics::getCommandCount).sum();
+    }
+
+    /**
+     * Returns the number of commands that failed so far.
+     */
+    public long getFailureCount() {
+        return metricsByCommandWord.values().stream().mapToLong(CommandWordMetrics::getFailureCount).sum();
+    }
+
+    /**
+     * Returns the average number of commands run per second over the last {@link #RATE_WINDOW_SECONDS} seconds.
+     */
+    public double getRecentCommandRate() {
+        return recentCommands.getRatePerSecond();
+    }
+
+    /**
+     * Returns the metrics of every command word run so far, in alphabetical order of command word.
+     */
+    public SortedMap<String, CommandWordMetrics> getMetricsByCommandWord() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(metricsByCommandWord));
+    }
+
+    /**
+     * Saves the metrics as JSON to {@code filePath}, replacing any earlier metrics in it.
+     */
+    public void saveToFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        Map<String, Object> commands = new LinkedHashMap<>();
+        getMetricsByCommandWord().forEach((commandWord, metrics) -> commands.put(commandWord, metrics.toSummary()));
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("sessionStart", startTime.toString());
+        summary.put("sessionEnd", Instant.now().toString());
+        summary.put("commands", commands);
+        JsonUtil.saveJsonFile(summary, filePath);
+    }
+}
@@ -0,0 +1,83 @@
+package housekeeping.hub.logic.metrics;
+
+import housekeeping.hub.commons.util.RateCounter;
+
+/**
+ * Times the parse, execute and save stages of one command, and records them to the {@code CommandWordMetrics} of
+ * its command word.
+ * The stages are ended in order. The stage a command fails in is timed up to when {@link #finish(boolean)} is
+ * called, and the stages after it are not recorded at all.
+ * The stages are also recorded as a {@link CommandEvent} for Java Flight Recorder, if it is recording.
+ */
+public class CommandTimer {
+
+    private enum Stage { PARSE, EXECUTE, SAVE, FINISHED }
+
+    private final CommandWordMetrics metrics;
+    private final RateCounter finishedCommands;
+    private final CommandEvent event = new CommandEvent();
+    private Stage stage = Stage.PARSE;
+    private long stageStart;
+
+    CommandTimer(String commandWord, CommandWordMetrics metrics, RateCounter finishedCommands) {
+        this.metrics = metrics;
+        this.finishedCommands = finishedCommands;
+        event.setCommandWord(commandWord);
+        event.begin();
+        stageStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the parse stage and starts the execute stage.
+     */
+    public void endParse() {
+        endStage(Stage.PARSE);
+    }
+
+    /**
+     * Ends the execute stage and starts the save stage.
+     */
+    public void endExecute() {
+        endStage(Stage.EXECUTE);
+    }
+
+    /**
+     * Ends the current stage and records whether the command was successful.
+     */
+    public void finish(boolean isSuccessful) {
+        if (stage == Stage.FINISHED) {
+            return;
+        }
+        endStage(stage);
+        stage = Stage.FINISHED;
+        metrics.recordCommand(isSuccessful);
+        finishedCommands.increment();
+        event.setSuccessful(isSuccessful);
+        event.commit();
+    }
+
+    private void endStage(Stage expectedStage) {
+        assert stage == expectedStage : "Stage " + expectedStage + " ended during " + stage;
+        long now = System.nanoTime();
+        long nanos = now - stageStart;
+        switch (stage) {
+        case PARSE:
+            metrics.recordParse(nanos);
+            event.setParseDuration(nanos);
+            stage = Stage.EXECUTE;
+            break;
+        case EXECUTE:
+            metrics.recordExecute(nanos);
+            event.setExecuteDuration(nanos);
+            stage = Stage.SAVE;
+            break;
+        case SAVE:
+            metrics.recordSave(nanos);
+            event.setSaveDuration(nanos);
+            break;
+        default:
+            break;
+        }
+        stageStart = now;
+    }
+}
@@ -0,0 +1,88 @@
+package housekeeping.hub.logic.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import housekeeping.hub.commons.util.LatencyHistogram;
+
+/**
+ * The latencies of the commands with one command word, split into the time taken to parse, execute and save them.
+ * Can be recorded to from any thread without locking.
+ */
+public class CommandWordMetrics {
+
+    private final LatencyHistogram parseLatencies = new LatencyHistogram();
+    private final LatencyHistogram executeLatencies = new LatencyHistogram();
+    private final LatencyHistogram saveLatencies = new LatencyHistogram();
+    private final LongAdder commandCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+
+    /**
+     * Records that a command was run, whether or not it failed.
+     */
+    void recordCommand(boolean isSuccessful) {
+        commandCount.increment();
+        if (!isSuccessful) {
+            failureCount.increment();
+        }
+    }
+
+    void recordParse(long nanos) {
+        parseLatencies.record(nanos);
+    }
+
+    void recordExecute(long nanos) {
+        executeLatencies.record(nanos);
+    }
+
+    void recordSave(long nanos) {
+        saveLatencies.record(nanos);
+    }
+
+    public long getCommandCount() {
+        return commandCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /** Returns the parse latencies of all commands, in nanoseconds. */
+    public LatencyHistogram getParseLatencies() {
+        return parseLatencies;
+    }
+
+    /** Returns the execute latencies of the commands that were parsed, in nanoseconds. */
+    public LatencyHistogram getExecuteLatencies() {
+        return executeLatencies;
+    }
+
+    /** Returns the save latencies of the commands that were executed, in nanoseconds. */
+    public LatencyHistogram getSaveLatencies() {
+        return saveLatencies;
+    }
+
+    /**
+     * Returns the counts and latency percentiles as a map that can be saved as JSON.
+     */
+    Map<String, Object> toSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", getCommandCount());
+        summary.put("failures", getFailureCount());
+        summary.put("parse", summarise(parseLatencies));
+        summary.put("execute", summarise(executeLatencies));
+        summary.put("save", summarise(saveLatencies));
+        return summary;
+    }
+
+    private static Map<String, Object> summarise(LatencyHistogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("meanNanos", (long) histogram.getMean());
+        summary.put("p50Nanos", histogram.getValueAtPercentile(50));
+        summary.put("p99Nanos", histogram.getValueAtPercentile(99));
+        summary.put("maxNanos", histogram.getMax());
+        return summary;
+    }
+}
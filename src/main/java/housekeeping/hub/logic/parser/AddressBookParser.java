@@ -2,35 +2,130 @@ package housekeeping.hub.logic.parser;
 
 import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static housekeeping.hub.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static java.util.Objects.requireNonNull;
 
-import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
+import housekeeping.hub.commons.core.LazyLogger;
 import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
 import housekeeping.hub.logic.commands.AddCommand;
 import housekeeping.hub.logic.commands.BookingCommand;
+import housekeeping.hub.logic.commands.BulkCommand;
 import housekeeping.hub.logic.commands.ClearCommand;
 import housekeeping.hub.logic.commands.Command;
+import housekeeping.hub.logic.commands.ConvertCommand;
+import housekeeping.hub.logic.commands.ConvertCommand.BackendSwitcher;
 import housekeeping.hub.logic.commands.DeleteCommand;
 import housekeeping.hub.logic.commands.EditCommand;
 import housekeeping.hub.logic.commands.ExitCommand;
+import housekeeping.hub.logic.commands.ExportCommand;
 import housekeeping.hub.logic.commands.FindCommand;
 import housekeeping.hub.logic.commands.HelpCommand;
+import housekeeping.hub.logic.commands.ImportCommand;
 import housekeeping.hub.logic.commands.LeadsCommand;
 import housekeeping.hub.logic.commands.ListCommand;
+import housekeeping.hub.logic.commands.RunCommand;
+import housekeeping.hub.logic.commands.StatsCommand;
+import housekeeping.hub.logic.metrics.CommandMetrics;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input is looked up in a table of command words, and the rest of the input is given to the
+ * parser of that command word. The parsers are created once and reused for every command, so they must not keep
+ * any state between commands. Commands can be added to the table with {@link #addCommand(String, Parser)}, and
+ * given more command words with {@link #addAlias(String, String)}.
  */
 public class AddressBookParser {
 
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(AddressBookParser.class);
+
+    /** Parsers of the commands, by command word. */
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+    /** Command words of the commands that have other command words, by the other command word. */
+    private final Map<String, String> aliases = new HashMap<>();
+
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
+
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this(commandMetrics, new StorageSettings(), ConvertCommand.NO_SWITCH);
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} commands show the latencies in {@code commandMetrics},
+     * and whose {@code convert} commands write with {@code storageSettings} and then switch the app to the converted
+     * file with {@code backendSwitcher}.
+     */
+    public AddressBookParser(CommandMetrics commandMetrics, StorageSettings storageSettings,
+            BackendSwitcher backendSwitcher) {
+        addCommand(AddCommand.COMMAND_WORD, new AddCommandParser());
+        addCommand(EditCommand.COMMAND_WORD, new EditCommandParser());
+        addCommand(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        addCommand(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        addCommand(FindCommand.COMMAND_WORD, new FindCommandParser());
+        addCommand(ListCommand.COMMAND_WORD, new ListCommandParser());
+        addCommand(LeadsCommand.COMMAND_WORD, new LeadsCommandParser());
+        addCommand(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        addCommand(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        addCommand(BookingCommand.COMMAND_WORD, new BookingCommandParser());
+        addCommand(ConvertCommand.COMMAND_WORD, new ConvertCommandParser(storageSettings, backendSwitcher));
+        addCommand(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand(commandMetrics));
+        addCommand(RunCommand.COMMAND_WORD, new RunCommandParser(this));
+        addCommand(ImportCommand.COMMAND_WORD, new ImportCommandParser());
+        addCommand(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+        addCommand(BulkCommand.COMMAND_WORD, new BulkCommandParser());
+    }
+
+    /**
+     * Adds a command with the given {@code commandWord}, whose arguments are parsed by {@code parser}.
+     * The parser is used for every command with this command word, so it must not keep any state between commands.
+     *
+     * @throws IllegalArgumentException if the command word is not a single word, or is already used.
+     */
+    public void addCommand(String commandWord, Parser<?> parser) {
+        requireNonNull(parser);
+        checkCommandWordIsFree(commandWord);
+        parsers.put(commandWord, parser);
+    }
+
+    /**
+     * Makes {@code alias} another command word of the command with {@code commandWord}.
+     *
+     * @throws IllegalArgumentException if the alias is not a single word or is already used, or if there is no
+     *     command with {@code commandWord}.
+     */
+    public void addAlias(String alias, String commandWord) {
+        checkCommandWordIsFree(alias);
+        if (!parsers.containsKey(commandWord)) {
+            throw new IllegalArgumentException("No command has the command word " + commandWord);
+        }
+        aliases.put(alias, commandWord);
+    }
+
+    private void checkCommandWordIsFree(String commandWord) {
+        requireNonNull(commandWord);
+        if (commandWord.isEmpty() || getEndOfCommandWord(commandWord) != commandWord.length()) {
+            throw new IllegalArgumentException("Command words must be a single word: " + commandWord);
+        }
+        if (parsers.containsKey(commandWord) || aliases.containsKey(commandWord)) {
+            throw new IllegalArgumentException("The command word " + commandWord + " is already used");
+        }
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Returns the command word of the command that {@code userInput} runs, if it runs one. If the input starts with
+     * an alias, the command word the alias stands for is returned.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public Optional<String> findCommandWord(String userInput) {
+        String commandWord = splitCommandWord(userInput.trim());
+        String resolvedCommandWord = aliases.getOrDefault(commandWord, commandWord);
+        return parsers.containsKey(resolvedCommandWord) ? Optional.of(resolvedCommandWord) : Optional.empty();
+    }
 
     /**
      * Parses user input into command for execution.
@@ -40,55 +135,48 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = splitCommandWord(trimmedInput);
+        final String arguments = trimmedInput.substring(commandWord.length());
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case LeadsCommand.COMMAND_WORD:
-            return new LeadsCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+        Parser<?> parser = parsers.get(aliases.getOrDefault(commandWord, commandWord));
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case BookingCommand.COMMAND_WORD:
-            return new BookingCommandParser().parse(arguments);
+    /**
+     * Returns the first word of {@code trimmedInput}, which is everything before its first whitespace.
+     */
+    private static String splitCommandWord(String trimmedInput) {
+        return trimmedInput.substring(0, getEndOfCommandWord(trimmedInput));
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    private static int getEndOfCommandWord(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isWhitespace(text.charAt(i))) {
+                return i;
+            }
         }
+        return text.length();
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as matched by {@code \s} in regular expressions.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
     }
 
 }
@@ -3,6 +3,7 @@ package housekeeping.hub.logic.parser;
 import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -42,18 +43,29 @@ public class BookingCommandParser implements Parser<BookingCommand> {
     private static final String EDIT_PREFERRED_INTERVAL_COMMAND = "interval";
     private static final String SET_HOUSEKEEPING_DETAILS_COMMAND = "set";
     private static final String REMOVE_HOUSEKEEPING_DETAILS_COMMAND = "remove";
+    /** Largest number of words in the forms {@link #parseCommonForm(String)} handles. */
+    private static final int MAX_COMMON_FORM_WORDS = 5;
+    private static final EditHousekeepingDetailsParser EDIT_HOUSEKEEPING_DETAILS_PARSER =
+            new EditHousekeepingDetailsParser();
+
     @Override
     public BookingCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        Matcher addMatcher = PATTERN_ADD.matcher(args.trim());
-        Matcher deleteHousekeeperMatcher = PATTERN_DELETE_HOUSEKEEPER.matcher(args.trim());
-        Matcher deleteClientMatcher = PATTERN_DELETE_CLIENT.matcher(args.trim());
-        Matcher listMatcher = PATTERN_LIST.matcher(args.trim());
-        Matcher searchMatcher = PATTERN_SEARCH.matcher(args.trim());
-        Matcher typeMatcher = PATTERN_TYPE.matcher(args.trim());
-        Matcher setMatcher = PATTERN_SET.matcher(args.trim());
-        Matcher removeMatcher = PATTERN_REMOVE.matcher(args.trim());
-        Matcher editMatcher = PATTERN_EDIT.matcher(args.trim());
+        String trimmedArgs = args.trim();
+        Optional<BookingCommand> commonFormCommand = parseCommonForm(trimmedArgs);
+        if (commonFormCommand.isPresent()) {
+            return commonFormCommand.get();
+        }
+
+        Matcher addMatcher = PATTERN_ADD.matcher(trimmedArgs);
+        Matcher deleteHousekeeperMatcher = PATTERN_DELETE_HOUSEKEEPER.matcher(trimmedArgs);
+        Matcher deleteClientMatcher = PATTERN_DELETE_CLIENT.matcher(trimmedArgs);
+        Matcher listMatcher = PATTERN_LIST.matcher(trimmedArgs);
+        Matcher searchMatcher = PATTERN_SEARCH.matcher(trimmedArgs);
+        Matcher typeMatcher = PATTERN_TYPE.matcher(trimmedArgs);
+        Matcher setMatcher = PATTERN_SET.matcher(trimmedArgs);
+        Matcher removeMatcher = PATTERN_REMOVE.matcher(trimmedArgs);
+        Matcher editMatcher = PATTERN_EDIT.matcher(trimmedArgs);
         if (!typeMatcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BookingCommand.MESSAGE_USAGE));
         } else if (typeMatcher.group(1).equals("client")) {
@@ -66,6 +78,120 @@ public class BookingCommandParser implements Parser<BookingCommand> {
         }
     }
 
+    /**
+     * Parses the forms of booking commands that are used most, which are the {@code add} and {@code delete} forms of
+     * both types, and the {@code list} and {@code search} forms for housekeepers, without regular expressions.
+     * Returns an empty {@code Optional} if {@code trimmedArgs} is not exactly one of these forms with its words
+     * separated by single spaces, in which case it is parsed with the patterns instead. Where both apply, the result
+     * is the same as with the patterns.
+     */
+    private static Optional<BookingCommand> parseCommonForm(String trimmedArgs) throws ParseException {
+        String[] words = splitAtSpaces(trimmedArgs);
+        if (words == null || words.length < 3) {
+            return Optional.empty();
+        }
+
+        String type = words[0];
+        String action = words[1];
+        boolean isClient = type.equals(CLIENT);
+        if (!isClient && !type.equals(HOUSEKEEPER)) {
+            return Optional.empty();
+        }
+
+        if (action.equals(ADD_COMMAND) && words.length == 5 && isDigits(words[2]) && isDate(words[3])
+                && (words[4].equals("am") || words[4].equals("pm"))) {
+            return Optional.of(new BookingCommand(type, ADD_COMMAND, ParserUtil.parseIndex(words[2]),
+                    words[3] + " " + words[4]));
+        }
+        if (isClient) {
+            if (action.equals(DELETE_COMMAND) && words.length == 3 && isDigits(words[2])) {
+                return Optional.of(new BookingCommand(CLIENT, DELETE_COMMAND, ParserUtil.parseIndex(words[2])));
+            }
+            return Optional.empty();
+        }
+
+        switch (action) {
+        case DELETE_COMMAND:
+            // longer booking indexes are left to the patterns, which fail on them in the same way as before
+            if (words.length == 4 && isDigits(words[2]) && isDigits(words[3]) && words[3].length() < 10) {
+                return Optional.of(new BookingCommand(HOUSEKEEPER, DELETE_COMMAND, ParserUtil.parseIndex(words[2]),
+                        Integer.parseInt(words[3])));
+            }
+            return Optional.empty();
+        case LIST_COMMAND:
+            if (words.length == 3 && isDigits(words[2])) {
+                return Optional.of(new BookingCommand(HOUSEKEEPER, LIST_COMMAND, ParserUtil.parseIndex(words[2])));
+            }
+            return Optional.empty();
+        case SEARCH_COMMAND:
+            if (words.length == 5 && isWordCharacters(words[2]) && isDate(words[3]) && words[4].length() == 2
+                    && isWordCharacters(words[4])) {
+                return Optional.of(new BookingCommand(HOUSEKEEPER, SEARCH_COMMAND,
+                        new BookingSearchPredicate(words[2], words[3] + " " + words[4])));
+            }
+            return Optional.empty();
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Splits {@code trimmedArgs} into the words between single spaces. Returns null if it has more than
+     * {@link #MAX_COMMON_FORM_WORDS} words, or any whitespace other than single spaces.
+     */
+    private static String[] splitAtSpaces(String trimmedArgs) {
+        String[] words = new String[MAX_COMMON_FORM_WORDS];
+        int wordCount = 0;
+        int wordStart = 0;
+        for (int i = 0; i <= trimmedArgs.length(); i++) {
+            char c = i < trimmedArgs.length() ? trimmedArgs.charAt(i) : ' ';
+            if (c != ' ') {
+                if (Character.isWhitespace(c)) {
+                    return null;
+                }
+                continue;
+            }
+            if (i == wordStart || wordCount == MAX_COMMON_FORM_WORDS) {
+                return null;
+            }
+            words[wordCount++] = trimmedArgs.substring(wordStart, i);
+            wordStart = i + 1;
+        }
+        return Arrays.copyOf(words, wordCount);
+    }
+
+    private static boolean isDigits(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) < '0' || word.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code word} matches {@code \w+}.
+     */
+    private static boolean isWordCharacters(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            boolean isWordCharacter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_';
+            if (!isWordCharacter) {
+                return false;
+            }
+        }
+        return !word.isEmpty();
+    }
+
+    /**
+     * Returns true if {@code word} matches {@code \d{4}-\d{2}-\d{2}}.
+     */
+    private static boolean isDate(String word) {
+        return word.length() == 10 && word.charAt(4) == '-' && word.charAt(7) == '-'
+                && isDigits(word.substring(0, 4)) && isDigits(word.substring(5, 7)) && isDigits(word.substring(8));
+    }
+
     private static BookingCommand clientBookingCommandParser(
             Matcher addMatcher, Matcher deleteMatcher, Matcher listMatcher,
             Matcher setMatcher, Matcher removeMatcher, Matcher editMatcher,
@@ -80,7 +206,7 @@ public class BookingCommandParser implements Parser<BookingCommand> {
             Index clientIndex = ParserUtil.parseIndex(removeMatcher.group(1));
             return new BookingCommand(CLIENT, REMOVE_HOUSEKEEPING_DETAILS_COMMAND, clientIndex);
         } else if (editMatcher.matches()) {
-            return new EditHousekeepingDetailsParser().parse(args);
+            return EDIT_HOUSEKEEPING_DETAILS_PARSER.parse(args);
         } else if (addMatcher.matches()) {
             Index clientIndex = ParserUtil.parseIndex(addMatcher.group(1));
             String bookedDateAndTime = addMatcher.group(2);
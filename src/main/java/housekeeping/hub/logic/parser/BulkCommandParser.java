@@ -0,0 +1,157 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_AREA;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_DEFERMENT;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_NAME;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_NEW_AREA;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.Period;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import housekeeping.hub.commons.core.index.Index;
+import housekeeping.hub.logic.commands.BulkCommand;
+import housekeeping.hub.logic.commands.BulkCommand.Selector;
+import housekeeping.hub.logic.commands.BulkDeferCommand;
+import housekeeping.hub.logic.commands.BulkDeleteCommand;
+import housekeeping.hub.logic.commands.BulkEditCommand;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new BulkCommand object
+ */
+public class BulkCommandParser implements Parser<BulkCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The first index of a range must not be after the last";
+    public static final String MESSAGE_RANGE_AND_KEYWORDS = "Select either a range of indexes or keywords, not both";
+    public static final String MESSAGE_INVALID_DEFERMENT =
+            "The deferment should be a positive number followed by days, weeks, months or years";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_ADDRESS,
+            PREFIX_AREA, PREFIX_TAG, PREFIX_NEW_AREA, PREFIX_DEFERMENT);
+    private static final Pattern RANGE_FORMAT = Pattern.compile("(?<first>\\S+?)(?:-(?<last>\\S+))?");
+    private static final Pattern DEFERMENT_FORMAT = Pattern.compile("\\d{1,9}\\s+(days|weeks|months|years)");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BulkCommand
+     * and returns a BulkCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BulkCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 3);
+        if (splitArgs.length < 3) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+        }
+        String type = ParserUtil.parseType(splitArgs[0]);
+        String action = splitArgs[1];
+        // the space lets a selection that starts with a prefix be recognised
+        ArgumentMultimap argMultimap = TOKENIZER.split(" " + splitArgs[2]);
+        Selector selector = parseSelector(type, argMultimap);
+
+        switch (action) {
+        case "delete":
+            verifyAbsent(argMultimap, PREFIX_TAG, PREFIX_NEW_AREA, PREFIX_DEFERMENT);
+            return new BulkDeleteCommand(type, selector);
+        case "tag":
+            verifyAbsent(argMultimap, PREFIX_NEW_AREA, PREFIX_DEFERMENT);
+            return new BulkEditCommand(type, selector, Optional.of(parseTags(argMultimap.getAllValues(PREFIX_TAG))),
+                    Optional.empty());
+        case "area":
+            verifyAbsent(argMultimap, PREFIX_TAG, PREFIX_DEFERMENT);
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NEW_AREA);
+            Optional<String> area = argMultimap.getValue(PREFIX_NEW_AREA);
+            if (area.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+            }
+            return new BulkEditCommand(type, selector, Optional.empty(),
+                    Optional.of(ParserUtil.parseArea(area.get())));
+        case "defer":
+            verifyAbsent(argMultimap, PREFIX_TAG, PREFIX_NEW_AREA);
+            argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DEFERMENT);
+            if (!type.equals("client")) {
+                throw new ParseException(BulkDeferCommand.MESSAGE_CLIENTS_ONLY);
+            }
+            Optional<String> deferment = argMultimap.getValue(PREFIX_DEFERMENT);
+            if (deferment.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+            }
+            return new BulkDeferCommand(selector, parseDeferment(deferment.get()));
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+        }
+    }
+
+    /**
+     * Parses the selection, which is the preamble if it is a range of indexes, and the keywords otherwise.
+     */
+    private static Selector parseSelector(String type, ArgumentMultimap argMultimap) throws ParseException {
+        String range = argMultimap.getPreamble().trim();
+        Optional<Selector> keywordSelector = ParserUtil.parseKeywordsPredicate(argMultimap).map(Selector::ofPredicate);
+        if (range.isEmpty()) {
+            return keywordSelector.orElseThrow(() -> new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE)));
+        }
+        if (keywordSelector.isPresent()) {
+            throw new ParseException(MESSAGE_RANGE_AND_KEYWORDS);
+        }
+
+        String invalidIndexMessage = type.equals("client")
+                ? MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX : MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX;
+        Matcher matcher = RANGE_FORMAT.matcher(range);
+        if (!matcher.matches()) {
+            throw new ParseException(invalidIndexMessage);
+        }
+        Index first = parseIndex(matcher.group("first"), invalidIndexMessage);
+        Index last = matcher.group("last") == null ? first : parseIndex(matcher.group("last"), invalidIndexMessage);
+        if (first.getZeroBased() > last.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return Selector.ofRange(first, last);
+    }
+
+    private static Index parseIndex(String index, String invalidIndexMessage) throws ParseException {
+        try {
+            return ParserUtil.parseIndex(index);
+        } catch (ParseException pe) {
+            throw new ParseException(invalidIndexMessage, pe);
+        }
+    }
+
+    /**
+     * Parses the tags to give the selected persons, where a single empty tag clears their tags.
+     */
+    private static Set<Tag> parseTags(List<String> tags) throws ParseException {
+        if (tags.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+        }
+        Collection<String> tagSet = tags.size() == 1 && tags.contains("") ? Collections.emptySet() : tags;
+        return ParserUtil.parseTags(tagSet);
+    }
+
+    private static Period parseDeferment(String deferment) throws ParseException {
+        // parsePreferredInterval assumes a number and a unit, so anything else is caught here
+        if (!DEFERMENT_FORMAT.matcher(deferment.trim()).matches()) {
+            throw new ParseException(MESSAGE_INVALID_DEFERMENT);
+        }
+        return ParserUtil.parsePreferredInterval(deferment);
+    }
+
+    private static void verifyAbsent(ArgumentMultimap argMultimap, Prefix... prefixes) throws ParseException {
+        for (Prefix prefix : prefixes) {
+            if (argMultimap.getValue(prefix).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE));
+            }
+        }
+    }
+}
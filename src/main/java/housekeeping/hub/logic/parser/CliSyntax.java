@@ -18,6 +18,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_PI = new Prefix("pi/");
     public static final Prefix PREFIX_BD = new Prefix("bd/");
     public static final Prefix PREFIX_DEFERMENT = new Prefix("d/");
+    public static final Prefix PREFIX_NEW_AREA = new Prefix("to/");
     public static final String[] ALLOWED_PREAMBLES = new String[] {"client", "housekeeper"};
     public static final String[] ALLOWED_PREAMBLES_TYPE = new String[] {"client", "housekeeper"};
     public static final String[] ALLOWED_PREAMBLES_AREA = new String[] {"north", "northeast", "east", "southeast",
@@ -0,0 +1,56 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Paths;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.logic.commands.ConvertCommand;
+import housekeeping.hub.logic.commands.ConvertCommand.BackendSwitcher;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ConvertCommand object
+ */
+public class ConvertCommandParser implements Parser<ConvertCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path provided is invalid";
+
+    private final StorageSettings settings;
+    private final BackendSwitcher backendSwitcher;
+
+    public ConvertCommandParser() {
+        this(new StorageSettings(), ConvertCommand.NO_SWITCH);
+    }
+
+    /**
+     * Creates a {@code ConvertCommandParser} whose commands write with the buffer size, compression level and sync
+     * mode in {@code settings}, and switch the app to the converted file with {@code backendSwitcher}.
+     */
+    public ConvertCommandParser(StorageSettings settings, BackendSwitcher backendSwitcher) {
+        requireNonNull(settings);
+        requireNonNull(backendSwitcher);
+        this.settings = settings;
+        this.backendSwitcher = backendSwitcher;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConvertCommand
+     * and returns a ConvertCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConvertCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2 || splitArgs[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE));
+        }
+
+        String filePath = splitArgs[1].trim();
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return new ConvertCommand(splitArgs[0], Paths.get(filePath), settings, backendSwitcher);
+    }
+}
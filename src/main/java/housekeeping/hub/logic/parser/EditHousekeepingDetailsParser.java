@@ -17,6 +17,9 @@ import housekeeping.hub.logic.parser.exceptions.ParseException;
  */
 public class EditHousekeepingDetailsParser implements Parser<EditHousekeepingDetailsCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_LHD, PREFIX_PI, PREFIX_BD, PREFIX_DEFERMENT);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditHousekeepingDetailsCommand
      * and returns an EditHousekeepingDetailsCommand object for execution.
@@ -24,8 +27,7 @@ public class EditHousekeepingDetailsParser implements Parser<EditHousekeepingDet
      */
     public EditHousekeepingDetailsCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LHD, PREFIX_PI, PREFIX_BD,
-                PREFIX_DEFERMENT);
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
         Index index;
         try {
             String[] splitArgs = argMultimap.getPreamble().trim().split("edit ");
@@ -0,0 +1,61 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.logic.commands.ExportCommand;
+import housekeeping.hub.logic.commands.ExportCommand.Scope;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.storage.PersonExporter.Format;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path provided is invalid";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file should end in " + Format.CSV.getExtension()
+            + " for CSV or " + Format.JSON_LINES.getExtension() + " for JSON lines";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+", 2);
+        if (splitArgs.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Scope scope;
+        switch (splitArgs[0]) {
+        case "client":
+            scope = Scope.CLIENT;
+            break;
+        case "housekeeper":
+            scope = Scope.HOUSEKEEPER;
+            break;
+        case "all":
+            scope = Scope.ALL;
+            break;
+        default:
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        String filePath = splitArgs[1].trim();
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        Path path = Paths.get(filePath);
+        Optional<Format> format = Format.forFile(path);
+        if (!format.isPresent()) {
+            throw new ParseException(MESSAGE_UNKNOWN_FORMAT);
+        }
+        return new ExportCommand(scope, path, format.get());
+    }
+}
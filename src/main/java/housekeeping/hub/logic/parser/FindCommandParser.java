@@ -6,13 +6,14 @@ import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_AREA;
 import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_NAME;
 import static java.util.Objects.requireNonNull;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
 import housekeeping.hub.logic.commands.FindClientCommand;
 import housekeeping.hub.logic.commands.FindCommand;
 import housekeeping.hub.logic.commands.FindHousekeeperCommand;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
-import housekeeping.hub.model.person.Area;
 import housekeeping.hub.model.person.ContainsKeywordsPredicate;
 
 /**
@@ -20,9 +21,8 @@ import housekeeping.hub.model.person.ContainsKeywordsPredicate;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
-    private String name = "";
-    private String address = "";
-    private String area = "";
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_AREA);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
@@ -32,9 +32,7 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
         String trimmedArgs = args.trim();
-        String[] subArgs = trimmedArgs.split("\\s+");
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_ADDRESS, PREFIX_AREA);
+        String[] subArgs = WHITESPACE.split(trimmedArgs);
         if (subArgs.length < 2) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -42,47 +40,52 @@ public class FindCommandParser implements Parser<FindCommand> {
 
         String type = ParserUtil.parseType(subArgs[0]);
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_AREA);
+        ContainsKeywordsPredicate predicate = parseNameOnlyPredicate(subArgs);
+        if (predicate == null) {
+            ArgumentMultimap argMultimap = TOKENIZER.split(args);
+            predicate = ParserUtil.parseKeywordsPredicate(argMultimap)
+                    .orElseThrow(() -> new ParseException(FindCommand.MESSAGE_NOT_FOUND));
+        }
 
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            name = argMultimap.getValue(PREFIX_NAME).get();
+        if (type.equals("client")) {
+            return new FindClientCommand(predicate);
+        } else {
+            // As type is ensured to be either client or housekeeper before, it is safe to assume that the type is
+            // housekeeper, so we can directly return a FindHousekeeperCommand object.
+            return new FindHousekeeperCommand(predicate);
         }
-        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            address = argMultimap.getValue(PREFIX_ADDRESS).get();
+    }
+
+    /**
+     * Returns the predicate of the most common search, by name only, such as {@code client n/alice bob}, without
+     * tokenizing {@code subArgs}, the words of the arguments. Returns null if the arguments are anything else, to be
+     * parsed in full.
+     */
+    private static ContainsKeywordsPredicate parseNameOnlyPredicate(String[] subArgs) {
+        String namePrefix = PREFIX_NAME.getPrefix();
+        if (!subArgs[1].startsWith(namePrefix)) {
+            return null;
         }
-        if (argMultimap.getValue(PREFIX_AREA).isPresent()) {
-            area = argMultimap.getValue(PREFIX_AREA).get();
+        List<String> nameKeywords = new ArrayList<>();
+        if (subArgs[1].length() > namePrefix.length()) {
+            nameKeywords.add(subArgs[1].substring(namePrefix.length()));
         }
-
-        String trimmedName = name.trim();
-        String trimmedAddress = address.trim();
-        String trimmedArea = area.trim();
-        String[] nameKeywords = trimmedName.split("\\s+");
-        String[] addressKeywords = trimmedAddress.split("\\s+");
-        String[] areaKeywords = trimmedArea.split("\\s+");
-
-        if (argMultimap.getValue(PREFIX_AREA).isPresent()) {
-            for (int i = 0; i < areaKeywords.length; i++) {
-                if (!Area.isValidArea(areaKeywords[i])) {
-                    throw new ParseException(
-                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, Area.MESSAGE_CONSTRAINTS));
-                }
+        for (int i = 2; i < subArgs.length; i++) {
+            if (startsWithPrefix(subArgs[i])) {
+                return null;
             }
+            nameKeywords.add(subArgs[i]);
         }
-
-        if (nameKeywords[0].isEmpty() && addressKeywords[0].isEmpty() && areaKeywords[0].isEmpty()) {
-            throw new ParseException(FindCommand.MESSAGE_NOT_FOUND);
+        if (nameKeywords.isEmpty() || startsWithPrefix(nameKeywords.get(0))) {
+            return null;
         }
+        // the predicate takes a list of only the empty string to mean that there are no keywords of its kind
+        return new ContainsKeywordsPredicate(nameKeywords, List.of(""), List.of(""));
+    }
 
-        if (type.equals("client")) {
-            return new FindClientCommand(new ContainsKeywordsPredicate(Arrays.asList(nameKeywords),
-                    Arrays.asList(addressKeywords), Arrays.asList(areaKeywords)));
-        } else {
-            // As type is ensured to be either client or housekeeper before, it is safe to assume that the type is
-            // housekeeper, so we can directly return a FindHousekeeperCommand object.
-            return new FindHousekeeperCommand(new ContainsKeywordsPredicate(Arrays.asList(nameKeywords),
-                    Arrays.asList(addressKeywords), Arrays.asList(areaKeywords)));
-        }
+    private static boolean startsWithPrefix(String word) {
+        return word.startsWith(PREFIX_NAME.getPrefix()) || word.startsWith(PREFIX_ADDRESS.getPrefix())
+                || word.startsWith(PREFIX_AREA.getPrefix());
     }
 
 }
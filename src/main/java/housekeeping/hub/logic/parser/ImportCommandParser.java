@@ -0,0 +1,33 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.logic.commands.ImportCommand;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path provided is invalid";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return new ImportCommand(Paths.get(filePath));
+    }
+}
@@ -0,0 +1,48 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import housekeeping.hub.logic.commands.LeadsCommand;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.model.person.LeadScorer;
+
+/**
+ * Parses input arguments and creates a new LeadsCommand object
+ */
+public class LeadsCommandParser implements Parser<LeadsCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of leads should be a positive integer";
+
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_TAG);
+    private static final Pattern TOP_FORMAT = Pattern.compile("top(?:\\s+(?<count>\\S+))?");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LeadsCommand
+     * and returns a LeadsCommand object for execution.
+     * Arguments that do not start with {@code top} are ignored, so that {@code leads} works with anything after it.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public LeadsCommand parse(String args) throws ParseException {
+        if (!args.trim().split("\\s+")[0].equals("top")) {
+            return new LeadsCommand();
+        }
+
+        ArgumentMultimap argMultimap = TOKENIZER.split(args);
+        Matcher matcher = TOP_FORMAT.matcher(argMultimap.getPreamble().trim());
+        if (!matcher.matches() || matcher.group("count") == null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeadsCommand.MESSAGE_USAGE));
+        }
+
+        int count;
+        try {
+            count = ParserUtil.parseIndex(matcher.group("count")).getOneBased();
+        } catch (ParseException pe) {
+            throw new ParseException(MESSAGE_INVALID_COUNT, pe);
+        }
+        return new LeadsCommand(new LeadScorer(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG))), count);
+    }
+}
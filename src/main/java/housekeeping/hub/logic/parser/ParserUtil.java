@@ -1,11 +1,16 @@
 package housekeeping.hub.logic.parser;
 
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static housekeeping.hub.logic.parser.CliSyntax.ALLOWED_PREAMBLES_TYPE;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_AREA;
+import static housekeeping.hub.logic.parser.CliSyntax.PREFIX_NAME;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
@@ -19,6 +24,7 @@ import housekeeping.hub.logic.parser.exceptions.ParseException;
 import housekeeping.hub.model.person.Address;
 import housekeeping.hub.model.person.Area;
 import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.ContainsKeywordsPredicate;
 import housekeeping.hub.model.person.Email;
 import housekeeping.hub.model.person.HousekeepingDetails;
 import housekeeping.hub.model.person.Name;
@@ -35,6 +41,7 @@ public class ParserUtil {
 
     private static final Pattern PATTERN_BOOKING = Pattern.compile(
             "(\\d{4}-\\d{2}-\\d{2}\\s+(am|pm))");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -168,6 +175,38 @@ public class ParserUtil {
         return new Area(trimmedArea);
     }
 
+    /**
+     * Parses the name, address and area keywords in {@code argMultimap} into a {@code ContainsKeywordsPredicate}
+     * that matches the persons that a {@code find} command with these keywords finds.
+     * Returns an empty {@code Optional} if there are no keywords.
+     *
+     * @throws ParseException if any of the prefixes is repeated, or an area keyword is not a valid area.
+     */
+    public static Optional<ContainsKeywordsPredicate> parseKeywordsPredicate(ArgumentMultimap argMultimap)
+            throws ParseException {
+        requireNonNull(argMultimap);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ADDRESS, PREFIX_AREA);
+
+        // the predicate takes a list of only the empty string to mean that there are no keywords of its kind
+        String[] nameKeywords = WHITESPACE.split(argMultimap.getValue(PREFIX_NAME).orElse("").trim());
+        String[] addressKeywords = WHITESPACE.split(argMultimap.getValue(PREFIX_ADDRESS).orElse("").trim());
+        String[] areaKeywords = WHITESPACE.split(argMultimap.getValue(PREFIX_AREA).orElse("").trim());
+
+        if (argMultimap.getValue(PREFIX_AREA).isPresent()) {
+            for (String areaKeyword : areaKeywords) {
+                if (!Area.isValidArea(areaKeyword)) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, Area.MESSAGE_CONSTRAINTS));
+                }
+            }
+        }
+
+        if (nameKeywords[0].isEmpty() && addressKeywords[0].isEmpty() && areaKeywords[0].isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ContainsKeywordsPredicate(Arrays.asList(nameKeywords), Arrays.asList(addressKeywords),
+                Arrays.asList(areaKeywords)));
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
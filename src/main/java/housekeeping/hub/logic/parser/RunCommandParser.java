@@ -0,0 +1,51 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Paths;
+
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.logic.commands.RunCommand;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_PATH = "The file path provided is invalid";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a parser of {@code RunCommand}s whose scripts are parsed with {@code addressBookParser}.
+     */
+    public RunCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        boolean isAllOrNothing = false;
+        String[] splitArgs = filePath.split("\\s+", 2);
+        if (splitArgs.length == 2 && splitArgs[0].equals(RunCommand.ALL_OR_NOTHING)) {
+            isAllOrNothing = true;
+            filePath = splitArgs[1];
+        }
+
+        if (filePath.isEmpty() || filePath.equals(RunCommand.ALL_OR_NOTHING)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        if (!FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_PATH);
+        }
+        return new RunCommand(Paths.get(filePath), isAllOrNothing, addressBookParser);
+    }
+}
@@ -0,0 +1,103 @@
+package housekeeping.hub.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.commons.util.JsonUtil;
+
+/**
+ * Appends every command entered into the app to a recording file, with the time it was entered, so that the
+ * session can be replayed later by a {@link CommandReplayer}.
+ * Each command is one JSON record on a line of its own, and is flushed as soon as it is recorded.
+ */
+public class CommandRecorder implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandRecorder.class);
+
+    private final Path filePath;
+    private final Clock clock;
+    private final BufferedWriter writer;
+    private boolean hasFailed;
+
+    public CommandRecorder(Path filePath) throws IOException {
+        this(filePath, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code CommandRecorder} that appends to the recording at {@code filePath}, creating it if needed,
+     * and takes the time of each command from {@code clock}.
+     */
+    public CommandRecorder(Path filePath, Clock clock) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.clock = clock;
+        FileUtil.createParentDirsOfFile(filePath);
+        writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Records {@code commandText} as entered now.
+     * A recording that cannot be written is logged once and then skipped, as it must not stop the command.
+     */
+    public synchronized void record(String commandText) {
+        requireNonNull(commandText);
+        if (hasFailed) {
+            return;
+        }
+
+        try {
+            writer.write(JsonUtil.toJsonLine(new RecordedCommand(clock.millis(), commandText)));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            hasFailed = true;
+            logger.warning("Could not record commands to " + filePath + ", recording stopped: " + e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Returns the commands in the recording at {@code filePath}, in the order they were recorded.
+     *
+     * @throws DataLoadingException if the recording cannot be read or has an invalid record.
+     */
+    public static List<RecordedCommand> readRecording(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        List<RecordedCommand> commands = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(filePath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    commands.add(JsonUtil.fromJsonString(line, RecordedCommand.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return commands;
+    }
+}
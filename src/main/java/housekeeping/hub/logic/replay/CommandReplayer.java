@@ -0,0 +1,77 @@
+package housekeeping.hub.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import housekeeping.hub.commons.core.LazyLogger;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.logic.Logic;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs recorded commands through a {@code Logic} again, timing each of them.
+ * Commands that fail are timed and counted too, since they failed when they were recorded as well.
+ */
+public class CommandReplayer {
+
+    /**
+     * How quickly commands are replayed.
+     */
+    public enum Pacing {
+        /** Each command runs as soon as the one before it has finished. */
+        FULL_SPEED,
+        /** Each command runs no earlier than it was entered, counting from the first command. */
+        RECORDED
+    }
+
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(CommandReplayer.class);
+
+    private final Logic logic;
+    private final Pacing pacing;
+
+    /**
+     * Creates a {@code CommandReplayer} that runs commands through {@code logic} at the given {@code pacing}.
+     */
+    public CommandReplayer(Logic logic, Pacing pacing) {
+        requireNonNull(logic);
+        requireNonNull(pacing);
+        this.logic = logic;
+        this.pacing = pacing;
+    }
+
+    /**
+     * Runs {@code commands} in order and returns how long they took.
+     *
+     * @throws InterruptedException if interrupted while waiting to run a command at its recorded time.
+     */
+    public ReplayReport replay(List<RecordedCommand> commands) throws InterruptedException {
+        requireNonNull(commands);
+
+        ReplayReport report = new ReplayReport();
+        long replayStart = System.nanoTime();
+        for (RecordedCommand command : commands) {
+            if (pacing == Pacing.RECORDED) {
+                long offsetMillis = command.getTime() - commands.get(0).getTime();
+                long waitNanos = replayStart + TimeUnit.MILLISECONDS.toNanos(offsetMillis) - System.nanoTime();
+                if (waitNanos > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                }
+            }
+
+            long start = System.nanoTime();
+            boolean isSuccessful = true;
+            try {
+                logic.execute(command.getCommandText());
+            } catch (CommandException | ParseException e) {
+                logger.fine(() -> "Replayed command failed: " + command.getCommandText() + ": " + e.getMessage());
+                isSuccessful = false;
+            }
+            report.record(command.getCommandWord(), System.nanoTime() - start, isSuccessful);
+        }
+        report.setElapsedNanos(System.nanoTime() - replayStart);
+        return report;
+    }
+}
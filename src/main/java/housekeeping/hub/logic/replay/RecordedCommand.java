@@ -0,0 +1,79 @@
+package housekeeping.hub.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+
+/**
+ * A command as the user entered it, and when it was entered.
+ * Guarantees: immutable; command text is not null.
+ */
+public class RecordedCommand {
+
+    private final long time;
+    private final String command;
+
+    /**
+     * Creates a {@code RecordedCommand} for {@code command} entered at {@code time}, in milliseconds since the epoch.
+     */
+    @JsonCreator
+    public RecordedCommand(@JsonProperty("time") long time, @JsonProperty("command") String command) {
+        requireNonNull(command);
+        this.time = time;
+        this.command = command;
+    }
+
+    /**
+     * Returns when the command was entered, in milliseconds since the epoch.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    public String getCommandText() {
+        return command;
+    }
+
+    /**
+     * Returns the command word of the command, or an empty string if the command text is blank.
+     */
+    public String getCommandWord() {
+        String trimmed = command.trim();
+        int space = trimmed.indexOf(' ');
+        return space == -1 ? trimmed : trimmed.substring(0, space);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RecordedCommand)) {
+            return false;
+        }
+
+        RecordedCommand otherCommand = (RecordedCommand) other;
+        return time == otherCommand.time
+                && command.equals(otherCommand.command);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, command);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("time", time)
+                .add("command", command)
+                .toString();
+    }
+}
@@ -0,0 +1,93 @@
+package housekeeping.hub.logic.replay;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import housekeeping.hub.commons.util.LatencyHistogram;
+
+/**
+ * The timings of a replay: how long the replay took, and a latency histogram of all commands and of each
+ * command word.
+ */
+public class ReplayReport {
+
+    public static final String ALL_COMMANDS = "(all)";
+
+    private static final String ROW_FORMAT = "%-12s %8s %8s %10s %10s %10s %10s%n";
+
+    private final LatencyHistogram allLatencies = new LatencyHistogram();
+    private final Map<String, LatencyHistogram> latenciesByCommandWord = new TreeMap<>();
+    private long failureCount;
+    private long elapsedNanos;
+
+    /**
+     * Records that a command with {@code commandWord} took {@code latencyNanos} to run.
+     */
+    void record(String commandWord, long latencyNanos, boolean isSuccessful) {
+        allLatencies.record(latencyNanos);
+        latenciesByCommandWord.computeIfAbsent(commandWord, unused -> new LatencyHistogram()).record(latencyNanos);
+        if (!isSuccessful) {
+            failureCount++;
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getCommandCount() {
+        return allLatencies.getTotalCount();
+    }
+
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return allLatencies;
+    }
+
+    public Map<String, LatencyHistogram> getLatenciesByCommandWord() {
+        return Collections.unmodifiableMap(latenciesByCommandWord);
+    }
+
+    /**
+     * Returns the number of commands run per second, or 0 if the replay took no time.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : getCommandCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the report as a table of latency percentiles in milliseconds, one row per command word.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Replayed %d commands (%d failed) in %.1f s: %.1f commands/s%n",
+                getCommandCount(), failureCount, elapsedNanos / 1e9, getThroughput()));
+        builder.append(String.format(ROW_FORMAT, "command", "count", "mean ms", "p50 ms", "p90 ms", "p99 ms",
+                "max ms"));
+        for (Map.Entry<String, LatencyHistogram> entry : latenciesByCommandWord.entrySet()) {
+            appendRow(builder, entry.getKey(), entry.getValue());
+        }
+        appendRow(builder, ALL_COMMANDS, allLatencies);
+        return builder.toString();
+    }
+
+    private static void appendRow(StringBuilder builder, String label, LatencyHistogram histogram) {
+        builder.append(String.format(ROW_FORMAT, label, histogram.getTotalCount(),
+                toMillis((long) histogram.getMean()), toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)), toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getMax())));
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,65 @@
+package housekeeping.hub.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandWordMetrics;
+
+/**
+ * Exposes the {@code CommandMetrics} of the app through JMX.
+ */
+public class CommandStats implements CommandStatsMxBean {
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code CommandStats} of the given {@code commandMetrics}.
+     */
+    public CommandStats(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public long getCommandCount() {
+        return commandMetrics.getCommandCount();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return commandMetrics.getFailureCount();
+    }
+
+    @Override
+    public double getRecentCommandRate() {
+        return commandMetrics.getRecentCommandRate();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCountsByCommandWord() {
+        Map<String, Long> counts = new TreeMap<>();
+        commandMetrics.getMetricsByCommandWord().forEach((commandWord, metrics) ->
+                counts.put(commandWord, metrics.getCommandCount()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getP99MillisByCommandWord() {
+        Map<String, Double> latencies = new TreeMap<>();
+        commandMetrics.getMetricsByCommandWord().forEach((commandWord, metrics) ->
+                latencies.put(commandWord, getP99Millis(metrics)));
+        return latencies;
+    }
+
+    /**
+     * Returns the sum of the 99th percentiles of the stages, as the stages of one command are not kept together.
+     */
+    private static double getP99Millis(CommandWordMetrics metrics) {
+        return (metrics.getParseLatencies().getValueAtPercentile(99)
+                + metrics.getExecuteLatencies().getValueAtPercentile(99)
+                + metrics.getSaveLatencies().getValueAtPercentile(99)) / 1e6;
+    }
+}
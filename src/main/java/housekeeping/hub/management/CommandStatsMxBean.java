@@ -0,0 +1,24 @@
+package housekeeping.hub.management;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * How many commands have been run and how quickly, for monitoring through JMX.
+ */
+@MXBean
+public interface CommandStatsMxBean {
+
+    long getCommandCount();
+
+    long getFailureCount();
+
+    /** Returns the average number of commands run per second over the last minute. */
+    double getRecentCommandRate();
+
+    /** Returns the number of commands run so far by command word. */
+    Map<String, Long> getCommandCountsByCommandWord();
+
+    /** Returns the 99th percentile of the time taken by each command word, from parsing to saving. */
+    Map<String, Double> getP99MillisByCommandWord();
+}
@@ -0,0 +1,86 @@
+package housekeeping.hub.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads how busy the JavaFX application thread has been from the {@code ThreadMXBean} of the JVM.
+ * The thread is only known once the app has started, until when nothing is known.
+ * How busy the thread is now is measured over a window of recent time, which is moved forward when it is read, so
+ * that a long quiet spell after the app started does not hide the thread being busy now.
+ */
+public class FxThreadStats implements FxThreadStatsMxBean {
+
+    private static final long UNKNOWN = -1;
+    private static final long DEFAULT_WINDOW_NANOS = 10_000_000_000L;
+
+    private final ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+    private final long windowNanos;
+    private volatile long threadId = UNKNOWN;
+
+    // the busy fraction is measured from the start of the previous window, which is between one and two windows ago
+    // when the fraction is read often
+    private long previousWindowStartNanos;
+    private long previousWindowStartCpuNanos;
+    private long windowStartNanos;
+    private long windowStartCpuNanos;
+
+    /**
+     * Creates a FxThreadStats whose busy fraction is measured over windows of {@code windowNanos} nanoseconds.
+     */
+    FxThreadStats(long windowNanos) {
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("The window must be positive");
+        }
+        this.windowNanos = windowNanos;
+    }
+
+    public FxThreadStats() {
+        this(DEFAULT_WINDOW_NANOS);
+    }
+
+    /**
+     * Starts following {@code thread}, which must be the JavaFX application thread.
+     */
+    public synchronized void setThread(Thread thread) {
+        requireNonNull(thread);
+        threadId = thread.getId();
+        windowStartNanos = System.nanoTime();
+        windowStartCpuNanos = Math.max(0, threadMxBean.getThreadCpuTime(threadId));
+        previousWindowStartNanos = windowStartNanos;
+        previousWindowStartCpuNanos = windowStartCpuNanos;
+    }
+
+    @Override
+    public double getCpuTimeMillis() {
+        return toMillis(threadId == UNKNOWN ? UNKNOWN : threadMxBean.getThreadCpuTime(threadId));
+    }
+
+    @Override
+    public double getUserTimeMillis() {
+        return toMillis(threadId == UNKNOWN ? UNKNOWN : threadMxBean.getThreadUserTime(threadId));
+    }
+
+    @Override
+    public synchronized double getBusyFraction() {
+        long cpuNanos = threadId == UNKNOWN ? UNKNOWN : threadMxBean.getThreadCpuTime(threadId);
+        if (cpuNanos < 0) {
+            return UNKNOWN;
+        }
+        long nowNanos = System.nanoTime();
+        if (nowNanos - windowStartNanos >= windowNanos) {
+            previousWindowStartNanos = windowStartNanos;
+            previousWindowStartCpuNanos = windowStartCpuNanos;
+            windowStartNanos = nowNanos;
+            windowStartCpuNanos = cpuNanos;
+        }
+        long elapsedNanos = nowNanos - previousWindowStartNanos;
+        return elapsedNanos <= 0 ? UNKNOWN : (double) (cpuNanos - previousWindowStartCpuNanos) / elapsedNanos;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos < 0 ? UNKNOWN : nanos / 1e6;
+    }
+}
@@ -0,0 +1,22 @@
+package housekeeping.hub.management;
+
+import javax.management.MXBean;
+
+/**
+ * How busy the JavaFX application thread, which runs every command, has been, for monitoring through JMX.
+ */
+@MXBean
+public interface FxThreadStatsMxBean {
+
+    /** Returns the CPU time the thread has used, in milliseconds, or -1 if not known. */
+    double getCpuTimeMillis();
+
+    /** Returns the CPU time the thread has used outside the operating system, in milliseconds, or -1 if not known. */
+    double getUserTimeMillis();
+
+    /**
+     * Returns the share of the recent time, from about the last 10 to 20 seconds, that the thread has used the CPU,
+     * or -1 if not known.
+     */
+    double getBusyFraction();
+}
@@ -0,0 +1,81 @@
+package housekeeping.hub.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import housekeeping.hub.commons.core.LogsCenter;
+
+/**
+ * Registers the monitoring beans of the app with an {@code MBeanServer}, so that they can be read through JMX,
+ * such as with JConsole.
+ * Beans are named {@code housekeeping.hub:type=TYPE}. A bean that cannot be registered is logged and left out,
+ * as monitoring must not stop the app.
+ */
+public class ManagementBeans {
+
+    public static final String DOMAIN = "housekeeping.hub";
+
+    private static final Logger logger = LogsCenter.getLogger(ManagementBeans.class);
+
+    private final MBeanServer server;
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+
+    public ManagementBeans() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates a {@code ManagementBeans} that registers beans with {@code server}.
+     */
+    public ManagementBeans(MBeanServer server) {
+        requireNonNull(server);
+        this.server = server;
+    }
+
+    /**
+     * Registers {@code bean} as {@code housekeeping.hub:type=type}.
+     *
+     * @return whether the bean was registered.
+     */
+    public boolean register(String type, Object bean) {
+        requireNonNull(type);
+        requireNonNull(bean);
+        try {
+            ObjectName name = getObjectName(type);
+            server.registerMBean(bean, name);
+            registeredNames.add(name);
+            return true;
+        } catch (JMException e) {
+            logger.warning("Could not register monitoring bean " + type + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Unregisters every bean registered through this {@code ManagementBeans}.
+     */
+    public void unregisterAll() {
+        for (ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                logger.warning("Could not unregister monitoring bean " + name + ": " + e);
+            }
+        }
+        registeredNames.clear();
+    }
+
+    /**
+     * Returns the name a bean of {@code type} is registered as.
+     */
+    public static ObjectName getObjectName(String type) throws JMException {
+        return new ObjectName(DOMAIN, "type", type);
+    }
+}
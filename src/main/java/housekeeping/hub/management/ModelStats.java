@@ -0,0 +1,61 @@
+package housekeeping.hub.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntConsumer;
+
+import housekeeping.hub.model.Model;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Keeps the sizes of the lists of a {@code Model} up to date as they change, so that JMX clients can read them
+ * without touching the lists, which are only safe to use from the JavaFX application thread.
+ */
+public class ModelStats implements ModelStatsMxBean {
+
+    private volatile int clientCount;
+    private volatile int housekeeperCount;
+    private volatile int listedClientCount;
+    private volatile int listedHousekeeperCount;
+
+    /**
+     * Creates a {@code ModelStats} that follows the lists of {@code model}.
+     * The lists must not be changed by another thread while it is created.
+     */
+    public ModelStats(Model model) {
+        requireNonNull(model);
+        follow(model.getAddressBook().getClientList(), size -> clientCount = size);
+        follow(model.getAddressBook().getHousekeeperList(), size -> housekeeperCount = size);
+        follow(model.getFilteredClientList(), size -> listedClientCount = size);
+        follow(model.getFilteredHousekeeperList(), size -> listedHousekeeperCount = size);
+    }
+
+    /**
+     * Gives {@code sizeSetter} the size of {@code list} now and whenever it changes.
+     */
+    private static void follow(ObservableList<?> list, IntConsumer sizeSetter) {
+        sizeSetter.accept(list.size());
+        list.addListener((ListChangeListener<Object>) change -> sizeSetter.accept(list.size()));
+    }
+
+    @Override
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    @Override
+    public int getHousekeeperCount() {
+        return housekeeperCount;
+    }
+
+    @Override
+    public int getListedClientCount() {
+        return listedClientCount;
+    }
+
+    @Override
+    public int getListedHousekeeperCount() {
+        return listedHousekeeperCount;
+    }
+}
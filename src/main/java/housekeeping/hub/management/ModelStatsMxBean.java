@@ -0,0 +1,20 @@
+package housekeeping.hub.management;
+
+import javax.management.MXBean;
+
+/**
+ * The number of persons in the hub book, for monitoring through JMX.
+ */
+@MXBean
+public interface ModelStatsMxBean {
+
+    int getClientCount();
+
+    int getHousekeeperCount();
+
+    /** Returns the number of clients in the list currently shown. */
+    int getListedClientCount();
+
+    /** Returns the number of housekeepers in the list currently shown. */
+    int getListedHousekeeperCount();
+}
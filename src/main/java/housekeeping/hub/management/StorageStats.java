@@ -0,0 +1,70 @@
+package housekeeping.hub.management;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import housekeeping.hub.storage.StorageMetrics;
+
+/**
+ * Exposes the {@code StorageMetrics} of the hub book through JMX.
+ */
+public class StorageStats implements StorageStatsMxBean {
+
+    private final String backend;
+    private final Path dataFilePath;
+    private final StorageMetrics storageMetrics;
+
+    /**
+     * Creates a {@code StorageStats} of the data file at {@code dataFilePath} of the given {@code backend}.
+     */
+    public StorageStats(String backend, Path dataFilePath, StorageMetrics storageMetrics) {
+        requireNonNull(backend);
+        requireNonNull(dataFilePath);
+        requireNonNull(storageMetrics);
+        this.backend = backend;
+        this.dataFilePath = dataFilePath;
+        this.storageMetrics = storageMetrics;
+    }
+
+    @Override
+    public String getBackend() {
+        return backend;
+    }
+
+    @Override
+    public String getDataFilePath() {
+        return dataFilePath.toString();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return storageMetrics.getSaveCount();
+    }
+
+    @Override
+    public long getFailedSaveCount() {
+        return storageMetrics.getFailedSaveCount();
+    }
+
+    @Override
+    public int getSavesInProgress() {
+        return storageMetrics.getSavesInProgress();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return storageMetrics.getLastSaveNanos() / 1e6;
+    }
+
+    @Override
+    public double getMeanSaveMillis() {
+        long saveCount = storageMetrics.getSaveCount();
+        return saveCount == 0 ? 0 : storageMetrics.getTotalSaveNanos() / 1e6 / saveCount;
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return storageMetrics.getLastSaveBytes();
+    }
+}
@@ -0,0 +1,31 @@
+package housekeeping.hub.management;
+
+import javax.management.MXBean;
+
+/**
+ * How saving the hub book is going, for monitoring through JMX.
+ */
+@MXBean
+public interface StorageStatsMxBean {
+
+    String getBackend();
+
+    String getDataFilePath();
+
+    long getSaveCount();
+
+    long getFailedSaveCount();
+
+    /**
+     * Returns the number of saves that have started but not finished.
+     * Saves are made one at a time as part of each command, so this is 0 or 1.
+     */
+    int getSavesInProgress();
+
+    double getLastSaveMillis();
+
+    double getMeanSaveMillis();
+
+    /** Returns the total size of the data files after the last successful save, in bytes. */
+    long getLastSaveBytes();
+}
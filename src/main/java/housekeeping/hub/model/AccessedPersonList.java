@@ -0,0 +1,75 @@
+package housekeeping.hub.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.UnaryOperator;
+
+import housekeeping.hub.model.person.Person;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list of persons that hands out each of them through an accessor, such as one that copies the persons of
+ * the hub book during a transaction the first time they are taken from the list.
+ */
+class AccessedPersonList<T extends Person> extends TransformationList<T, T> {
+
+    private final UnaryOperator<T> accessor;
+
+    /**
+     * Creates a view of {@code source} that hands out {@code accessor.apply(element)} for each element.
+     */
+    AccessedPersonList(ObservableList<T> source, UnaryOperator<T> accessor) {
+        super(source);
+        requireNonNull(accessor);
+        this.accessor = accessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return accessor.apply(((ObservableList<T>) getSource()).get(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends T> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
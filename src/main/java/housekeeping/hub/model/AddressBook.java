@@ -3,8 +3,9 @@ package housekeeping.hub.model;
 import static housekeeping.hub.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import housekeeping.hub.commons.util.ToStringBuilder;
 import housekeeping.hub.model.person.Client;
@@ -61,8 +62,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.housekeepers.setPersons(housekeepers);
     }
 
-    public void sortClients(Comparator<? super Client> comparator) {
-        clients.sort(comparator);
+    /**
+     * Runs {@code update}, which changes this hub book, and notifies the listeners of the client and housekeeper lists
+     * of all of its changes to each list as a single change once it is done, when both lists have been changed.
+     */
+    public void batchUpdate(Runnable update) {
+        requireNonNull(update);
+        clients.batchUpdate(() -> housekeepers.batchUpdate(update));
     }
 
     /**
@@ -71,8 +77,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setClients(newData.getClientList());
-        setHousekeepers(newData.getHousekeeperList());
+        batchUpdate(() -> {
+            setClients(newData.getClientList());
+            setHousekeepers(newData.getHousekeeperList());
+        });
     }
 
     //// person-level operations
@@ -109,6 +117,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         housekeepers.add(housekeeper);
     }
 
+    /**
+     * Adds all of {@code clients} to the hub book at once.
+     * None of the clients may already exist in the hub book, and {@code clients} must not contain duplicate clients.
+     */
+    public void addClients(List<Client> clients) {
+        this.clients.addAll(clients);
+    }
+
+    /**
+     * Adds all of {@code housekeepers} to the hub book at once.
+     * None of the housekeepers may already exist in the hub book, and {@code housekeepers} must not contain
+     * duplicate housekeepers.
+     */
+    public void addHousekeepers(List<Housekeeper> housekeepers) {
+        this.housekeepers.addAll(housekeepers);
+    }
+
     /**
      * Replaces the given client {@code target} in the list with {@code editedClient}.
      * {@code target} must exist in the hub book.
@@ -148,6 +173,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         housekeepers.remove(housekeeper);
     }
 
+    /**
+     * Removes all of {@code clients} from this {@code AddressBook} at once.
+     * Every client in {@code clients} must exist in the hub book.
+     */
+    public void removeClients(Collection<Client> clients) {
+        this.clients.removeAll(clients);
+    }
+
+    /**
+     * Removes all of {@code housekeepers} from this {@code AddressBook} at once.
+     * Every housekeeper in {@code housekeepers} must exist in the hub book.
+     */
+    public void removeHousekeepers(Collection<Housekeeper> housekeepers) {
+        this.housekeepers.removeAll(housekeepers);
+    }
+
+    /**
+     * Replaces each client that is a key of {@code editedClients} with its value, at once.
+     * Every key must exist in the hub book, and the clients must still be unique after they are replaced.
+     */
+    public void replaceClients(Map<Client, Client> editedClients) {
+        requireNonNull(editedClients);
+        clients.replaceAll(editedClients);
+    }
+
+    /**
+     * Replaces each housekeeper that is a key of {@code editedHousekeepers} with its value, at once.
+     * Every key must exist in the hub book, and the housekeepers must still be unique after they are replaced.
+     */
+    public void replaceHousekeepers(Map<Housekeeper, Housekeeper> editedHousekeepers) {
+        requireNonNull(editedHousekeepers);
+        housekeepers.replaceAll(editedHousekeepers);
+    }
+
     //// util methods
 
     @Override
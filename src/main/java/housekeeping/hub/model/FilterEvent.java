@@ -0,0 +1,46 @@
+package housekeeping.hub.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for one change of the predicate of a filtered person list, which tests every
+ * person in the list again.
+ */
+@Name("housekeeping.hub.Filter")
+@Label("Filter")
+@Category({"Housekeeping Hub", "Model"})
+@Description("A change of the predicate of a filtered person list")
+public class FilterEvent extends Event {
+
+    @Label("List")
+    private String list;
+
+    @Label("Predicate")
+    private String predicate;
+
+    @Label("List Size")
+    private int listSize;
+
+    @Label("Matches")
+    private int matchCount;
+
+    void setList(String list) {
+        this.list = list;
+    }
+
+    void setPredicate(String predicate) {
+        this.predicate = predicate;
+    }
+
+    void setListSize(int listSize) {
+        this.listSize = listSize;
+    }
+
+    void setMatchCount(int matchCount) {
+        this.matchCount = matchCount;
+    }
+}
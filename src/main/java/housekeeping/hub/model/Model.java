@@ -1,7 +1,10 @@
 package housekeeping.hub.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import housekeeping.hub.commons.core.GuiSettings;
@@ -90,6 +93,19 @@ public interface Model {
      */
     void addHousekeeper(Housekeeper housekeeper);
 
+    /**
+     * Adds all of the given clients at once.
+     * None of {@code clients} may already exist in the hub book, and they must not contain duplicate clients.
+     */
+    void addClients(List<Client> clients);
+
+    /**
+     * Adds all of the given housekeepers at once.
+     * None of {@code housekeepers} may already exist in the hub book, and they must not contain duplicate
+     * housekeepers.
+     */
+    void addHousekeepers(List<Housekeeper> housekeepers);
+
     /**
      * Replaces the given client {@code target} with {@code editedClient}.
      * {@code target} must exist in the hub book.
@@ -105,6 +121,61 @@ public interface Model {
      */
     void setHousekeeper(Housekeeper target, Housekeeper editedHousekeeper);
 
+    /**
+     * Deletes all of the given clients at once.
+     * Every client in {@code targets} must exist in the hub book.
+     */
+    void deleteClients(Collection<Client> targets);
+
+    /**
+     * Deletes all of the given housekeepers at once.
+     * Every housekeeper in {@code targets} must exist in the hub book.
+     */
+    void deleteHousekeepers(Collection<Housekeeper> targets);
+
+    /**
+     * Replaces each client that is a key of {@code editedClients} with its value, at once.
+     * Every key must exist in the hub book, and the clients must still be unique after they are replaced.
+     */
+    void replaceClients(Map<Client, Client> editedClients);
+
+    /**
+     * Replaces each housekeeper that is a key of {@code editedHousekeepers} with its value, at once.
+     * Every key must exist in the hub book, and the housekeepers must still be unique after they are replaced.
+     */
+    void replaceHousekeepers(Map<Housekeeper, Housekeeper> editedHousekeepers);
+
+    /**
+     * Starts staging changes to the hub book, so that they can be applied together by {@link #commitTransaction()}
+     * or discarded by {@link #rollbackTransaction()}.
+     * Until then, the hub book and filtered lists of this model include the staged changes, while the lists that were
+     * handed out before the transaction began do not. A person of the hub book is copied the first time it is taken
+     * from a filtered list, so that its housekeeping details and bookings can also be changed in place.
+     *
+     * @throws IllegalStateException if a transaction has already begun.
+     */
+    void beginTransaction();
+
+    /**
+     * Applies the changes staged since {@link #beginTransaction()}, with a single change to each list that only
+     * covers the persons that were changed.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void commitTransaction();
+
+    /**
+     * Discards the changes staged since {@link #beginTransaction()}.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction has begun and has not been committed or rolled back.
+     */
+    boolean isInTransaction();
+
     /**
      * Returns an unmodifiable view of the filtered client list
      */
@@ -116,14 +187,16 @@ public interface Model {
     ObservableList<Housekeeper> getFilteredHousekeeperList();
 
     /**
-     * Updates the filter of the filtered client list to filter by the given {@code predicate}.
+     * Updates the filter of the filtered client list to filter by the given {@code predicate}, and shows the clients
+     * in the order of the hub book again if they were sorted.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredClientList(Predicate<? extends Person> predicate);
 
     /**
-     * Updates and sorts the filter of the filtered client list to filter by the given {@code predicate}.
-     * @throws NullPointerException if {@code predicate} is null.
+     * Updates the filter of the filtered client list to filter by the given {@code predicate}, and sorts the
+     * filtered client list with {@code comparator} from then on. The hub book keeps its order.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
      */
     void updateAndSortFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator);
 
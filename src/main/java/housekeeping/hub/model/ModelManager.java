@@ -4,28 +4,47 @@ import static housekeeping.hub.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import housekeeping.hub.commons.core.GuiSettings;
+import housekeeping.hub.commons.core.LazyLogger;
 import housekeeping.hub.commons.core.LogsCenter;
 import housekeeping.hub.model.person.Client;
 import housekeeping.hub.model.person.Housekeeper;
 import housekeeping.hub.model.person.Person;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the hub book data.
  */
 public class ModelManager implements Model {
-    private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    public static final String MESSAGE_TRANSACTION_BEGUN = "A transaction has already begun";
+    public static final String MESSAGE_NO_TRANSACTION = "No transaction has begun";
+
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClients;
+    private final SortedList<Client> sortedClients;
     private final FilteredList<Housekeeper> filteredHousekeepers;
+    private AddressBook stagedAddressBook;
+    private StagedPersons<Client> stagedClientChanges;
+    private StagedPersons<Housekeeper> stagedHousekeeperChanges;
+    private FilteredList<Client> stagedClients;
+    private SortedList<Client> stagedSortedClients;
+    private FilteredList<Housekeeper> stagedHousekeepers;
+    private ObservableList<Client> stagedShownClients;
+    private ObservableList<Housekeeper> stagedShownHousekeepers;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,11 +52,13 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with hub book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with hub book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
+        // the shown clients are sorted rather than the hub book, which keeps the clients in the order they were added
+        sortedClients = new SortedList<>(filteredClients);
         filteredHousekeepers = new FilteredList<>(this.addressBook.getHousekeeperList());
     }
 
@@ -84,45 +105,87 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        workingAddressBook().resetData(addressBook);
+        if (isInTransaction()) {
+            stagedClientChanges.recordReset();
+            stagedHousekeeperChanges.recordReset();
+        }
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return workingAddressBook();
     }
 
     @Override
     public boolean hasClient(Client client) {
         requireNonNull(client);
-        return addressBook.hasClient(client);
+        return workingAddressBook().hasClient(client);
     }
 
     @Override
     public boolean hasHousekeeper(Housekeeper housekeeper) {
         requireNonNull(housekeeper);
-        return addressBook.hasHousekeeper(housekeeper);
+        return workingAddressBook().hasHousekeeper(housekeeper);
     }
 
     @Override
     public void deleteClient(Client target) {
-        addressBook.removeClient(target);
+        if (!isInTransaction()) {
+            addressBook.removeClient(target);
+            return;
+        }
+        Client stagedTarget = stagedClientChanges.resolve(target, stagedAddressBook.getClientList());
+        stagedAddressBook.removeClient(stagedTarget);
+        stagedClientChanges.recordRemove(stagedTarget);
     }
 
     @Override
     public void deleteHousekeeper(Housekeeper target) {
-        addressBook.removeHousekeeper(target);
+        if (!isInTransaction()) {
+            addressBook.removeHousekeeper(target);
+            return;
+        }
+        Housekeeper stagedTarget = stagedHousekeeperChanges.resolve(target, stagedAddressBook.getHousekeeperList());
+        stagedAddressBook.removeHousekeeper(stagedTarget);
+        stagedHousekeeperChanges.recordRemove(stagedTarget);
     }
 
     @Override
     public void addClient(Client client) {
-        addressBook.addClient(client);
+        workingAddressBook().addClient(client);
+        if (isInTransaction()) {
+            stagedClientChanges.recordAdd(client);
+        }
         updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
     }
 
     @Override
     public void addHousekeeper(Housekeeper housekeeper) {
-        addressBook.addHousekeeper(housekeeper);
+        workingAddressBook().addHousekeeper(housekeeper);
+        if (isInTransaction()) {
+            stagedHousekeeperChanges.recordAdd(housekeeper);
+        }
+        updateFilteredHousekeeperList(PREDICATE_SHOW_ALL_HOUSEKEEPERS);
+    }
+
+    @Override
+    public void addClients(List<Client> clients) {
+        requireNonNull(clients);
+        workingAddressBook().addClients(clients);
+        if (isInTransaction()) {
+            clients.forEach(stagedClientChanges::recordAdd);
+        }
+        updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+    }
+
+    @Override
+    public void addHousekeepers(List<Housekeeper> housekeepers) {
+        requireNonNull(housekeepers);
+        workingAddressBook().addHousekeepers(housekeepers);
+        if (isInTransaction()) {
+            housekeepers.forEach(stagedHousekeeperChanges::recordAdd);
+        }
         updateFilteredHousekeeperList(PREDICATE_SHOW_ALL_HOUSEKEEPERS);
     }
 
@@ -130,14 +193,218 @@ public class ModelManager implements Model {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        addressBook.setClient(target, editedClient);
+        if (!isInTransaction()) {
+            addressBook.setClient(target, editedClient);
+            return;
+        }
+        Client stagedTarget = stagedClientChanges.resolve(target, stagedAddressBook.getClientList());
+        stagedAddressBook.setClient(stagedTarget, editedClient);
+        stagedClientChanges.recordSet(stagedTarget, editedClient);
     }
 
     @Override
     public void setHousekeeper(Housekeeper target, Housekeeper editedHousekeeper) {
         requireAllNonNull(target, editedHousekeeper);
 
-        addressBook.setHousekeeper(target, editedHousekeeper);
+        if (!isInTransaction()) {
+            addressBook.setHousekeeper(target, editedHousekeeper);
+            return;
+        }
+        Housekeeper stagedTarget = stagedHousekeeperChanges.resolve(target, stagedAddressBook.getHousekeeperList());
+        stagedAddressBook.setHousekeeper(stagedTarget, editedHousekeeper);
+        stagedHousekeeperChanges.recordSet(stagedTarget, editedHousekeeper);
+    }
+
+    @Override
+    public void deleteClients(Collection<Client> targets) {
+        requireNonNull(targets);
+        if (!isInTransaction()) {
+            addressBook.removeClients(targets);
+            return;
+        }
+        List<Client> stagedTargets = targets.stream()
+                .map(target -> stagedClientChanges.resolve(target, stagedAddressBook.getClientList()))
+                .collect(Collectors.toList());
+        stagedAddressBook.removeClients(stagedTargets);
+        stagedTargets.forEach(stagedClientChanges::recordRemove);
+    }
+
+    @Override
+    public void deleteHousekeepers(Collection<Housekeeper> targets) {
+        requireNonNull(targets);
+        if (!isInTransaction()) {
+            addressBook.removeHousekeepers(targets);
+            return;
+        }
+        List<Housekeeper> stagedTargets = targets.stream()
+                .map(target -> stagedHousekeeperChanges.resolve(target, stagedAddressBook.getHousekeeperList()))
+                .collect(Collectors.toList());
+        stagedAddressBook.removeHousekeepers(stagedTargets);
+        stagedTargets.forEach(stagedHousekeeperChanges::recordRemove);
+    }
+
+    @Override
+    public void replaceClients(Map<Client, Client> editedClients) {
+        requireNonNull(editedClients);
+        if (!isInTransaction()) {
+            addressBook.replaceClients(editedClients);
+            return;
+        }
+        Map<Client, Client> stagedEdits = new IdentityHashMap<>();
+        editedClients.forEach((target, editedClient) -> stagedEdits.put(
+                stagedClientChanges.resolve(target, stagedAddressBook.getClientList()), editedClient));
+        stagedAddressBook.replaceClients(stagedEdits);
+        stagedEdits.forEach(stagedClientChanges::recordSet);
+    }
+
+    @Override
+    public void replaceHousekeepers(Map<Housekeeper, Housekeeper> editedHousekeepers) {
+        requireNonNull(editedHousekeepers);
+        if (!isInTransaction()) {
+            addressBook.replaceHousekeepers(editedHousekeepers);
+            return;
+        }
+        Map<Housekeeper, Housekeeper> stagedEdits = new IdentityHashMap<>();
+        editedHousekeepers.forEach((target, editedHousekeeper) -> stagedEdits.put(
+                stagedHousekeeperChanges.resolve(target, stagedAddressBook.getHousekeeperList()), editedHousekeeper));
+        stagedAddressBook.replaceHousekeepers(stagedEdits);
+        stagedEdits.forEach(stagedHousekeeperChanges::recordSet);
+    }
+
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException(MESSAGE_TRANSACTION_BEGUN);
+        }
+        logger.fine(() -> "Beginning a transaction");
+
+        // the staged hub book shares the persons of the hub book, which are only copied when they are handed out by the
+        // filtered lists, so that changing their details or bookings in place can be rolled back
+        stagedAddressBook = new AddressBook(addressBook);
+        stagedClientChanges = new StagedPersons<>(Client::copy, ModelManager::isUnchangedCopy);
+        stagedHousekeeperChanges = new StagedPersons<>(Housekeeper::copy, ModelManager::isUnchangedCopy);
+        stagedClients = new FilteredList<>(stagedAddressBook.getClientList(), filteredClients.getPredicate());
+        stagedSortedClients = new SortedList<>(stagedClients, sortedClients.getComparator());
+        stagedHousekeepers = new FilteredList<>(stagedAddressBook.getHousekeeperList(),
+                filteredHousekeepers.getPredicate());
+        stagedShownClients = new AccessedPersonList<>(stagedSortedClients, stagedClientChanges::getForAccess);
+        stagedShownHousekeepers = new AccessedPersonList<>(stagedHousekeepers,
+                stagedHousekeeperChanges::getForAccess);
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+        logger.fine(() -> "Committing a transaction");
+
+        // only the persons that were touched are changed, in one batch, so that the listeners of each list are
+        // notified of a single change that only covers them
+        addressBook.batchUpdate(() -> {
+            commitStagedClients();
+            commitStagedHousekeepers();
+        });
+        if (stagedClients.getPredicate() != filteredClients.getPredicate()) {
+            setPredicate("clients", filteredClients, stagedClients.getPredicate());
+        }
+        if (stagedSortedClients.getComparator() != sortedClients.getComparator()) {
+            sortedClients.setComparator(stagedSortedClients.getComparator());
+        }
+        if (stagedHousekeepers.getPredicate() != filteredHousekeepers.getPredicate()) {
+            setPredicate("housekeepers", filteredHousekeepers, stagedHousekeepers.getPredicate());
+        }
+        endTransaction();
+    }
+
+    /**
+     * Returns true if {@code copy} of {@code original} was not changed in place, which {@code equals} alone does not
+     * tell since it leaves out the housekeeping details.
+     */
+    private static boolean isUnchangedCopy(Client copy, Client original) {
+        return copy.equals(original) && Objects.equals(copy.getDetails(), original.getDetails());
+    }
+
+    /**
+     * Returns true if {@code copy} of {@code original} was not changed in place, which {@code equals} alone does not
+     * tell since it leaves out the bookings.
+     */
+    private static boolean isUnchangedCopy(Housekeeper copy, Housekeeper original) {
+        return copy.equals(original)
+                && copy.getBookingList().getBookings().equals(original.getBookingList().getBookings());
+    }
+
+    private void commitStagedClients() {
+        if (stagedClientChanges.isReset()) {
+            addressBook.setClients(stagedAddressBook.getClientList());
+            return;
+        }
+        List<Client> removed = stagedClientChanges.getRemoved();
+        Map<Client, Client> replacements = stagedClientChanges.getReplacements();
+        List<Client> added = stagedClientChanges.getAdded();
+        // each of these looks at the whole list, so they are skipped when there is nothing for them to do
+        if (!removed.isEmpty()) {
+            addressBook.removeClients(removed);
+        }
+        if (!replacements.isEmpty()) {
+            addressBook.replaceClients(replacements);
+        }
+        if (!added.isEmpty()) {
+            addressBook.addClients(added);
+        }
+    }
+
+    private void commitStagedHousekeepers() {
+        if (stagedHousekeeperChanges.isReset()) {
+            addressBook.setHousekeepers(stagedAddressBook.getHousekeeperList());
+            return;
+        }
+        List<Housekeeper> removed = stagedHousekeeperChanges.getRemoved();
+        Map<Housekeeper, Housekeeper> replacements = stagedHousekeeperChanges.getReplacements();
+        List<Housekeeper> added = stagedHousekeeperChanges.getAdded();
+        if (!removed.isEmpty()) {
+            addressBook.removeHousekeepers(removed);
+        }
+        if (!replacements.isEmpty()) {
+            addressBook.replaceHousekeepers(replacements);
+        }
+        if (!added.isEmpty()) {
+            addressBook.addHousekeepers(added);
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException(MESSAGE_NO_TRANSACTION);
+        }
+        logger.fine(() -> "Rolling back a transaction");
+        endTransaction();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return stagedAddressBook != null;
+    }
+
+    private void endTransaction() {
+        stagedAddressBook = null;
+        stagedClientChanges = null;
+        stagedHousekeeperChanges = null;
+        stagedClients = null;
+        stagedSortedClients = null;
+        stagedHousekeepers = null;
+        stagedShownClients = null;
+        stagedShownHousekeepers = null;
+    }
+
+    /**
+     * Returns the hub book that changes are made to, which is the staged one during a transaction.
+     */
+    private AddressBook workingAddressBook() {
+        return isInTransaction() ? stagedAddressBook : addressBook;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -148,39 +415,75 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return filteredClients;
+        return isInTransaction() ? stagedShownClients : sortedClients;
     }
 
     @Override
     public ObservableList<Housekeeper> getFilteredHousekeeperList() {
-        return filteredHousekeepers;
+        return isInTransaction() ? stagedShownHousekeepers : filteredHousekeepers;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void updateFilteredClientList(Predicate<? extends Person> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate((Predicate<? super Client>) predicate);
+        setPredicate("clients", workingFilteredClients(), (Predicate<? super Client>) predicate);
+        // only the leads are ranked, so any other filter shows the clients in the order of the hub book again
+        if (workingSortedClients().getComparator() != null) {
+            workingSortedClients().setComparator(null);
+        }
     }
 
     @Override
     public void updateAndSortFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator) {
-        requireNonNull(predicate);
-        addressBook.sortClients(comparator);
-        filteredClients.setPredicate(predicate);
+        requireAllNonNull(predicate, comparator);
+        setPredicate("clients", workingFilteredClients(), predicate);
+        // the sorted view places the clients shown by the new predicate, and keeps them in order as they change
+        workingSortedClients().setComparator(comparator);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public void updateFilteredHousekeeperList(Predicate<? extends Person> predicate) {
         requireNonNull(predicate);
-        filteredHousekeepers.setPredicate((Predicate<? super Housekeeper>) predicate);
+        setPredicate("housekeepers", workingFilteredHousekeepers(), (Predicate<? super Housekeeper>) predicate);
     }
 
     @Override
     public void updateFilteredHousekeeperListWithHousekeeperPredicate(Predicate<Housekeeper> housekeeperPredicate) {
         requireNonNull(housekeeperPredicate);
-        filteredHousekeepers.setPredicate(housekeeperPredicate);
+        setPredicate("housekeepers", workingFilteredHousekeepers(), housekeeperPredicate);
+    }
+
+    private FilteredList<Client> workingFilteredClients() {
+        return isInTransaction() ? stagedClients : filteredClients;
+    }
+
+    private SortedList<Client> workingSortedClients() {
+        return isInTransaction() ? stagedSortedClients : sortedClients;
+    }
+
+    private FilteredList<Housekeeper> workingFilteredHousekeepers() {
+        return isInTransaction() ? stagedHousekeepers : filteredHousekeepers;
+    }
+
+    /**
+     * Sets the predicate of {@code filteredList}, recording a {@link FilterEvent} of {@code listName} for Java Flight
+     * Recorder if it is recording.
+     */
+    private static <T> void setPredicate(String listName, FilteredList<T> filteredList,
+            Predicate<? super T> predicate) {
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        filteredList.setPredicate(predicate);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setList(listName);
+            event.setPredicate(predicate.getClass().getSimpleName());
+            event.setListSize(filteredList.getSource().size());
+            event.setMatchCount(filteredList.size());
+            event.commit();
+        }
     }
 
     @Override
@@ -197,7 +500,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredClients.equals(otherModelManager.filteredClients)
+                && sortedClients.equals(otherModelManager.sortedClients)
                 && filteredHousekeepers.equals(otherModelManager.filteredHousekeepers);
     }
 }
@@ -0,0 +1,186 @@
+package housekeeping.hub.model;
+
+import static housekeeping.hub.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.UnaryOperator;
+
+import housekeeping.hub.model.person.Person;
+
+/**
+ * Keeps track of the changes staged to one list of persons during a transaction, so that only the persons that were
+ * touched have to be copied, and only they have to be changed in the hub book when the transaction is committed.
+ * Persons are told apart by identity rather than by {@code equals}, since a person that is changed in place stays
+ * equal to nothing else.
+ */
+class StagedPersons<T extends Person> {
+
+    private final UnaryOperator<T> copier;
+    private final BiPredicate<T, T> isUnchangedCopy;
+
+    /** Copies of the persons in the hub book that were handed out, by the person they were copied from. */
+    private final Map<T, T> copies = new IdentityHashMap<>();
+    /** The persons in the hub book that copies were handed out for, by their copy. */
+    private final Map<T, T> originalsOfCopies = new IdentityHashMap<>();
+    /** What the persons in the hub book were replaced with in the staged list, by the person they replaced. */
+    private final Map<T, T> replacements = new IdentityHashMap<>();
+    /** The persons in the hub book that replaced persons stand for, by what they were replaced with. */
+    private final Map<T, T> originalsOfReplacements = new IdentityHashMap<>();
+    private final Set<T> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The persons added during the transaction, with the order they were added in. */
+    private final Map<T, Long> added = new IdentityHashMap<>();
+    private long addedCount;
+    private boolean isReset;
+
+    /**
+     * Creates a StagedPersons that copies the persons handed out from the hub book with {@code copier}, and tells
+     * with {@code isUnchangedCopy} whether a copy, given first, still holds all that the person it was copied from
+     * holds.
+     */
+    StagedPersons(UnaryOperator<T> copier, BiPredicate<T, T> isUnchangedCopy) {
+        requireAllNonNull(copier, isUnchangedCopy);
+        this.copier = copier;
+        this.isUnchangedCopy = isUnchangedCopy;
+    }
+
+    /**
+     * Returns the person to hand out for {@code stagedPerson} of the staged list. Persons that are still those of the
+     * hub book are copied the first time they are handed out, so that changing them in place changes nothing until
+     * the transaction is committed.
+     */
+    T getForAccess(T stagedPerson) {
+        if (isReset || added.containsKey(stagedPerson) || originalsOfReplacements.containsKey(stagedPerson)) {
+            return stagedPerson;
+        }
+        return copies.computeIfAbsent(stagedPerson, original -> {
+            T copy = copier.apply(original);
+            originalsOfCopies.put(copy, original);
+            return copy;
+        });
+    }
+
+    /**
+     * Returns the person of {@code stagedList} that {@code person} stands for, which is the person it was copied from
+     * if it was handed out by {@link #getForAccess(Person)}.
+     */
+    T resolve(T person, List<T> stagedList) {
+        T original = originalsOfCopies.get(person);
+        if (original != null) {
+            return original;
+        }
+        int index = stagedList.indexOf(person);
+        return index == -1 ? person : stagedList.get(index);
+    }
+
+    /**
+     * Records that {@code person} was added to the staged list.
+     */
+    void recordAdd(T person) {
+        added.put(person, addedCount++);
+    }
+
+    /**
+     * Records that {@code stagedPerson}, which was resolved by {@link #resolve(Person, List)}, was replaced by
+     * {@code editedPerson} in the staged list.
+     */
+    void recordSet(T stagedPerson, T editedPerson) {
+        if (isReset) {
+            return;
+        }
+        Long addedOrder = added.remove(stagedPerson);
+        if (addedOrder != null) {
+            added.put(editedPerson, addedOrder);
+            return;
+        }
+        T original = originalsOfReplacements.remove(stagedPerson);
+        if (original == null) {
+            original = stagedPerson;
+            discardCopy(original);
+        }
+        replacements.put(original, editedPerson);
+        originalsOfReplacements.put(editedPerson, original);
+    }
+
+    /**
+     * Records that {@code stagedPerson}, which was resolved by {@link #resolve(Person, List)}, was removed from the
+     * staged list.
+     */
+    void recordRemove(T stagedPerson) {
+        if (isReset || added.remove(stagedPerson) != null) {
+            return;
+        }
+        T original = originalsOfReplacements.remove(stagedPerson);
+        if (original == null) {
+            original = stagedPerson;
+            discardCopy(original);
+        } else {
+            replacements.remove(original);
+        }
+        removed.add(original);
+    }
+
+    /**
+     * Records that the staged list was replaced as a whole, after which the whole list is applied on commit and its
+     * persons are handed out as they are.
+     */
+    void recordReset() {
+        isReset = true;
+        copies.clear();
+        originalsOfCopies.clear();
+        replacements.clear();
+        originalsOfReplacements.clear();
+        removed.clear();
+        added.clear();
+    }
+
+    private void discardCopy(T original) {
+        T copy = copies.remove(original);
+        if (copy != null) {
+            originalsOfCopies.remove(copy);
+        }
+    }
+
+    /**
+     * Returns true if the staged list was replaced as a whole, in which case it has to be applied as a whole.
+     */
+    boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns the persons of the hub book that were removed.
+     */
+    List<T> getRemoved() {
+        return new ArrayList<>(removed);
+    }
+
+    /**
+     * Returns what the persons of the hub book that were changed were replaced with, by the person they replace.
+     * The copies of the persons that were handed out and not replaced are included if they were changed in place,
+     * so that the persons that were only read are left as they are.
+     */
+    Map<T, T> getReplacements() {
+        Map<T, T> allReplacements = new IdentityHashMap<>(replacements);
+        copies.forEach((original, copy) -> {
+            if (!isUnchangedCopy.test(copy, original)) {
+                allReplacements.put(original, copy);
+            }
+        });
+        return allReplacements;
+    }
+
+    /**
+     * Returns the persons that were added, in the order they were added in.
+     */
+    List<T> getAdded() {
+        List<T> addedPersons = new ArrayList<>(added.keySet());
+        addedPersons.sort((first, second) -> Long.compare(added.get(first), added.get(second)));
+        return addedPersons;
+    }
+}
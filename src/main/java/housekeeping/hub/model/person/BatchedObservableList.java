@@ -0,0 +1,163 @@
+package housekeeping.hub.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be made in a batch, so that its listeners are notified of all of them
+ * as one compound change, with a part for each range of elements that changed.
+ * It is sorted with a permutation change rather than by replacing every element, so that a view such as a
+ * {@code FilteredList} reorders its elements without testing them again. Ranges and collections of elements are
+ * removed in one pass over the backing list, rather than one element at a time, which would move the elements after
+ * each removed one every time.
+ */
+class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Starts a batch of changes. Batches can be nested, and the listeners are notified when the outermost one ends.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends the batch of changes started by the matching {@link #beginBatch()}.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size());
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        range.clear();
+        modCount++;
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        return removeMatching(toRemove::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> toRetain) {
+        requireNonNull(toRetain);
+        return removeMatching(element -> !toRetain.contains(element));
+    }
+
+    /**
+     * Removes the elements that match {@code isRemoved} in one pass, keeping the others in order, and notifies the
+     * listeners of one change with a part for each run of removed elements.
+     */
+    private boolean removeMatching(Predicate<? super E> isRemoved) {
+        List<E> kept = new ArrayList<>(elements.size());
+        List<E> removedRun = new ArrayList<>();
+        beginChange();
+        try {
+            for (E element : elements) {
+                if (isRemoved.test(element)) {
+                    removedRun.add(element);
+                    continue;
+                }
+                if (!removedRun.isEmpty()) {
+                    // the run was before this element, which is where it is in the list once earlier runs are gone
+                    nextRemove(kept.size(), removedRun);
+                    removedRun = new ArrayList<>();
+                }
+                kept.add(element);
+            }
+            if (!removedRun.isEmpty()) {
+                nextRemove(kept.size(), removedRun);
+            }
+            if (kept.size() == elements.size()) {
+                return false;
+            }
+            elements = kept;
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (Comparator<? super E>) Comparator.naturalOrder();
+        int size = elements.size();
+        if (size < 2) {
+            return;
+        }
+
+        Integer[] oldIndexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            oldIndexes[i] = i;
+        }
+        // sorting objects is stable, so that equal persons keep their order as they would with List.sort
+        Arrays.sort(oldIndexes, (i, j) -> order.compare(elements.get(i), elements.get(j)));
+
+        int[] permutation = new int[size];
+        List<E> sortedElements = new ArrayList<>(size);
+        for (int newIndex = 0; newIndex < size; newIndex++) {
+            permutation[oldIndexes[newIndex]] = newIndex;
+            sortedElements.add(elements.get(oldIndexes[newIndex]));
+        }
+        elements = sortedElements;
+        modCount++;
+
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+}
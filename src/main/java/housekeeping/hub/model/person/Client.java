@@ -57,6 +57,16 @@ public class Client extends Person implements Comparable<Client> {
         return this.housekeepingDetails;
     }
 
+    /**
+     * Returns a copy of this client whose housekeeping details can be changed in place without changing those of
+     * this client. The other fields cannot be changed, so they are shared.
+     */
+    public Client copy() {
+        HousekeepingDetails detailsCopy = housekeepingDetails == null ? null
+                : new HousekeepingDetails(housekeepingDetails);
+        return new Client(getName(), getPhone(), getEmail(), getAddress(), getTags(), detailsCopy, getArea());
+    }
+
     /**
      * Returns true if both clients have the same identity and data fields.
      * This defines a stronger notion of equality between two clients.
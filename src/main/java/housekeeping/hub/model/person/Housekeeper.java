@@ -1,5 +1,6 @@
 package housekeeping.hub.model.person;
 
+import java.util.ArrayList;
 import java.util.Set;
 
 import housekeeping.hub.model.tag.Tag;
@@ -53,6 +54,15 @@ public class Housekeeper extends Person {
 
     }
 
+    /**
+     * Returns a copy of this housekeeper whose bookings can be changed in place without changing those of this
+     * housekeeper. The other fields cannot be changed, so they are shared.
+     */
+    public Housekeeper copy() {
+        BookingList bookingListCopy = new BookingList(new ArrayList<>(bookingList.getBookings()));
+        return new Housekeeper(getName(), getPhone(), getEmail(), getAddress(), getTags(), getArea(), bookingListCopy);
+    }
+
     /**
      * Returns true if both housekeepers have the same identity and data fields.
      * This defines a stronger notion of equality between two housekeepers.
@@ -80,6 +80,16 @@ public class HousekeepingDetails implements Comparable<HousekeepingDetails> {
         this.deferment = Period.ZERO;
     }
 
+    /**
+     * Creates a copy of {@code toCopy}, which is not changed by later changes to {@code toCopy}.
+     */
+    public HousekeepingDetails(HousekeepingDetails toCopy) {
+        this.lastHousekeepingDate = toCopy.lastHousekeepingDate;
+        this.preferredInterval = toCopy.preferredInterval;
+        this.booking = toCopy.booking;
+        this.deferment = toCopy.deferment;
+    }
+
     /** User must add as "yyyy-mm-dd n (days|weeks|months|years)" */
     public static boolean isValidHousekeepingDetailsUser(String test) {
         Matcher userInputMatcher = USER_FORMAT.matcher(test);
@@ -0,0 +1,195 @@
+package housekeeping.hub.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import housekeeping.hub.commons.util.ToStringBuilder;
+import housekeeping.hub.model.tag.Tag;
+
+/**
+ * Scores the leads among the clients, so that the operator can call the most promising of them first.
+ * A lead is a client with housekeeping details and no upcoming booking whose predicted next housekeeping date has
+ * passed. The score of a lead is a weighted sum of
+ * <ul>
+ *     <li>how overdue it is, in preferred intervals, so that a weekly client a week late counts as much as a
+ *     monthly client a month late,</li>
+ *     <li>how regularly the client has housekeeping, in visits a week,</li>
+ *     <li>how many of the preferred tags the client has, and</li>
+ *     <li>the share of all the leads that are in the client's area, since leads close together can be served by the
+ *     same housekeepers.</li>
+ * </ul>
+ */
+public class LeadScorer {
+
+    public static final double OVERDUE_WEIGHT = 1.0;
+    public static final double REGULARITY_WEIGHT = 1.0;
+    public static final double TAG_WEIGHT = 0.5;
+    public static final double AREA_DEMAND_WEIGHT = 1.0;
+
+    private static final double DAYS_IN_MONTH = 30.44;
+    private static final double DAYS_IN_WEEK = 7.0;
+
+    /** Orders scored leads from the best to the worst, by their names when their scores are the same. */
+    private static final Comparator<ScoredLead> BEST_FIRST = Comparator.comparingDouble((ScoredLead lead) ->
+            lead.score).reversed().thenComparing(lead -> lead.client.getName().fullName);
+
+    private final Set<Tag> preferredTags;
+
+    /**
+     * Creates a LeadScorer that gives a higher score to clients with any of the {@code preferredTags}.
+     */
+    public LeadScorer(Set<Tag> preferredTags) {
+        requireNonNull(preferredTags);
+        this.preferredTags = Set.copyOf(preferredTags);
+    }
+
+    public LeadScorer() {
+        this(Set.of());
+    }
+
+    /**
+     * Returns the {@code count} leads among {@code clients} with the highest scores on {@code today}, best first.
+     * The clients are scored in parallel, and each thread only keeps its best {@code count} leads in a bounded heap,
+     * so the leads are never all sorted.
+     */
+    public List<Client> getTopLeads(List<? extends Client> clients, int count, LocalDate today) {
+        requireNonNull(clients);
+        requireNonNull(today);
+        if (count <= 0) {
+            throw new IllegalArgumentException("The number of leads to return must be positive");
+        }
+
+        // copied into an ArrayList, which splits evenly between the threads
+        List<ScoredLead> leads = new ArrayList<Client>(clients).parallelStream()
+                .map(client -> toLead(client, today))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (leads.isEmpty()) {
+            return List.of();
+        }
+        Map<Area, Long> leadsByArea = leads.stream()
+                .collect(Collectors.groupingBy(lead -> lead.client.getArea(), Collectors.counting()));
+        double leadCount = leads.size();
+
+        PriorityQueue<ScoredLead> topLeads = leads.parallelStream()
+                .map(lead -> lead.addScore(AREA_DEMAND_WEIGHT * leadsByArea.get(lead.client.getArea()) / leadCount))
+                .collect(() -> new PriorityQueue<>(BEST_FIRST.reversed()),
+                    (heap, lead) -> offer(heap, lead, count),
+                    (heap, otherHeap) -> otherHeap.forEach(lead -> offer(heap, lead, count)));
+
+        return topLeads.stream()
+                .sorted(BEST_FIRST)
+                .map(lead -> lead.client)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Adds {@code lead} to {@code heap}, whose head is its worst lead, if it has fewer than {@code count} leads or
+     * {@code lead} is better than its worst one.
+     */
+    private static void offer(PriorityQueue<ScoredLead> heap, ScoredLead lead, int count) {
+        if (heap.size() < count) {
+            heap.add(lead);
+        } else if (BEST_FIRST.compare(lead, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(lead);
+        }
+    }
+
+    /**
+     * Returns true if {@code client} is a lead on {@code today}.
+     */
+    public static boolean isLead(Client client, LocalDate today) {
+        return getNextHousekeepingDateOfLead(client, today) != null;
+    }
+
+    /**
+     * Returns the predicted next housekeeping date of {@code client} if it is a lead on {@code today}, or null if it
+     * is not.
+     */
+    private static LocalDate getNextHousekeepingDateOfLead(Client client, LocalDate today) {
+        HousekeepingDetails details = client.getDetails();
+        if (details == null) {
+            return null;
+        }
+        // the booking is checked against today rather than with hasBooking, which gets the current date every time
+        Booking booking = details.getBooking();
+        if (booking != null && booking.getBookedDate().isAfter(today)) {
+            return null;
+        }
+        // clients without enough details are due on LocalDate.MAX, which is never before today
+        LocalDate nextHousekeepingDate = details.getNextHousekeepingDate();
+        return nextHousekeepingDate.isAfter(today) ? null : nextHousekeepingDate;
+    }
+
+    /**
+     * Returns {@code client} with its score on {@code today} apart from its area demand, which depends on the other
+     * leads, or null if it is not a lead.
+     */
+    private ScoredLead toLead(Client client, LocalDate today) {
+        LocalDate nextHousekeepingDate = getNextHousekeepingDateOfLead(client, today);
+        if (nextHousekeepingDate == null) {
+            return null;
+        }
+        Period preferredInterval = client.getDetails().getPreferredInterval();
+        double intervalDays = Math.max(1.0, preferredInterval.toTotalMonths() * DAYS_IN_MONTH
+                + preferredInterval.getDays());
+        long daysOverdue = today.toEpochDay() - nextHousekeepingDate.toEpochDay();
+        long preferredTagCount = preferredTags.isEmpty()
+                ? 0 : client.getTags().stream().filter(preferredTags::contains).count();
+
+        return new ScoredLead(client, OVERDUE_WEIGHT * daysOverdue / intervalDays
+                + REGULARITY_WEIGHT * DAYS_IN_WEEK / intervalDays
+                + TAG_WEIGHT * preferredTagCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LeadScorer)) {
+            return false;
+        }
+
+        LeadScorer otherLeadScorer = (LeadScorer) other;
+        return preferredTags.equals(otherLeadScorer.preferredTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("preferredTags", preferredTags)
+                .toString();
+    }
+
+    /**
+     * A lead with its score, which its area demand is added to once all the leads are known.
+     */
+    private static class ScoredLead {
+        private final Client client;
+        private double score;
+
+        ScoredLead(Client client, double score) {
+            this.client = client;
+            this.score = score;
+        }
+
+        ScoredLead addScore(double extraScore) {
+            score += extraScore;
+            return this;
+        }
+    }
+}
@@ -3,9 +3,14 @@ package housekeeping.hub.model.person;
 import static housekeeping.hub.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import housekeeping.hub.model.person.exceptions.DuplicatePersonException;
 import housekeeping.hub.model.person.exceptions.PersonNotFoundException;
@@ -25,7 +30,7 @@ import javafx.collections.ObservableList;
  */
 public class UniquePersonList<T extends Person> implements Iterable<T> {
 
-    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<T> internalList = new BatchedObservableList<>();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -49,11 +54,84 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list in one change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<T> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = new HashSet<>();
+        for (T person : internalList) {
+            names.add(person.getName());
+        }
+        for (T person : toAdd) {
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
+    /**
+     * Removes all of {@code toRemove} from the list in one change.
+     * Every person in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<T> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<T> toRemoveSet = new HashSet<>(toRemove);
+        if (internalList.stream().filter(toRemoveSet::contains).count() != toRemoveSet.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.removeAll(toRemoveSet);
+    }
+
+    /**
+     * Replaces each person in the list that is a key of {@code replacements} with its value, in one change.
+     * Every key must exist in the list, and the persons must still be unique after they are replaced.
+     */
+    public void replaceAll(Map<T, T> replacements) {
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        List<T> replaced = new ArrayList<>(internalList);
+        List<Integer> replacedIndexes = new ArrayList<>(replacements.size());
+        for (int i = 0; i < replaced.size(); i++) {
+            T replacement = replacements.get(replaced.get(i));
+            if (replacement != null) {
+                replaced.set(i, replacement);
+                replacedIndexes.add(i);
+            }
+        }
+        if (replacedIndexes.size() != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (!personsAreUnique(replaced)) {
+            throw new DuplicatePersonException();
+        }
+        // only the replaced persons are set, so that views of the list only have to look at them again
+        batchUpdate(() -> replacedIndexes.forEach(i -> internalList.set(i, replaced.get(i))));
+    }
+
     /**
      * Sorts the persons in the list using the provided comparator.
+     * The persons are reordered rather than replaced, so that views of the list do not have to look at them again.
      */
     public void sort(Comparator<? super T> comparator) {
-        FXCollections.sort(internalList, comparator);
+        internalList.sort(comparator);
+    }
+
+    /**
+     * Runs {@code update}, which changes this list, and notifies the listeners of the list of all of its changes as
+     * a single change once it is done. Batches can be nested, in which case the listeners are notified once the
+     * outermost batch is done.
+     */
+    public void batchUpdate(Runnable update) {
+        requireNonNull(update);
+        internalList.beginBatch();
+        try {
+            update.run();
+        } finally {
+            internalList.endBatch();
+        }
     }
 
     /**
@@ -147,11 +225,11 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      * Returns true if {@code persons} contains only unique persons.
      */
     public boolean personsAreUnique(List<T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // two persons are the same person exactly when their names are equal
+        Set<Name> names = new HashSet<>();
+        for (T person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
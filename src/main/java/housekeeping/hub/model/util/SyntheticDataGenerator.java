@@ -0,0 +1,257 @@
+package housekeeping.hub.model.util;
+
+import static housekeeping.hub.logic.parser.CliSyntax.ALLOWED_PREAMBLES_AREA;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.person.Address;
+import housekeeping.hub.model.person.Area;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.BookingList;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Email;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.Name;
+import housekeeping.hub.model.person.Phone;
+import housekeeping.hub.model.tag.Tag;
+
+/**
+ * Generates large, realistic sets of clients and housekeepers for load testing.
+ * Every person is generated from the seed and its own index alone, so the same seed and reference date always
+ * give the same persons, and persons can be generated one at a time without keeping the others in memory.
+ */
+public class SyntheticDataGenerator {
+
+    public static final int DEFAULT_BOOKINGS_PER_YEAR = 50;
+    public static final int DEFAULT_HISTORY_YEARS = 3;
+
+    /** Weights of the areas in {@code ALLOWED_PREAMBLES_AREA}, roughly following where people live. */
+    private static final int[] AREA_WEIGHTS = {12, 18, 17, 8, 7, 6, 20, 12};
+    private static final Period[] INTERVALS = {Period.ofWeeks(1), Period.ofWeeks(2), Period.ofMonths(1),
+        Period.ofMonths(2), Period.ofMonths(3), Period.ofMonths(6)};
+    private static final int[] INTERVAL_WEIGHTS = {25, 30, 25, 10, 7, 3};
+    private static final String[] TAGS = {"friends", "family", "colleagues", "pet-owner", "elderly", "office",
+        "deep-clean", "weekend-only", "part-time", "full-time", "experienced", "pet-friendly"};
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "John",
+        "Jane", "Michael", "Emily", "Daniel", "Samantha", "Wei Ling", "Jun Jie", "Siti", "Ahmad", "Priya", "Arjun",
+        "Mei", "Hui Min", "Kumar", "Nur", "Grace", "Ethan", "Chloe", "Ryan", "Hannah", "Marcus", "Aisyah", "Vikram"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh",
+        "Teo", "Yeo", "Ibrahim", "Rahman", "Kumar", "Singh", "Pillai", "Balakrishnan", "Yu", "Li", "Oliveiro"};
+    private static final String[] STREETS = {"Ang Mo Kio Ave", "Bedok North Road", "Clementi Ave", "Geylang Street",
+        "Jurong West Street", "Pasir Ris Drive", "Punggol Field", "Sengkang East Way", "Serangoon Ave",
+        "Tampines Street", "Toa Payoh Lorong", "Woodlands Drive", "Yishun Ring Road", "Bukit Batok Street"};
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.com", "hub.sg", "inbox.com"};
+
+    /** Clients without any housekeeping details, out of 100. */
+    private static final int CLIENTS_WITHOUT_DETAILS_PERCENT = 10;
+    /** Clients with details that also have an upcoming booking, out of 100. */
+    private static final int CLIENTS_WITH_BOOKING_PERCENT = 15;
+    /** How far ahead of the reference date upcoming bookings are made. */
+    private static final int UPCOMING_DAYS = 14;
+
+    private static final long CLIENT_STREAM = 0x636c69656e74L;
+    private static final long HOUSEKEEPER_STREAM = 0x686f7573656bL;
+
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final int bookingsPerYear;
+    private final int historyYears;
+
+    public SyntheticDataGenerator(long seed, LocalDate referenceDate) {
+        this(seed, referenceDate, DEFAULT_BOOKINGS_PER_YEAR, DEFAULT_HISTORY_YEARS);
+    }
+
+    /**
+     * Creates a generator whose housekeepers have about {@code bookingsPerYear} bookings for every one of the
+     * {@code historyYears} years before {@code referenceDate}, which stands for the day the data is used.
+     */
+    public SyntheticDataGenerator(long seed, LocalDate referenceDate, int bookingsPerYear, int historyYears) {
+        requireNonNull(referenceDate);
+        if (bookingsPerYear < 0 || historyYears < 0) {
+            throw new IllegalArgumentException("Booking counts cannot be negative");
+        }
+        if (bookingsPerYear > 365 * 2) {
+            throw new IllegalArgumentException("A housekeeper has at most two bookings a day");
+        }
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+        this.bookingsPerYear = bookingsPerYear;
+        this.historyYears = historyYears;
+    }
+
+    public LocalDate getReferenceDate() {
+        return referenceDate;
+    }
+
+    /**
+     * Returns the client with the given {@code index}.
+     * Clients with different indexes never have the same name.
+     */
+    public Client generateClient(int index) {
+        SplittableRandom random = getRandom(CLIENT_STREAM, index);
+        Name name = generateName(index, random);
+        return new Client(name, generatePhone(random), generateEmail(name, random), generateAddress(random),
+                generateTags(random), generateHousekeepingDetails(random), generateArea(random));
+    }
+
+    /**
+     * Returns the housekeeper with the given {@code index}.
+     * Housekeepers with different indexes never have the same name.
+     */
+    public Housekeeper generateHousekeeper(int index) {
+        SplittableRandom random = getRandom(HOUSEKEEPER_STREAM, index);
+        Name name = generateName(index, random);
+        return new Housekeeper(name, generatePhone(random), generateEmail(name, random), generateAddress(random),
+                generateTags(random), generateArea(random), generateBookingList(random));
+    }
+
+    /**
+     * Returns a stream that generates the clients with indexes {@code 0} to {@code count - 1} as they are consumed.
+     */
+    public Stream<Client> streamClients(int count) {
+        return IntStream.range(0, count).mapToObj(this::generateClient);
+    }
+
+    /**
+     * Returns a stream that generates the housekeepers with indexes {@code 0} to {@code count - 1} as they are
+     * consumed.
+     */
+    public Stream<Housekeeper> streamHousekeepers(int count) {
+        return IntStream.range(0, count).mapToObj(this::generateHousekeeper);
+    }
+
+    /**
+     * Returns the clients with indexes {@code 0} to {@code count - 1} as a list.
+     */
+    public List<Client> generateClients(int count) {
+        return streamClients(count).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the housekeepers with indexes {@code 0} to {@code count - 1} as a list.
+     */
+    public List<Housekeeper> generateHousekeepers(int count) {
+        return streamHousekeepers(count).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a book with {@code clientCount} clients and {@code housekeeperCount} housekeepers.
+     */
+    public AddressBook generateAddressBook(int clientCount, int housekeeperCount) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setClients(generateClients(clientCount));
+        addressBook.setHousekeepers(generateHousekeepers(housekeeperCount));
+        return addressBook;
+    }
+
+    private SplittableRandom getRandom(long stream, int index) {
+        // SplittableRandom mixes its seed, so neighbouring indexes still get unrelated values
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static Name generateName(int index, SplittableRandom random) {
+        // the index keeps names unique, as two persons with the same name are the same person
+        return new Name(pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random) + " " + index);
+    }
+
+    private static Phone generatePhone(SplittableRandom random) {
+        return new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10_000_000)));
+    }
+
+    private static Email generateEmail(Name name, SplittableRandom random) {
+        String localPart = name.fullName.toLowerCase().replace(' ', '.');
+        return new Email(localPart + "@" + pick(EMAIL_DOMAINS, random));
+    }
+
+    private static Address generateAddress(SplittableRandom random) {
+        return new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS, random) + " "
+                + (1 + random.nextInt(99)) + ", #" + String.format("%02d", 2 + random.nextInt(24)) + "-"
+                + (1 + random.nextInt(300)));
+    }
+
+    private static Area generateArea(SplittableRandom random) {
+        return new Area(ALLOWED_PREAMBLES_AREA[pickWeighted(AREA_WEIGHTS, random)]);
+    }
+
+    private static Set<Tag> generateTags(SplittableRandom random) {
+        // 40% of persons have no tags, 45% have one and 15% have two
+        int roll = random.nextInt(100);
+        int tagCount = roll < 40 ? 0 : roll < 85 ? 1 : 2;
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(pick(TAGS, random)));
+        }
+        return tags;
+    }
+
+    private HousekeepingDetails generateHousekeepingDetails(SplittableRandom random) {
+        if (random.nextInt(100) < CLIENTS_WITHOUT_DETAILS_PERCENT) {
+            return new HousekeepingDetails();
+        }
+        Period interval = INTERVALS[pickWeighted(INTERVAL_WEIGHTS, random)];
+        // clients were last visited up to one and a half intervals ago, so some are due and some are overdue
+        long intervalDays = ChronoUnit.DAYS.between(referenceDate, referenceDate.plus(interval));
+        LocalDate lastHousekeepingDate = referenceDate.minusDays(random.nextLong(intervalDays * 3 / 2 + 1));
+        HousekeepingDetails details = new HousekeepingDetails(lastHousekeepingDate, interval);
+        if (random.nextInt(100) < CLIENTS_WITH_BOOKING_PERCENT) {
+            details.setBooking(new Booking(referenceDate.plusDays(1 + random.nextInt(UPCOMING_DAYS)),
+                    random.nextBoolean() ? "am" : "pm"));
+        }
+        return details;
+    }
+
+    /**
+     * Returns a booking list spread over the history years before the reference date and the next few days,
+     * in date order and without two bookings in the same slot.
+     */
+    private BookingList generateBookingList(SplittableRandom random) {
+        LocalDate firstDate = referenceDate.minusYears(historyYears);
+        long slotCount = 2 * (ChronoUnit.DAYS.between(firstDate, referenceDate) + UPCOMING_DAYS);
+        long bookingCount = Math.min((long) bookingsPerYear * historyYears, slotCount);
+
+        ArrayList<Booking> bookings = new ArrayList<>((int) bookingCount);
+        if (bookingCount == 0) {
+            return new BookingList(bookings);
+        }
+        // random gaps averaging slotCount / bookingCount slots spread the bookings evenly over the whole period
+        long averageGap = slotCount / bookingCount;
+        long slot = random.nextLong(averageGap);
+        while (bookings.size() < bookingCount && slot < slotCount) {
+            bookings.add(new Booking(firstDate.plusDays(slot / 2), slot % 2 == 0 ? "am" : "pm"));
+            slot += 1 + random.nextLong(2 * averageGap - 1);
+        }
+        return new BookingList(bookings);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static int pickWeighted(int[] weights, SplittableRandom random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        throw new AssertionError("Weights do not add up");
+    }
+}
@@ -2,6 +2,7 @@ package housekeeping.hub.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import housekeeping.hub.commons.exceptions.DataLoadingException;
@@ -17,6 +18,14 @@ public interface AddressBookStorage {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the files that the hub book saved to the data file at {@code filePath} is kept in, which is only the
+     * data file itself unless the storage spreads the hub book over several files.
+     */
+    default List<Path> getDataFilePaths(Path filePath) {
+        return List.of(filePath);
+    }
+
     /**
      * Returns AddressBook data as a {@link ReadOnlyAddressBook}.
      * Returns {@code Optional.empty()} if storage file is not found.
@@ -0,0 +1,24 @@
+package housekeeping.hub.storage;
+
+import java.nio.file.Path;
+
+import housekeeping.hub.commons.core.StorageSettings;
+
+/**
+ * Creates {@link AddressBookStorage}s of one backend.
+ * Providers are found through {@link java.util.ServiceLoader}, so a backend can be added by listing its provider
+ * in {@code META-INF/services/housekeeping.hub.storage.AddressBookStorageProvider}.
+ */
+public interface AddressBookStorageProvider {
+
+    /**
+     * Returns the name used to choose this backend in {@link StorageSettings#getBackend()}.
+     */
+    String getName();
+
+    /**
+     * Returns a storage of this backend for the data at {@code filePath}, tuned with {@code settings}.
+     * Settings that do not apply to this backend are ignored.
+     */
+    AddressBookStorage create(Path filePath, StorageSettings settings);
+}
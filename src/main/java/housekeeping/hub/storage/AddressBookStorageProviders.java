@@ -0,0 +1,63 @@
+package housekeeping.hub.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.logging.Logger;
+
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+
+/**
+ * Looks up the {@link AddressBookStorageProvider}s available on the class path.
+ */
+public class AddressBookStorageProviders {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageProviders.class);
+
+    /**
+     * Returns the provider of the backend named {@code name}, if there is one.
+     */
+    public static Optional<AddressBookStorageProvider> find(String name) {
+        requireNonNull(name);
+        for (AddressBookStorageProvider provider : ServiceLoader.load(AddressBookStorageProvider.class)) {
+            if (provider.getName().equals(name)) {
+                return Optional.of(provider);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the names of all available backends.
+     */
+    public static List<String> getNames() {
+        List<String> names = new ArrayList<>();
+        for (AddressBookStorageProvider provider : ServiceLoader.load(AddressBookStorageProvider.class)) {
+            names.add(provider.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Returns a storage for the data at {@code filePath} from the backend chosen in {@code settings}.
+     * Falls back to the json backend if the chosen backend is not available.
+     */
+    public static AddressBookStorage create(Path filePath, StorageSettings settings) {
+        requireNonNull(filePath);
+        requireNonNull(settings);
+
+        Optional<AddressBookStorageProvider> provider = find(settings.getBackend());
+        if (!provider.isPresent()) {
+            logger.warning("Storage backend " + settings.getBackend() + " is not available."
+                    + " Using the " + JsonAddressBookStorageProvider.NAME + " backend instead.");
+            return new JsonAddressBookStorageProvider().create(filePath, settings);
+        }
+        logger.info("Using storage backend : " + settings.getBackend());
+        return provider.get().create(filePath, settings);
+    }
+}
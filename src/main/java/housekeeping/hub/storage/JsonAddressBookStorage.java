@@ -3,11 +3,14 @@ package housekeeping.hub.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
 import housekeeping.hub.commons.exceptions.DataLoadingException;
 import housekeeping.hub.commons.exceptions.IllegalValueException;
 import housekeeping.hub.commons.util.FileUtil;
@@ -22,9 +25,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final StorageSettings settings;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that writes with the buffer size, compression level and sync mode
+     * in {@code settings}.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageSettings settings) {
         this.filePath = filePath;
+        this.settings = settings;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,17 +58,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        JsonStorageEvent event = new JsonStorageEvent();
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(jsonAddressBook.get().toModelType());
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        } finally {
+            commitEvent(event, JsonStorageEvent.READ, filePath);
         }
     }
 
@@ -73,8 +92,35 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonStorageEvent event = new JsonStorageEvent();
+        event.begin();
+        try {
+            JsonSerializableAddressBook jsonAddressBook = new JsonSerializableAddressBook(addressBook);
+            FileUtil.writeAtomically(filePath, settings.getBufferSize(), settings.getCompressionLevel(),
+                    settings.getSyncMode() == SyncMode.FSYNC,
+                    out -> JsonUtil.writeJson(out, jsonAddressBook));
+        } finally {
+            commitEvent(event, JsonStorageEvent.WRITE, filePath);
+        }
+    }
+
+    /**
+     * Ends {@code event} and commits it, with the size of the file at {@code filePath}, if Java Flight Recorder
+     * is recording it.
+     */
+    private static void commitEvent(JsonStorageEvent event, String operation, Path filePath) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.setOperation(operation);
+        event.setFilePath(filePath.toString());
+        try {
+            event.setBytes(Files.isRegularFile(filePath) ? Files.size(filePath) : -1);
+        } catch (IOException e) {
+            event.setBytes(-1);
+        }
+        event.commit();
     }
 
 }
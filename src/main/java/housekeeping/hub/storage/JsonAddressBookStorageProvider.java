@@ -0,0 +1,25 @@
+package housekeeping.hub.storage;
+
+import java.nio.file.Path;
+
+import housekeeping.hub.commons.core.StorageSettings;
+
+/**
+ * Provides the {@value #NAME} backend, which stores clients and housekeepers in a single json file.
+ *
+ * @see JsonAddressBookStorage
+ */
+public class JsonAddressBookStorageProvider implements AddressBookStorageProvider {
+
+    public static final String NAME = "json";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public AddressBookStorage create(Path filePath, StorageSettings settings) {
+        return new JsonAddressBookStorage(filePath, settings);
+    }
+}
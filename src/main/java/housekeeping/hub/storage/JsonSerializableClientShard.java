@@ -0,0 +1,46 @@
+package housekeeping.hub.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import housekeeping.hub.model.ReadOnlyAddressBook;
+
+/**
+ * An Immutable list of clients that is serializable to JSON format, used as the client shard of a
+ * {@link ShardedJsonAddressBookStorage}.
+ */
+@JsonRootName(value = "clients")
+class JsonSerializableClientShard {
+
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableClientShard} with the given clients.
+     */
+    @JsonCreator
+    public JsonSerializableClientShard(@JsonProperty("clients") List<JsonAdaptedClient> clients) {
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+    }
+
+    /**
+     * Converts the clients of a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableClientShard}.
+     */
+    public JsonSerializableClientShard(ReadOnlyAddressBook source) {
+        clients.addAll(source.getClientList().stream()
+                .map(JsonAdaptedClient::new)
+                .collect(Collectors.toList()));
+    }
+
+    public List<JsonAdaptedClient> getClients() {
+        return clients;
+    }
+}
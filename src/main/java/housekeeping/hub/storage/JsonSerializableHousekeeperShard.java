@@ -0,0 +1,46 @@
+package housekeeping.hub.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import housekeeping.hub.model.ReadOnlyAddressBook;
+
+/**
+ * An Immutable list of housekeepers that is serializable to JSON format, used as the housekeeper shard of a
+ * {@link ShardedJsonAddressBookStorage}.
+ */
+@JsonRootName(value = "housekeepers")
+class JsonSerializableHousekeeperShard {
+
+    private final List<JsonAdaptedHousekeeper> housekeepers = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableHousekeeperShard} with the given housekeepers.
+     */
+    @JsonCreator
+    public JsonSerializableHousekeeperShard(@JsonProperty("housekeepers") List<JsonAdaptedHousekeeper> housekeepers) {
+        if (housekeepers != null) {
+            this.housekeepers.addAll(housekeepers);
+        }
+    }
+
+    /**
+     * Converts the housekeepers of a given {@code ReadOnlyAddressBook} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableHousekeeperShard}.
+     */
+    public JsonSerializableHousekeeperShard(ReadOnlyAddressBook source) {
+        housekeepers.addAll(source.getHousekeeperList().stream()
+                .map(JsonAdaptedHousekeeper::new)
+                .collect(Collectors.toList()));
+    }
+
+    public List<JsonAdaptedHousekeeper> getHousekeepers() {
+        return housekeepers;
+    }
+}
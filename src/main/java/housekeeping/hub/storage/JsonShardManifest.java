@@ -0,0 +1,56 @@
+package housekeeping.hub.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import housekeeping.hub.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of a {@link ShardedJsonAddressBookStorage}.
+ * Records the format version and the file names of the shards, relative to the manifest's folder.
+ */
+class JsonShardManifest {
+
+    public static final int FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported data file format version: %1$d";
+    public static final String MESSAGE_MISSING_SHARD = "Data file manifest does not name its %1$s shard.";
+
+    private final int formatVersion;
+    private final String clients;
+    private final String housekeepers;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shard file names.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("formatVersion") int formatVersion,
+                             @JsonProperty("clients") String clients,
+                             @JsonProperty("housekeepers") String housekeepers) {
+        this.formatVersion = formatVersion;
+        this.clients = clients;
+        this.housekeepers = housekeepers;
+    }
+
+    public String getClients() {
+        return clients;
+    }
+
+    public String getHousekeepers() {
+        return housekeepers;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if this manifest cannot be read by this version of the app.
+     */
+    public void verify() throws IllegalValueException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        if (clients == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, "clients"));
+        }
+        if (housekeepers == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, "housekeepers"));
+        }
+    }
+}
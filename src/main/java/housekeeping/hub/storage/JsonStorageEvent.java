@@ -0,0 +1,44 @@
+package housekeeping.hub.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for one read or write of a JSON data file.
+ */
+@Name("housekeeping.hub.JsonStorage")
+@Label("JSON Storage")
+@Category({"Housekeeping Hub", "Storage"})
+@Description("A read or write of a JSON data file")
+public class JsonStorageEvent extends Event {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("File Size")
+    @Description("Size of the data file on disk, after any compression, or -1 if unknown")
+    @DataAmount
+    private long bytes;
+
+    void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,173 @@
+package housekeeping.hub.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.util.CsvUtil;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.commons.util.JsonUtil;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.Person;
+
+/**
+ * Writes persons to a file for use by other tools, one person at a time, so that the whole file is never held
+ * in memory.
+ * A CSV file has the columns read by the {@code import} command. A JSON lines file has one person per line with
+ * every field of the data file, and a {@code type} field of {@code client} or {@code housekeeper}.
+ */
+public class PersonExporter {
+
+    /**
+     * The formats that persons can be exported to, each of which is chosen by the extension of the file.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format of files with the extension of {@code filePath}, if there is one.
+         */
+        public static Optional<Format> forFile(Path filePath) {
+            String fileName = filePath.getFileName().toString().toLowerCase();
+            return Arrays.stream(values()).filter(format -> fileName.endsWith(format.extension)).findFirst();
+        }
+    }
+
+    public static final String CSV_HEADER = "type,name,phone,email,address,area,tags,details";
+
+    private final StorageSettings settings;
+
+    public PersonExporter() {
+        this(new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code PersonExporter} that writes with the buffer size in {@code settings}.
+     */
+    public PersonExporter(StorageSettings settings) {
+        requireNonNull(settings);
+        this.settings = settings;
+    }
+
+    /**
+     * Writes {@code clients} and then {@code housekeepers} to {@code filePath} in {@code format}, replacing the
+     * file once all of them have been written. Persons are taken from the iterators only as they are written.
+     *
+     * @return the number of persons written.
+     */
+    public long export(Path filePath, Format format, Iterator<? extends Client> clients,
+            Iterator<? extends Housekeeper> housekeepers) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(clients);
+        requireNonNull(housekeepers);
+
+        long[] personCount = new long[1];
+        FileUtil.writeAtomically(filePath, settings.getBufferSize(), 0, false, out -> {
+            // the writer is flushed rather than closed, as the stream is closed by writeAtomically
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            while (clients.hasNext()) {
+                writePerson(writer, format, clients.next());
+                personCount[0]++;
+            }
+            while (housekeepers.hasNext()) {
+                writePerson(writer, format, housekeepers.next());
+                personCount[0]++;
+            }
+            writer.flush();
+        });
+        return personCount[0];
+    }
+
+    private static void writePerson(Writer writer, Format format, Person person) throws IOException {
+        if (format == Format.CSV) {
+            writer.write(toCsvRow(person));
+        } else {
+            writer.write(JsonUtil.toJsonLine(new JsonLine(person)));
+        }
+        writer.write('\n');
+    }
+
+    private static String toCsvRow(Person person) {
+        String tags = person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(";"));
+        return CsvUtil.joinRow(List.of(person.isClient() ? "client" : "housekeeper", person.getName().fullName,
+                person.getPhone().value, person.getEmail().value, person.getAddress().value, person.getArea().value,
+                tags, person.isClient() ? toCsvDetails(person.getDetails()) : ""));
+    }
+
+    /**
+     * Returns {@code details} in the format of the {@code add} command, without the booking and deferment, which
+     * that format does not have.
+     */
+    private static String toCsvDetails(HousekeepingDetails details) {
+        if (details == null || details.isEmpty() || details.getLastHousekeepingDate() == null
+                || details.getPreferredInterval() == null) {
+            return "";
+        }
+        Period interval = details.getPreferredInterval();
+        String quantity;
+        if (interval.getDays() == 0 && interval.getMonths() == 0) {
+            quantity = interval.getYears() + " years";
+        } else if (interval.getDays() == 0) {
+            quantity = interval.toTotalMonths() + " months";
+        } else if (interval.toTotalMonths() == 0 && interval.getDays() % 7 == 0) {
+            quantity = interval.getDays() / 7 + " weeks";
+        } else if (interval.toTotalMonths() == 0) {
+            quantity = interval.getDays() + " days";
+        } else {
+            // an interval of both months and days cannot be given in one unit, so it is left for the user to fix
+            quantity = interval.toString();
+        }
+        return details.getLastHousekeepingDate() + " " + quantity;
+    }
+
+    /**
+     * A person as written to a JSON lines file.
+     */
+    private static class JsonLine {
+        private final String type;
+        @JsonUnwrapped
+        private final JsonAdaptedPerson person;
+
+        JsonLine(Person person) {
+            if (person.isClient()) {
+                this.type = "client";
+                this.person = new JsonAdaptedClient((Client) person);
+            } else {
+                this.type = "housekeeper";
+                this.person = new JsonAdaptedHousekeeper((Housekeeper) person);
+            }
+        }
+    }
+}
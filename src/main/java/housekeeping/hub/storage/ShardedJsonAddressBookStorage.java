@@ -0,0 +1,204 @@
+package housekeeping.hub.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.commons.exceptions.IllegalValueException;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.commons.util.JsonUtil;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A class to access AddressBook data stored as a set of json files on the hard disk.
+ * The file at the storage path is a small manifest naming one shard file for clients and one for housekeepers,
+ * kept in the same folder. On save, only the shards whose list has changed since the last save are rewritten.
+ */
+public class ShardedJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String CLIENT_SHARD_SUFFIX = "-clients.json";
+    public static final String HOUSEKEEPER_SHARD_SUFFIX = "-housekeepers.json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonAddressBookStorage.class);
+
+    private final Path filePath;
+    private final StorageSettings settings;
+    private final ShardTracker<Client> clientShard = new ShardTracker<>();
+    private final ShardTracker<Housekeeper> housekeeperShard = new ShardTracker<>();
+    private Path lastSavedManifestPath;
+
+    public ShardedJsonAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code ShardedJsonAddressBookStorage} that writes with the buffer size, compression level and
+     * sync mode in {@code settings}.
+     */
+    public ShardedJsonAddressBookStorage(Path filePath, StorageSettings settings) {
+        this.filePath = filePath;
+        this.settings = settings;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A shard named by the manifest that does not exist is read as an empty list.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().verify();
+            List<JsonAdaptedClient> clients = JsonUtil.readJsonFile(
+                    resolveShard(filePath, manifest.get().getClients()), JsonSerializableClientShard.class)
+                    .map(JsonSerializableClientShard::getClients)
+                    .orElse(Collections.emptyList());
+            List<JsonAdaptedHousekeeper> housekeepers = JsonUtil.readJsonFile(
+                    resolveShard(filePath, manifest.get().getHousekeepers()), JsonSerializableHousekeeperShard.class)
+                    .map(JsonSerializableHousekeeperShard::getHousekeepers)
+                    .orElse(Collections.emptyList());
+            return Optional.of(new JsonSerializableAddressBook(clients, housekeepers).toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path clientShardPath = getClientShardPath(filePath);
+        Path housekeeperShardPath = getHousekeeperShardPath(filePath);
+
+        ObservableList<Client> clients = addressBook.getClientList();
+        if (clientShard.needsSave(clients, clientShardPath)) {
+            writeJsonFile(clientShardPath, new JsonSerializableClientShard(addressBook));
+            clientShard.markSaved(clients, clientShardPath);
+        }
+
+        ObservableList<Housekeeper> housekeepers = addressBook.getHousekeeperList();
+        if (housekeeperShard.needsSave(housekeepers, housekeeperShardPath)) {
+            writeJsonFile(housekeeperShardPath, new JsonSerializableHousekeeperShard(addressBook));
+            housekeeperShard.markSaved(housekeepers, housekeeperShardPath);
+        }
+
+        if (!filePath.equals(lastSavedManifestPath) || !Files.exists(filePath)) {
+            writeJsonFile(filePath, new JsonShardManifest(JsonShardManifest.FORMAT_VERSION,
+                    clientShardPath.getFileName().toString(),
+                    housekeeperShardPath.getFileName().toString()));
+            lastSavedManifestPath = filePath;
+        }
+    }
+
+    private void writeJsonFile(Path path, Object jsonFile) throws IOException {
+        FileUtil.writeAtomically(path, settings.getBufferSize(), settings.getCompressionLevel(),
+                settings.getSyncMode() == SyncMode.FSYNC,
+                out -> JsonUtil.writeJson(out, jsonFile));
+    }
+
+    @Override
+    public List<Path> getDataFilePaths(Path filePath) {
+        return List.of(filePath, getClientShardPath(filePath), getHousekeeperShardPath(filePath));
+    }
+
+    /**
+     * Returns the path of the client shard that belongs to the manifest at {@code manifestPath}.
+     */
+    public static Path getClientShardPath(Path manifestPath) {
+        return manifestPath.resolveSibling(getStem(manifestPath) + CLIENT_SHARD_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the housekeeper shard that belongs to the manifest at {@code manifestPath}.
+     */
+    public static Path getHousekeeperShardPath(Path manifestPath) {
+        return manifestPath.resolveSibling(getStem(manifestPath) + HOUSEKEEPER_SHARD_SUFFIX);
+    }
+
+    private static String getStem(Path manifestPath) {
+        String fileName = manifestPath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private static Path resolveShard(Path manifestPath, String shardFileName) {
+        return manifestPath.resolveSibling(shardFileName);
+    }
+
+    /**
+     * Remembers which list was last written to a shard, and whether it has changed since.
+     */
+    private static class ShardTracker<T> {
+        private boolean isDirty = true;
+        private ObservableList<T> trackedList;
+        private Path lastSavedPath;
+        private final ListChangeListener<T> dirtyMarker = change -> isDirty = true;
+
+        /**
+         * Returns true if {@code list} has to be written to {@code path} to keep the shard up to date.
+         */
+        boolean needsSave(ObservableList<T> list, Path path) {
+            return isDirty
+                    || list != trackedList
+                    || !path.equals(lastSavedPath)
+                    || !Files.exists(path);
+        }
+
+        /**
+         * Records that {@code list} has just been written to {@code path}, and starts watching it for changes.
+         */
+        void markSaved(ObservableList<T> list, Path path) {
+            if (list != trackedList) {
+                if (trackedList != null) {
+                    trackedList.removeListener(dirtyMarker);
+                }
+                list.addListener(dirtyMarker);
+                trackedList = list;
+            }
+            lastSavedPath = path;
+            isDirty = false;
+        }
+    }
+}
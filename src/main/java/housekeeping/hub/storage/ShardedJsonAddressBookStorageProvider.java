@@ -0,0 +1,26 @@
+package housekeeping.hub.storage;
+
+import java.nio.file.Path;
+
+import housekeeping.hub.commons.core.StorageSettings;
+
+/**
+ * Provides the {@value #NAME} backend, which keeps clients and housekeepers in separate json files listed by
+ * a manifest.
+ *
+ * @see ShardedJsonAddressBookStorage
+ */
+public class ShardedJsonAddressBookStorageProvider implements AddressBookStorageProvider {
+
+    public static final String NAME = "sharded";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public AddressBookStorage create(Path filePath, StorageSettings settings) {
+        return new ShardedJsonAddressBookStorage(filePath, settings);
+    }
+}
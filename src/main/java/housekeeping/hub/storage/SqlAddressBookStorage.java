@@ -0,0 +1,459 @@
+package housekeeping.hub.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import housekeeping.hub.commons.core.LazyLogger;
+import housekeeping.hub.commons.core.LogsCenter;
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.commons.exceptions.IllegalValueException;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQLite database file on the hard disk.
+ * The database runs in-process through JDBC; no server is needed.
+ *
+ * After a read or a save, the storage remembers the rows that are in the file. The next save to the same file
+ * only upserts the rows of persons that were added or changed and deletes the rows of persons that were removed.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    public static final String JDBC_URL_PREFIX = "jdbc:sqlite:";
+
+    /** Number of rows fetched from the database at a time when loading. */
+    static final int FETCH_SIZE = 512;
+
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(SqlAddressBookStorage.class);
+
+    private static final String TAG_SEPARATOR = "\n";
+    private static final String BOOKING_SEPARATOR = "\n";
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS clients (name TEXT PRIMARY KEY, position INTEGER NOT NULL, phone TEXT NOT NULL, "
+                + "email TEXT NOT NULL, address TEXT NOT NULL, tags TEXT NOT NULL, area TEXT, details TEXT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS housekeepers (name TEXT PRIMARY KEY, position INTEGER NOT NULL, "
+                + "phone TEXT NOT NULL, email TEXT NOT NULL, address TEXT NOT NULL, tags TEXT NOT NULL, area TEXT)",
+        "CREATE TABLE IF NOT EXISTS bookings (housekeeper TEXT NOT NULL, position INTEGER NOT NULL, "
+                + "booking TEXT NOT NULL, PRIMARY KEY (housekeeper, position))"
+    };
+
+    private static final String SELECT_CLIENTS = "SELECT name, phone, email, address, tags, area, details "
+            + "FROM clients ORDER BY position";
+    private static final String SELECT_HOUSEKEEPERS = "SELECT h.name, h.phone, h.email, h.address, h.tags, h.area, "
+            + "b.booking FROM housekeepers h LEFT JOIN bookings b ON b.housekeeper = h.name "
+            + "ORDER BY h.position, h.name, b.position";
+    private static final String UPSERT_CLIENT = "INSERT INTO clients "
+            + "(name, position, phone, email, address, tags, area, details) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (name) DO UPDATE SET position = excluded.position, phone = excluded.phone, "
+            + "email = excluded.email, address = excluded.address, tags = excluded.tags, area = excluded.area, "
+            + "details = excluded.details";
+    private static final String UPSERT_HOUSEKEEPER = "INSERT INTO housekeepers "
+            + "(name, position, phone, email, address, tags, area) VALUES (?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (name) DO UPDATE SET position = excluded.position, phone = excluded.phone, "
+            + "email = excluded.email, address = excluded.address, tags = excluded.tags, area = excluded.area";
+    private static final String INSERT_BOOKING = "INSERT INTO bookings (housekeeper, position, booking) "
+            + "VALUES (?, ?, ?)";
+    private static final String DELETE_CLIENT = "DELETE FROM clients WHERE name = ?";
+    private static final String DELETE_HOUSEKEEPER = "DELETE FROM housekeepers WHERE name = ?";
+    private static final String DELETE_BOOKINGS = "DELETE FROM bookings WHERE housekeeper = ?";
+
+    /** Index of the bookings in the row values of a housekeeper. */
+    private static final int BOOKINGS_COLUMN = 6;
+
+    private final Path filePath;
+    private final StorageSettings settings;
+
+    // Rows known to be in the file at snapshotPath, keyed by person name
+    private final Map<String, StoredRow> storedClients = new HashMap<>();
+    private final Map<String, StoredRow> storedHousekeepers = new HashMap<>();
+    private Path snapshotPath;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} whose database syncs to disk as chosen by the sync mode in
+     * {@code settings}.
+     */
+    public SqlAddressBookStorage(Path filePath, StorageSettings settings) {
+        this.filePath = filePath;
+        this.settings = settings;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Rows are streamed from the database {@value #FETCH_SIZE} at a time.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        snapshotPath = null;
+        storedClients.clear();
+        storedHousekeepers.clear();
+
+        AddressBook addressBook = new AddressBook();
+        try (Connection connection = connect(filePath)) {
+            readClients(connection, addressBook);
+            readHousekeepers(connection, addressBook);
+        } catch (SQLException e) {
+            logger.warning(() -> "Error reading from database file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        rememberRows(addressBook.getClientList(), storedClients, SqlAddressBookStorage::toRowValues);
+        rememberRows(addressBook.getHousekeeperList(), storedHousekeepers, SqlAddressBookStorage::toRowValues);
+        snapshotPath = filePath;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes every row if {@code filePath} is not the file last read or saved, otherwise only the changed rows.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isFullWrite = !filePath.equals(snapshotPath) || !Files.exists(filePath);
+        if (isFullWrite) {
+            FileUtil.createParentDirsOfFile(filePath);
+            storedClients.clear();
+            storedHousekeepers.clear();
+        }
+        // Forget the snapshot until the transaction commits, so that a failed save is followed by a full write
+        snapshotPath = null;
+
+        try (Connection connection = connect(filePath)) {
+            connection.setAutoCommit(false);
+            try {
+                createSchema(connection, isFullWrite);
+                saveClients(connection, addressBook.getClientList());
+                saveHousekeepers(connection, addressBook.getHousekeeperList());
+                connection.commit();
+            } catch (SQLException e) {
+                // a failed rollback must not hide why the save failed
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackException) {
+                    e.addSuppressed(rollbackException);
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IOException("Error writing to database file " + filePath, e);
+        }
+        snapshotPath = filePath;
+    }
+
+    private Connection connect(Path filePath) throws SQLException {
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA synchronous = "
+                    + (settings.getSyncMode() == SyncMode.FSYNC ? "FULL" : "NORMAL"));
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+
+    private static void createSchema(Connection connection, boolean isEmptied) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : SCHEMA) {
+                statement.execute(table);
+            }
+            if (isEmptied) {
+                statement.execute("DELETE FROM clients");
+                statement.execute("DELETE FROM housekeepers");
+                statement.execute("DELETE FROM bookings");
+            }
+        }
+    }
+
+    private static void readClients(Connection connection, AddressBook addressBook)
+            throws SQLException, IllegalValueException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_CLIENTS)) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    JsonAdaptedClient client = new JsonAdaptedClient(resultSet.getString(1), resultSet.getString(2),
+                            resultSet.getString(3), resultSet.getString(4), toAdaptedTags(resultSet.getString(5)),
+                            new JsonAdaptedDetails(resultSet.getString(7)), resultSet.getString(6));
+                    addressBook.addClient(client.toModelType());
+                }
+            }
+        }
+    }
+
+    private static void readHousekeepers(Connection connection, AddressBook addressBook)
+            throws SQLException, IllegalValueException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_HOUSEKEEPERS)) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                // Rows of the same housekeeper are consecutive, one row per booking
+                String[] current = null;
+                ArrayList<JsonAdaptedBooking> bookings = new ArrayList<>();
+                while (resultSet.next()) {
+                    String name = resultSet.getString(1);
+                    if (current == null || !current[0].equals(name)) {
+                        if (current != null) {
+                            addressBook.addHousekeeper(toAdaptedHousekeeper(current, bookings).toModelType());
+                        }
+                        current = new String[] {name, resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getString(4), resultSet.getString(5), resultSet.getString(6)};
+                        bookings = new ArrayList<>();
+                    }
+                    String booking = resultSet.getString(7);
+                    if (booking != null) {
+                        bookings.add(new JsonAdaptedBooking(booking));
+                    }
+                }
+                if (current != null) {
+                    addressBook.addHousekeeper(toAdaptedHousekeeper(current, bookings).toModelType());
+                }
+            }
+        }
+    }
+
+    private static JsonAdaptedHousekeeper toAdaptedHousekeeper(String[] columns,
+            ArrayList<JsonAdaptedBooking> bookings) {
+        return new JsonAdaptedHousekeeper(columns[0], columns[1], columns[2], columns[3],
+                toAdaptedTags(columns[4]), columns[5], bookings);
+    }
+
+    private static List<JsonAdaptedTag> toAdaptedTags(String tags) {
+        if (tags == null || tags.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(tags.split(TAG_SEPARATOR))
+                .map(JsonAdaptedTag::new)
+                .collect(Collectors.toList());
+    }
+
+    private void saveClients(Connection connection, List<Client> clients) throws SQLException {
+        List<String> removedNames = new ArrayList<>();
+        List<PendingRow> changedRows = diffRows(clients, storedClients, SqlAddressBookStorage::toRowValues,
+                removedNames);
+
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_CLIENT);
+             PreparedStatement delete = connection.prepareStatement(DELETE_CLIENT)) {
+            for (PendingRow row : changedRows) {
+                bindPersonRow(upsert, row, row.values.length);
+                upsert.addBatch();
+            }
+            for (String name : removedNames) {
+                delete.setString(1, name);
+                delete.addBatch();
+            }
+            upsert.executeBatch();
+            delete.executeBatch();
+        }
+        logger.fine(() -> "Saved " + changedRows.size() + " client rows, deleted " + removedNames.size());
+    }
+
+    private void saveHousekeepers(Connection connection, List<Housekeeper> housekeepers) throws SQLException {
+        List<String> removedNames = new ArrayList<>();
+        List<PendingRow> changedRows = diffRows(housekeepers, storedHousekeepers,
+                SqlAddressBookStorage::toRowValues, removedNames);
+
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_HOUSEKEEPER);
+             PreparedStatement delete = connection.prepareStatement(DELETE_HOUSEKEEPER);
+             PreparedStatement deleteBookings = connection.prepareStatement(DELETE_BOOKINGS);
+             PreparedStatement insertBooking = connection.prepareStatement(INSERT_BOOKING)) {
+            for (PendingRow row : changedRows) {
+                bindPersonRow(upsert, row, BOOKINGS_COLUMN);
+                upsert.addBatch();
+                deleteBookings.setString(1, row.name);
+                deleteBookings.addBatch();
+                String bookings = row.values[BOOKINGS_COLUMN];
+                if (!bookings.isEmpty()) {
+                    String[] bookingValues = bookings.split(BOOKING_SEPARATOR);
+                    for (int i = 0; i < bookingValues.length; i++) {
+                        insertBooking.setString(1, row.name);
+                        insertBooking.setInt(2, i);
+                        insertBooking.setString(3, bookingValues[i]);
+                        insertBooking.addBatch();
+                    }
+                }
+            }
+            for (String name : removedNames) {
+                delete.setString(1, name);
+                delete.addBatch();
+                deleteBookings.setString(1, name);
+                deleteBookings.addBatch();
+            }
+            upsert.executeBatch();
+            delete.executeBatch();
+            deleteBookings.executeBatch();
+            insertBooking.executeBatch();
+        }
+        logger.fine(() -> "Saved " + changedRows.size() + " housekeeper rows, deleted " + removedNames.size());
+    }
+
+    /**
+     * Binds the name, position and the first {@code columnCount} values of {@code row} to {@code statement},
+     * in the column order used by the upsert statements.
+     */
+    private static void bindPersonRow(PreparedStatement statement, PendingRow row, int columnCount)
+            throws SQLException {
+        statement.setString(1, row.name);
+        statement.setLong(2, row.position);
+        for (int i = 1; i < columnCount; i++) {
+            statement.setString(i + 2, row.values[i]);
+        }
+    }
+
+    /**
+     * Compares {@code persons} against the rows in {@code stored} and returns the rows that have to be written.
+     * {@code stored} is updated to match {@code persons}, and the names of persons no longer present are added to
+     * {@code removedNames}.
+     *
+     * A person keeps its stored position if that is still after the position of the person before it, so removing
+     * or replacing persons does not move any other row; only reordering the list does.
+     */
+    private static <T extends Person> List<PendingRow> diffRows(List<T> persons, Map<String, StoredRow> stored,
+            Function<T, String[]> toRowValues, List<String> removedNames) {
+        List<PendingRow> changedRows = new ArrayList<>();
+        Set<String> presentNames = new HashSet<>();
+        long lastPosition = 0;
+        for (T person : persons) {
+            String name = person.getName().fullName;
+            String[] values = toRowValues.apply(person);
+            StoredRow storedRow = stored.get(name);
+            presentNames.add(name);
+
+            if (storedRow != null && storedRow.position > lastPosition && Arrays.equals(storedRow.values, values)) {
+                lastPosition = storedRow.position;
+                continue;
+            }
+            long position = storedRow != null && storedRow.position > lastPosition
+                    ? storedRow.position
+                    : lastPosition + 1;
+            stored.put(name, new StoredRow(position, values));
+            changedRows.add(new PendingRow(name, position, values));
+            lastPosition = position;
+        }
+
+        for (Iterator<String> names = stored.keySet().iterator(); names.hasNext();) {
+            String name = names.next();
+            if (!presentNames.contains(name)) {
+                removedNames.add(name);
+                names.remove();
+            }
+        }
+        return changedRows;
+    }
+
+    private static <T extends Person> void rememberRows(List<T> persons, Map<String, StoredRow> stored,
+            Function<T, String[]> toRowValues) {
+        long position = 0;
+        for (T person : persons) {
+            position++;
+            stored.put(person.getName().fullName, new StoredRow(position, toRowValues.apply(person)));
+        }
+    }
+
+    private static String[] toRowValues(Client client) {
+        return new String[] {client.getName().fullName, client.getPhone().value, client.getEmail().value,
+            client.getAddress().value, toTagsColumn(client), client.getArea().value,
+            client.getDetails().toString()};
+    }
+
+    private static String[] toRowValues(Housekeeper housekeeper) {
+        return new String[] {housekeeper.getName().fullName, housekeeper.getPhone().value,
+            housekeeper.getEmail().value, housekeeper.getAddress().value, toTagsColumn(housekeeper),
+            housekeeper.getArea().value, housekeeper.getBookingList().getBookings().stream()
+                .map(Booking::toString)
+                .collect(Collectors.joining(BOOKING_SEPARATOR))};
+    }
+
+    private static String toTagsColumn(Person person) {
+        return person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.joining(TAG_SEPARATOR));
+    }
+
+    /**
+     * The values of a person's row as last written to the database.
+     */
+    private static class StoredRow {
+        private final long position;
+        private final String[] values;
+
+        StoredRow(long position, String[] values) {
+            this.position = position;
+            this.values = values;
+        }
+    }
+
+    /**
+     * A person's row that has to be upserted.
+     */
+    private static class PendingRow {
+        private final String name;
+        private final long position;
+        private final String[] values;
+
+        PendingRow(String name, long position, String[] values) {
+            this.name = name;
+            this.position = position;
+            this.values = values;
+        }
+    }
+}
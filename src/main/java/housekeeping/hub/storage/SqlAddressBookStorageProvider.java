@@ -0,0 +1,25 @@
+package housekeeping.hub.storage;
+
+import java.nio.file.Path;
+
+import housekeeping.hub.commons.core.StorageSettings;
+
+/**
+ * Provides the {@value #NAME} backend, which stores an embedded SQLite database.
+ *
+ * @see SqlAddressBookStorage
+ */
+public class SqlAddressBookStorageProvider implements AddressBookStorageProvider {
+
+    public static final String NAME = "sql";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public AddressBookStorage create(Path filePath, StorageSettings settings) {
+        return new SqlAddressBookStorage(filePath, settings);
+    }
+}
@@ -29,4 +29,9 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Reads and saves the hub book with {@code addressBookStorage} from now on.
+     */
+    void setAddressBookStorage(AddressBookStorage addressBookStorage);
+
 }
@@ -1,10 +1,13 @@
 package housekeeping.hub.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
 
+import housekeeping.hub.commons.core.LazyLogger;
 import housekeeping.hub.commons.core.LogsCenter;
 import housekeeping.hub.commons.exceptions.DataLoadingException;
 import housekeeping.hub.model.ReadOnlyAddressBook;
@@ -16,9 +19,10 @@ import housekeeping.hub.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
-    private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final LazyLogger logger = LogsCenter.getLazyLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final StorageMetrics storageMetrics = new StorageMetrics();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -28,6 +32,13 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns how long saving the hub book has taken so far.
+     */
+    public StorageMetrics getStorageMetrics() {
+        return storageMetrics;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -53,6 +64,13 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    @Override
+    public void setAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        logger.info(() -> "Switching to data file: " + addressBookStorage.getAddressBookFilePath());
+        this.addressBookStorage = addressBookStorage;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
@@ -60,7 +78,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -71,7 +89,35 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        storageMetrics.startSave();
+        long start = System.nanoTime();
+        boolean isSuccessful = false;
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            isSuccessful = true;
+        } finally {
+            storageMetrics.finishSave(System.nanoTime() - start, isSuccessful ? getDataSize(filePath) : -1,
+                    isSuccessful);
+        }
+    }
+
+    /**
+     * Returns the total size of the files that the hub book saved to {@code filePath} is kept in, or -1 if one of
+     * them is not a file that can be read.
+     */
+    private long getDataSize(Path filePath) {
+        long size = 0;
+        try {
+            for (Path dataFilePath : addressBookStorage.getDataFilePaths(filePath)) {
+                if (!Files.isRegularFile(dataFilePath)) {
+                    return -1;
+                }
+                size += Files.size(dataFilePath);
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return size;
     }
 }
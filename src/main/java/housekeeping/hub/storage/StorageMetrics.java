@@ -0,0 +1,69 @@
+package housekeeping.hub.storage;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * How long saving the hub book takes, and how large it is when saved.
+ * Can be read from any thread without locking.
+ */
+public class StorageMetrics {
+
+    private final LongAdder saveCount = new LongAdder();
+    private final LongAdder failedSaveCount = new LongAdder();
+    private final LongAdder totalSaveNanos = new LongAdder();
+    private final AtomicInteger savesInProgress = new AtomicInteger();
+    private final AtomicLong lastSaveNanos = new AtomicLong();
+    private final AtomicLong lastSaveBytes = new AtomicLong();
+
+    /**
+     * Records that a save has started.
+     */
+    void startSave() {
+        savesInProgress.incrementAndGet();
+    }
+
+    /**
+     * Records that a save that took {@code nanos} has finished, leaving data files of {@code bytes} bytes in total, or
+     * a negative number if unknown.
+     */
+    void finishSave(long nanos, long bytes, boolean isSuccessful) {
+        savesInProgress.decrementAndGet();
+        saveCount.increment();
+        totalSaveNanos.add(nanos);
+        lastSaveNanos.set(nanos);
+        if (isSuccessful && bytes >= 0) {
+            lastSaveBytes.set(bytes);
+        }
+        if (!isSuccessful) {
+            failedSaveCount.increment();
+        }
+    }
+
+    public long getSaveCount() {
+        return saveCount.sum();
+    }
+
+    public long getFailedSaveCount() {
+        return failedSaveCount.sum();
+    }
+
+    public long getTotalSaveNanos() {
+        return totalSaveNanos.sum();
+    }
+
+    /** Returns the number of saves that have started but not finished. */
+    public int getSavesInProgress() {
+        return savesInProgress.get();
+    }
+
+    public long getLastSaveNanos() {
+        return lastSaveNanos.get();
+    }
+
+    /** Returns the total size of the data files after the last successful save, in bytes. */
+    public long getLastSaveBytes() {
+        return lastSaveBytes.get();
+    }
+}
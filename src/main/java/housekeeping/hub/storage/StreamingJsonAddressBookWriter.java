@@ -0,0 +1,75 @@
+package housekeeping.hub.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.commons.util.FileUtil;
+import housekeeping.hub.commons.util.JsonUtil;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+
+/**
+ * Writes persons to a data file in the format read by {@link JsonAddressBookStorage}, one person at a time.
+ * Unlike {@link JsonAddressBookStorage#saveAddressBook(housekeeping.hub.model.ReadOnlyAddressBook)}, the persons
+ * never have to be in memory together, so files far larger than the heap can be written.
+ */
+public class StreamingJsonAddressBookWriter {
+
+    private final StorageSettings settings;
+
+    public StreamingJsonAddressBookWriter() {
+        this(new StorageSettings());
+    }
+
+    /**
+     * Creates a {@code StreamingJsonAddressBookWriter} that writes with the buffer size, compression level and
+     * sync mode in {@code settings}.
+     */
+    public StreamingJsonAddressBookWriter(StorageSettings settings) {
+        requireNonNull(settings);
+        this.settings = settings;
+    }
+
+    /**
+     * Writes {@code clients} and {@code housekeepers} to {@code filePath}, replacing the file once all of them
+     * have been written. Persons are taken from the iterators only as they are written.
+     * Uniqueness is not checked here, but is checked when the file is read.
+     *
+     * @return the number of persons written.
+     */
+    public long write(Path filePath, Iterator<? extends Client> clients,
+            Iterator<? extends Housekeeper> housekeepers) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(clients);
+        requireNonNull(housekeepers);
+
+        long[] personCount = new long[1];
+        FileUtil.writeAtomically(filePath, settings.getBufferSize(), settings.getCompressionLevel(),
+                settings.getSyncMode() == SyncMode.FSYNC, out -> {
+                    try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                        generator.writeStartObject();
+                        generator.writeArrayFieldStart("clients");
+                        while (clients.hasNext()) {
+                            generator.writeObject(new JsonAdaptedClient(clients.next()));
+                            personCount[0]++;
+                        }
+                        generator.writeEndArray();
+                        generator.writeArrayFieldStart("housekeepers");
+                        while (housekeepers.hasNext()) {
+                            generator.writeObject(new JsonAdaptedHousekeeper(housekeepers.next()));
+                            personCount[0]++;
+                        }
+                        generator.writeEndArray();
+                        generator.writeEndObject();
+                    }
+                });
+        return personCount[0];
+    }
+}
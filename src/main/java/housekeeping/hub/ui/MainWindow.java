@@ -1,8 +1,7 @@
 package housekeeping.hub.ui;
 
-import java.util.logging.Logger;
-
 import housekeeping.hub.commons.core.GuiSettings;
+import housekeeping.hub.commons.core.LazyLogger;
 import housekeeping.hub.commons.core.LogsCenter;
 import housekeeping.hub.logic.Logic;
 import housekeeping.hub.logic.commands.CommandResult;
@@ -27,7 +26,7 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
-    private final Logger logger = LogsCenter.getLogger(getClass());
+    private final LazyLogger logger = LogsCenter.getLazyLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
@@ -190,7 +189,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -203,7 +202,7 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -39,10 +39,27 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "bookings.txt");
+        parametersStub.namedParameters.put("script-mode", AppParameters.SCRIPT_MODE_ALL_OR_NOTHING);
+        expected.setScriptPath(Paths.get("bookings.txt"));
+        expected.setScriptAllOrNothing(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_scriptIgnored() {
+        parametersStub.namedParameters.put("script", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", isScriptAllOrNothing=" + appParameters.isScriptAllOrNothing() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +83,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
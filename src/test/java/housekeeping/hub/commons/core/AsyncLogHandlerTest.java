@@ -0,0 +1,148 @@
+package housekeeping.hub.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void flush_publishedRecords_writtenInOrder() {
+        CollectingHandler target = new CollectingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.records.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.records.get(i).getMessage());
+        }
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_fromLogger_keepsCallerAsSource() {
+        CollectingHandler target = new CollectingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, target);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.info("message");
+        handler.flush();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+        handler.close();
+    }
+
+    @Test
+    public void publish_fullQueueWithDropPolicy_dropsOnlyRecordsBelowWarning() throws Exception {
+        BlockingHandler target = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, OverflowPolicy.DROP, target);
+
+        // the writer takes the first record and waits in the target, after which the queue fills up
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(target.isWriting.await(5, TimeUnit.SECONDS));
+        handler.publish(new LogRecord(Level.INFO, "second"));
+        handler.publish(new LogRecord(Level.INFO, "third"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        handler.publish(new LogRecord(Level.FINE, "dropped"));
+        assertEquals(2, handler.getDroppedCount());
+
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        target.canWrite.countDown();
+        warningThread.join(5000);
+        handler.close();
+
+        List<String> messages = target.getMessages();
+        assertEquals(List.of("first", "second", "third", "warning"),
+                messages.stream().filter(message -> !message.contains("dropped")).collect(Collectors.toList()));
+        assertTrue(messages.contains("2 log records were dropped as logging fell behind"));
+        assertFalse(messages.contains("dropped"));
+    }
+
+    @Test
+    public void close_queuedRecords_writesThemAndClosesTargets() {
+        CollectingHandler target = new CollectingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(1024, OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+        handler.close();
+
+        assertEquals(1000, target.records.size());
+        assertTrue(target.isClosed);
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.SEVERE, "late"));
+        assertEquals(1000, target.records.size());
+    }
+
+    /**
+     * A handler that keeps every record published to it.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A handler that holds up the writer at the first record until it is allowed to write.
+     */
+    private static class BlockingHandler extends CollectingHandler {
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch canWrite = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            try {
+                canWrite.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.publish(record);
+        }
+    }
+}
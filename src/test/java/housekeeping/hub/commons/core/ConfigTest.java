@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", storageSettings=" + config.getStorageSettings()
+                + ", commandRecordFilePath=" + config.getCommandRecordFilePath()
+                + ", metricsFilePath=" + config.getMetricsFilePath() + "}";
         assertEquals(expected, config.toString());
     }
 
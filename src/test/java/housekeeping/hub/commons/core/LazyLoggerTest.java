@@ -0,0 +1,94 @@
+package housekeeping.hub.commons.core;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LazyLoggerTest {
+
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private Logger julLogger;
+    private LazyLogger logger;
+
+    @BeforeEach
+    public void setUp() {
+        julLogger = Logger.getLogger(LazyLoggerTest.class.getName());
+        julLogger.setUseParentHandlers(false);
+        julLogger.addHandler(handler);
+        julLogger.setLevel(Level.INFO);
+        logger = new LazyLogger(julLogger, LazyLoggerTest.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        julLogger.removeHandler(handler);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LazyLogger(null, LazyLoggerTest.class));
+        assertThrows(NullPointerException.class, () -> new LazyLogger(julLogger, null));
+    }
+
+    @Test
+    public void fine_levelOff_messageNotBuilt() {
+        logger.fine(() -> {
+            throw new AssertionError("Message built below the log level");
+        });
+        logger.fine("constant");
+        assertTrue(records.isEmpty());
+        assertFalse(logger.isLoggable(Level.FINE));
+    }
+
+    @Test
+    public void info_levelOn_loggedWithClassAsSource() {
+        logger.info(() -> "built " + 42);
+        logger.warning("constant");
+
+        assertEquals(2, records.size());
+        assertEquals("built 42", records.get(0).getMessage());
+        assertEquals(Level.INFO, records.get(0).getLevel());
+        assertEquals(LazyLoggerTest.class.getName(), records.get(0).getSourceClassName());
+        assertNull(records.get(0).getSourceMethodName());
+        assertEquals("constant", records.get(1).getMessage());
+        assertEquals(Level.WARNING, records.get(1).getLevel());
+    }
+
+    @Test
+    public void log_levelChanged_followsLoggerLevel() {
+        julLogger.setLevel(Level.FINER);
+        logger.finer(() -> "finer");
+        logger.log(Level.FINEST, () -> "finest");
+
+        assertEquals(1, records.size());
+        assertEquals("finer", records.get(0).getMessage());
+    }
+}
@@ -0,0 +1,44 @@
+package housekeeping.hub.commons.util;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitRow_plainValues_splitAtCommas() {
+        assertEquals(List.of("a", " b", "", "c "), CsvUtil.splitRow("a, b,,c "));
+        assertEquals(List.of(""), CsvUtil.splitRow(""));
+        assertEquals(List.of("a", ""), CsvUtil.splitRow("a,"));
+    }
+
+    @Test
+    public void splitRow_quotedValues_quotesRemoved() {
+        assertEquals(List.of("Block 312, Amy Street 1", "north"),
+                CsvUtil.splitRow("\"Block 312, Amy Street 1\",north"));
+        assertEquals(List.of("say \"hi\"", ""), CsvUtil.splitRow("\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitRow_unclosedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () -> CsvUtil.splitRow("a,\"b"));
+    }
+
+    @Test
+    public void joinRow_values_quotedWhereNeeded() {
+        assertEquals("a,,\"b, c\",\"say \"\"hi\"\"\"", CsvUtil.joinRow(List.of("a", "", "b, c", "say \"hi\"")));
+        assertEquals("", CsvUtil.joinRow(List.of()));
+
+        List<String> values = List.of("Block 312, Amy Street 1", "\"", "north");
+        assertEquals(values, CsvUtil.splitRow(CsvUtil.joinRow(values)));
+    }
+
+    @Test
+    public void splitRow_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitRow(null));
+    }
+}
@@ -1,13 +1,24 @@
 package housekeeping.hub.commons.util;
 
 import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    private static final String CONTENT = "{ \"clients\" : [ ], \"housekeepers\" : [ ] }";
+
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,23 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_uncompressed_readBack() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("file.json");
+        FileUtil.writeAtomically(file, 16, 0, true, out -> out.write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(CONTENT, Files.readString(file));
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("folder").resolve("file.json.tmp")));
+    }
+
+    @Test
+    public void writeAtomically_compressed_detectedOnRead() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeAtomically(file, 16, 9, false, out -> out.write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        byte[] written = Files.readAllBytes(file);
+        assertEquals((byte) 0x1f, written[0]);
+        assertEquals((byte) 0x8b, written[1]);
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+    }
+
 }
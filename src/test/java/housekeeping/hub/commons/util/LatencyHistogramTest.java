@@ -0,0 +1,101 @@
+package housekeeping.hub.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucketIndex_smallValues_exact() {
+        for (int value = 0; value < 32; value++) {
+            assertEquals(value, LatencyHistogram.getBucketIndex(value));
+            assertEquals(value, LatencyHistogram.getBucketUpperBound(value));
+        }
+    }
+
+    @Test
+    public void getBucketUpperBound_everyBucket_containsItsValues() {
+        long previousUpperBound = -1;
+        for (int index = 0; LatencyHistogram.getBucketUpperBound(index) != Long.MAX_VALUE; index++) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(index);
+            assertTrue(upperBound > previousUpperBound);
+            assertEquals(index, LatencyHistogram.getBucketIndex(previousUpperBound + 1));
+            assertEquals(index, LatencyHistogram.getBucketIndex(upperBound));
+            // buckets are at most a sixteenth of their lower bound wide
+            assertTrue(upperBound - previousUpperBound <= Math.max(1, (previousUpperBound + 1) / 16));
+            previousUpperBound = upperBound;
+        }
+        assertEquals(LatencyHistogram.getBucketIndex(Long.MAX_VALUE),
+                LatencyHistogram.getBucketIndex(previousUpperBound + 1));
+    }
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 0.001);
+        assertWithinPrecision(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(9_900_000, histogram.getValueAtPercentile(99));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertWithinPrecision(1000, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void add_otherHistogram_combinesValues() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(20);
+        second.record(30);
+
+        first.add(second);
+        assertEquals(3, first.getTotalCount());
+        assertEquals(30, first.getMax());
+        assertEquals(20, first.getMean(), 0.001);
+        assertEquals(20, first.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void reset_recordedValues_forgotten() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / 16, "expected about " + expected + " but was " + actual);
+    }
+}
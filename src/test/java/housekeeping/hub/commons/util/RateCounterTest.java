@@ -0,0 +1,66 @@
+package housekeeping.hub.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class RateCounterTest {
+
+    private final AtomicLong now = new AtomicLong(1000);
+    private final RateCounter counter = new RateCounter(10, now::get);
+
+    @Test
+    public void constructor_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateCounter(0));
+    }
+
+    @Test
+    public void getCount_noEvents_returnsZero() {
+        assertEquals(0, counter.getCount());
+        assertEquals(0, counter.getRatePerSecond());
+    }
+
+    @Test
+    public void getCount_eventsWithinWindow_allCounted() {
+        counter.increment();
+        counter.increment();
+        now.addAndGet(9);
+        counter.increment();
+
+        assertEquals(3, counter.getCount());
+        assertEquals(0.3, counter.getRatePerSecond(), 0.0001);
+    }
+
+    @Test
+    public void getCount_eventsOutsideWindow_notCounted() {
+        counter.increment();
+        now.addAndGet(5);
+        counter.increment();
+        now.addAndGet(5);
+
+        // the first event is now 10 seconds old
+        assertEquals(1, counter.getCount());
+        now.addAndGet(100);
+        assertEquals(0, counter.getCount());
+    }
+
+    @Test
+    public void increment_reusedBucket_oldEventsForgotten() {
+        counter.increment();
+        counter.increment();
+        now.addAndGet(10);
+        counter.increment();
+
+        assertEquals(1, counter.getCount());
+    }
+
+    @Test
+    public void increment_negativeSeconds_counted() {
+        now.set(-5);
+        counter.increment();
+        assertEquals(1, counter.getCount());
+    }
+}
@@ -10,20 +10,31 @@ import static housekeeping.hub.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static housekeeping.hub.testutil.Assert.assertThrows;
 import static housekeeping.hub.testutil.TypicalPersons.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import housekeeping.hub.commons.core.StorageSettings;
 import housekeeping.hub.logic.commands.AddCommand;
 import housekeeping.hub.logic.commands.CommandResult;
 import housekeeping.hub.logic.commands.ListCommand;
 import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandWordMetrics;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
+import housekeeping.hub.logic.replay.CommandRecorder;
+import housekeeping.hub.logic.replay.RecordedCommand;
+import housekeeping.hub.model.AddressBook;
 import housekeeping.hub.model.Model;
 import housekeeping.hub.model.ModelManager;
 import housekeeping.hub.model.ReadOnlyAddressBook;
@@ -83,11 +94,86 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_withCommandRecorder_commandsRecorded() throws Exception {
+        Path recordingPath = temporaryFolder.resolve("commands.jsonl");
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        try (CommandRecorder recorder = new CommandRecorder(recordingPath)) {
+            logic = new LogicManager(model, storage, recorder);
+            logic.execute(ListCommand.COMMAND_WORD + " housekeeper");
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        }
+
+        List<RecordedCommand> recording = CommandRecorder.readRecording(recordingPath);
+        assertEquals(2, recording.size());
+        assertEquals(ListCommand.COMMAND_WORD + " housekeeper", recording.get(0).getCommandText());
+        assertEquals("uicfhmowqewca", recording.get(1).getCommandText());
+    }
+
+    @Test
+    public void execute_commands_latenciesRecorded() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD + " housekeeper");
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("delete client 9"));
+
+        Map<String, CommandWordMetrics> metrics = logic.getCommandMetrics().getMetricsByCommandWord();
+        assertEquals(1, metrics.get(ListCommand.COMMAND_WORD).getCommandCount());
+        assertEquals(1, metrics.get(ListCommand.COMMAND_WORD).getSaveLatencies().getTotalCount());
+        assertEquals(1, metrics.get(CommandMetrics.UNKNOWN_COMMAND_WORD).getFailureCount());
+        CommandWordMetrics deleteMetrics = metrics.get("delete");
+        assertEquals(1, deleteMetrics.getFailureCount());
+        assertEquals(1, deleteMetrics.getExecuteLatencies().getTotalCount());
+        assertEquals(0, deleteMetrics.getSaveLatencies().getTotalCount());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredClientList().remove(0));
     }
 
+    @Test
+    public void prepareBackendSwitch_noCommandDuringConversion_switchedWithoutSaving() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        List<StorageSettings> savedSettings = new ArrayList<>();
+        LogicManager logicManager = new LogicManager(model, storage, null, new StorageSettings(), savedSettings::add);
+        Path targetPath = temporaryFolder.resolve("converted.json");
+        StorageSettings settings = new StorageSettings().withBackend("json");
+
+        Runnable switchToTarget = logicManager.prepareBackendSwitch(new JsonAddressBookStorage(targetPath), settings);
+        // stands for the command that starts the conversion
+        logicManager.execute(ListCommand.COMMAND_WORD + " housekeeper");
+        switchToTarget.run();
+
+        assertEquals(targetPath, storage.getAddressBookFilePath());
+        assertEquals(targetPath, model.getAddressBookFilePath());
+        assertEquals(List.of(settings), savedSettings);
+        assertFalse(Files.exists(targetPath));
+    }
+
+    @Test
+    public void prepareBackendSwitch_commandDuringConversion_bookSavedToTarget() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logicManager = new LogicManager(model, storage);
+        Path targetPath = temporaryFolder.resolve("converted.json");
+
+        Runnable switchToTarget = logicManager.prepareBackendSwitch(new JsonAddressBookStorage(targetPath),
+                new StorageSettings());
+        // stands for the command that starts the conversion
+        logicManager.execute(ListCommand.COMMAND_WORD + " housekeeper");
+        logicManager.execute(AddCommand.COMMAND_WORD + " client" + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + AREA_DESC_AMY);
+        switchToTarget.run();
+
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(targetPath).readAddressBook().get()));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -11,7 +11,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -177,6 +180,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addClients(List<Client> clients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addHousekeepers(List<Housekeeper> housekeepers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -217,6 +230,46 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void deleteClients(Collection<Client> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteHousekeepers(Collection<Housekeeper> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceClients(Map<Client, Client> editedClients) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceHousekeepers(Map<Housekeeper, Housekeeper> editedHousekeepers) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Client> getFilteredClientList() {
             throw new AssertionError("This method should not be called.");
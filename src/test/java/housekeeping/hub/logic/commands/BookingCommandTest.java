@@ -0,0 +1,64 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.BookingList;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.storage.ShardedJsonAddressBookStorage;
+import housekeeping.hub.testutil.AddressBookBuilder;
+import housekeeping.hub.testutil.HousekeeperBuilder;
+import housekeeping.hub.testutil.TypicalPersons;
+import javafx.collections.ListChangeListener;
+
+public class BookingCommandTest {
+    private static final String UNCHANGED_MARKER = "{ \"marker\" : \"not rewritten\" }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_deleteHousekeeperBooking_housekeeperShardRewritten() throws Exception {
+        BookingList bookings = new BookingList();
+        bookings.addBooking("2024-05-12 am");
+        Housekeeper elle = new HousekeeperBuilder(TypicalPersons.ELLE).withBookingList(bookings).build();
+        AddressBook addressBook = new AddressBookBuilder().withClient(TypicalPersons.ALICE).withHousekeeper(elle)
+                .build();
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path clientShardPath = ShardedJsonAddressBookStorage.getClientShardPath(filePath);
+        Path housekeeperShardPath = ShardedJsonAddressBookStorage.getHousekeeperShardPath(filePath);
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(model.getAddressBook());
+        Files.writeString(clientShardPath, UNCHANGED_MARKER);
+        Files.writeString(housekeeperShardPath, UNCHANGED_MARKER);
+
+        List<String> changes = new ArrayList<>();
+        model.getAddressBook().getHousekeeperList().addListener((ListChangeListener<Housekeeper>) change ->
+                changes.add(change.toString()));
+        new BookingCommand("housekeeper", BookingCommand.ACTION_WORD_HOUSEKEEPER_DELETE, INDEX_FIRST_PERSON, 1)
+                .execute(model);
+        assertEquals(1, changes.size());
+
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(UNCHANGED_MARKER, Files.readString(clientShardPath));
+        String housekeeperShard = Files.readString(housekeeperShardPath);
+        assertTrue(housekeeperShard.contains(elle.getName().fullName));
+        assertFalse(housekeeperShard.contains("2024-05-12"));
+    }
+}
@@ -0,0 +1,171 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandFailure;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.BENSON;
+import static housekeeping.hub.testutil.TypicalPersons.CARL;
+import static housekeeping.hub.testutil.TypicalPersons.DANIEL;
+import static housekeeping.hub.testutil.TypicalPersons.ELLE;
+import static housekeeping.hub.testutil.TypicalPersons.FIONA;
+import static housekeeping.hub.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Period;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.commons.core.index.Index;
+import housekeeping.hub.logic.Messages;
+import housekeeping.hub.logic.commands.BulkCommand.Selector;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.Area;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.ContainsKeywordsPredicate;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.tag.Tag;
+import housekeeping.hub.testutil.ClientBuilder;
+import housekeeping.hub.testutil.HousekeeperBuilder;
+
+public class BulkCommandTest {
+
+    private static final Selector FIRST_TWO = Selector.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+    private static final Selector MEIER = Selector.ofPredicate(new ContainsKeywordsPredicate(
+            List.of(KEYWORD_MATCHING_MEIER), List.of(""), List.of("")));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_deleteRange_success() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteHousekeeper(ELLE);
+        expectedModel.deleteHousekeeper(FIONA);
+
+        assertCommandSuccess(new BulkDeleteCommand("housekeeper", FIRST_TWO), model,
+                String.format(BulkDeleteCommand.MESSAGE_SUCCESS, 2, "housekeeper"), expectedModel);
+    }
+
+    @Test
+    public void execute_deletePredicate_deletesMatchesWhetherShown() {
+        model.updateFilteredClientList(client -> client.equals(ALICE));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deleteClient(BENSON);
+        expectedModel.deleteClient(DANIEL);
+        expectedModel.updateFilteredClientList(client -> client.equals(ALICE));
+
+        assertCommandSuccess(new BulkDeleteCommand("client", MEIER), model,
+                String.format(BulkDeleteCommand.MESSAGE_SUCCESS, 2, "client"), expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOutsideShownList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredHousekeeperList().size() + 1);
+        assertCommandFailure(new BulkDeleteCommand("housekeeper", Selector.ofRange(INDEX_FIRST_PERSON,
+                outOfBoundIndex)), model, Messages.MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noneSelected_throwsCommandException() {
+        Selector nobody = Selector.ofPredicate(new ContainsKeywordsPredicate(List.of("Nobody"), List.of(""),
+                List.of("")));
+        assertCommandFailure(new BulkDeleteCommand("client", nobody), model,
+                String.format(BulkCommand.MESSAGE_NONE_SELECTED, "client"));
+    }
+
+    @Test
+    public void execute_editTagsAndArea_success() {
+        Set<Tag> tags = Set.of(new Tag("vip"));
+        Area area = new Area("northeast");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setClient(ALICE, new ClientBuilder(ALICE).withTags("vip").withArea("northeast").build());
+        expectedModel.setClient(BENSON, new ClientBuilder(BENSON).withTags("vip").withArea("northeast").build());
+
+        assertCommandSuccess(new BulkEditCommand("client", FIRST_TWO, Optional.of(tags), Optional.of(area)),
+                model, String.format(BulkEditCommand.MESSAGE_SUCCESS, 2, "client"), expectedModel);
+    }
+
+    @Test
+    public void execute_editHousekeepers_keepsBookings() {
+        Housekeeper elle = model.getFilteredHousekeeperList().get(0);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setHousekeeper(ELLE, new HousekeeperBuilder(ELLE).withArea("west").build());
+
+        assertCommandSuccess(new BulkEditCommand("housekeeper", Selector.ofRange(INDEX_FIRST_PERSON,
+                INDEX_FIRST_PERSON), Optional.empty(), Optional.of(new Area("west"))), model,
+                String.format(BulkEditCommand.MESSAGE_SUCCESS, 1, "housekeeper"), expectedModel);
+        assertSame(elle.getBookingList(), model.getFilteredHousekeeperList().get(0).getBookingList());
+    }
+
+    @Test
+    public void execute_defer_defersClientsWithDetails() {
+        Client withoutDetails = new ClientBuilder(CARL).withDetails(new HousekeepingDetails()).build();
+        model.setClient(CARL, withoutDetails);
+        Period deferment = Period.ofWeeks(2);
+        Period originalDeferment = ALICE.getDetails().getDeferment();
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new BulkDeferCommand(Selector.ofRange(INDEX_SECOND_PERSON, INDEX_THIRD_PERSON),
+                deferment), model, String.format(BulkDeferCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(BulkDeferCommand.MESSAGE_SKIPPED, 1), expectedModel);
+
+        assertEquals(originalDeferment.plus(deferment), model.getFilteredClientList().get(1).getDetails()
+                .getDeferment());
+        // the details of the replaced client are not changed
+        assertEquals(originalDeferment, BENSON.getDetails().getDeferment());
+    }
+
+    @Test
+    public void execute_deferWithoutDetails_throwsCommandException() {
+        model.setClient(CARL, new ClientBuilder(CARL).withDetails(new HousekeepingDetails()).build());
+        assertCommandFailure(new BulkDeferCommand(Selector.ofRange(INDEX_THIRD_PERSON, INDEX_THIRD_PERSON),
+                Period.ofDays(1)), model, BulkDeferCommand.MESSAGE_NO_DETAILS);
+    }
+
+    @Test
+    public void equals() {
+        BulkCommand deleteFirstTwo = new BulkDeleteCommand("client", FIRST_TWO);
+        BulkCommand deferFirstTwo = new BulkDeferCommand(FIRST_TWO, Period.ofDays(1));
+        BulkCommand tagFirstTwo = new BulkEditCommand("client", FIRST_TWO, Optional.of(Set.of()), Optional.empty());
+
+        // same values -> returns true
+        assertTrue(deleteFirstTwo.equals(new BulkDeleteCommand("client", Selector.ofRange(INDEX_FIRST_PERSON,
+                INDEX_SECOND_PERSON))));
+        assertTrue(deferFirstTwo.equals(new BulkDeferCommand(FIRST_TWO, Period.ofDays(1))));
+        assertTrue(tagFirstTwo.equals(new BulkEditCommand("client", FIRST_TWO, Optional.of(Set.of()),
+                Optional.empty())));
+
+        // same object -> returns true
+        assertTrue(deleteFirstTwo.equals(deleteFirstTwo));
+
+        // null -> returns false
+        assertFalse(deleteFirstTwo.equals(null));
+
+        // different action -> returns false
+        assertFalse(deleteFirstTwo.equals(deferFirstTwo));
+        assertFalse(deleteFirstTwo.equals(tagFirstTwo));
+
+        // different type -> returns false
+        assertFalse(deleteFirstTwo.equals(new BulkDeleteCommand("housekeeper", FIRST_TWO)));
+
+        // different selection -> returns false
+        assertFalse(deleteFirstTwo.equals(new BulkDeleteCommand("client", MEIER)));
+
+        // different values -> returns false
+        assertFalse(deferFirstTwo.equals(new BulkDeferCommand(FIRST_TWO, Period.ofDays(2))));
+        assertFalse(tagFirstTwo.equals(new BulkEditCommand("client", FIRST_TWO, Optional.empty(),
+                Optional.of(new Area("west")))));
+    }
+}
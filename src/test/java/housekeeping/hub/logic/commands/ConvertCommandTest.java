@@ -0,0 +1,144 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandFailure;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.logic.commands.ConvertCommand.BackendSwitcher;
+import housekeeping.hub.logic.commands.exceptions.CommandException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.storage.AddressBookStorage;
+import housekeeping.hub.storage.JsonAddressBookStorage;
+import housekeeping.hub.storage.ShardedJsonAddressBookStorage;
+
+public class ConvertCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<AddressBookStorage> switchedTo = new ArrayList<>();
+    private final BackendSwitcher recordingSwitcher = (target, settings) -> () -> switchedTo.add(target);
+
+    @Test
+    public void execute_shardedBackend_success() throws Exception {
+        Path filePath = testFolder.resolve("converted.json");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ConvertCommand.MESSAGE_SUCCESS,
+                model.getAddressBook().getClientList().size(), model.getAddressBook().getHousekeeperList().size(),
+                "sharded", filePath);
+
+        assertCommandSuccess(new ConvertCommand("sharded", filePath, new StorageSettings(), recordingSwitcher,
+                DIRECT_EXECUTOR, DIRECT_EXECUTOR), model, expectedMessage, expectedModel);
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(1, switchedTo.size());
+        assertTrue(switchedTo.get(0) instanceof ShardedJsonAddressBookStorage);
+        assertEquals(filePath, switchedTo.get(0).getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_personChangedAfterCommand_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("converted.json");
+        List<Runnable> writes = new ArrayList<>();
+        ConvertCommand command = new ConvertCommand("json", filePath, new StorageSettings(), recordingSwitcher,
+                writes::add, DIRECT_EXECUTOR);
+        AddressBook expectedAddressBook = new AddressBook(model.getAddressBook());
+
+        command.execute(model);
+        model.deleteClient(model.getAddressBook().getClientList().get(0));
+        writes.forEach(Runnable::run);
+
+        assertEquals(expectedAddressBook,
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_targetNotWritable_notSwitched() throws Exception {
+        // the target is a folder, which the data file cannot be written to
+        new ConvertCommand("json", testFolder, new StorageSettings(), recordingSwitcher, DIRECT_EXECUTOR,
+                DIRECT_EXECUTOR).execute(model);
+        assertTrue(switchedTo.isEmpty());
+    }
+
+    @Test
+    public void execute_configuredCompression_targetCompressed() throws Exception {
+        Path filePath = testFolder.resolve("converted.json");
+        StorageSettings settings = new StorageSettings(StorageSettings.DEFAULT_BACKEND,
+                StorageSettings.DEFAULT_BUFFER_SIZE, SyncMode.NONE, 6);
+        new ConvertCommand("json", filePath, settings, ConvertCommand.NO_SWITCH, DIRECT_EXECUTOR, DIRECT_EXECUTOR)
+                .execute(model);
+
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_unknownBackend_throwsCommandException() {
+        ConvertCommand command = new ConvertCommand("csv", testFolder.resolve("converted.csv"));
+        CommandException exception = assertThrows(CommandException.class, () -> command.execute(model));
+        assertTrue(exception.getMessage().startsWith(String.format(ConvertCommand.MESSAGE_UNKNOWN_BACKEND, "csv", "")));
+    }
+
+    @Test
+    public void execute_currentDataFile_throwsCommandException() {
+        ConvertCommand command = new ConvertCommand("json", model.getAddressBookFilePath());
+        assertCommandFailure(command, model, ConvertCommand.MESSAGE_CURRENT_FILE);
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand convertToSql = new ConvertCommand("sql", Paths.get("a.db"));
+
+        // same object -> returns true
+        assertTrue(convertToSql.equals(convertToSql));
+
+        // same values -> returns true
+        assertTrue(convertToSql.equals(new ConvertCommand("sql", Paths.get("a.db"))));
+
+        // null -> returns false
+        assertFalse(convertToSql.equals(null));
+
+        // different backend -> returns false
+        assertFalse(convertToSql.equals(new ConvertCommand("json", Paths.get("a.db"))));
+
+        // different file path -> returns false
+        assertFalse(convertToSql.equals(new ConvertCommand("sql", Paths.get("b.db"))));
+
+        // different settings -> returns false
+        assertFalse(convertToSql.equals(new ConvertCommand("sql", Paths.get("a.db"),
+                new StorageSettings(StorageSettings.DEFAULT_BACKEND, 4096, SyncMode.FSYNC, 0),
+                ConvertCommand.NO_SWITCH)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ConvertCommand command = new ConvertCommand("sql", Paths.get("a.db"));
+        String expected = ConvertCommand.class.getCanonicalName() + "{backend=sql, filePath=a.db}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,125 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandFailure;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.logic.commands.ExportCommand.Scope;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.storage.PersonExporter;
+import housekeeping.hub.storage.PersonExporter.Format;
+import housekeeping.hub.testutil.HousekeeperBuilder;
+
+public class ExportCommandTest {
+
+    /** Runs each export on the thread of the command, so that the file is written once the command returns. */
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_shownClientsToCsv_writesThem() throws Exception {
+        Path file = testFolder.resolve("clients.csv");
+        model.updateFilteredClientList(person -> person.getName().equals(ALICE.getName()));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredClientList(person -> person.getName().equals(ALICE.getName()));
+
+        assertCommandSuccess(new ExportCommand(Scope.CLIENT, file, Format.CSV, DIRECT_EXECUTOR), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, 0, file), expectedModel);
+        assertEquals(List.of(PersonExporter.CSV_HEADER,
+                "client,Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",west,friends,"
+                + "2021-10-10 1 months"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_allToCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("all.csv");
+        model.updateFilteredClientList(person -> false);
+        new ExportCommand(Scope.ALL, file, Format.CSV, DIRECT_EXECUTOR).execute(model);
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(getTypicalAddressBook(), importedModel.getAddressBook());
+    }
+
+    @Test
+    public void execute_housekeepersToJsonLines_writesOnePerLine() throws Exception {
+        Path file = testFolder.resolve("housekeepers.jsonl");
+        new ExportCommand(Scope.HOUSEKEEPER, file, Format.JSON_LINES, DIRECT_EXECUTOR).execute(model);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(model.getFilteredHousekeeperList().size(), lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertTrue(lines.get(i).startsWith("{\"type\":\"housekeeper\",\"name\":\""
+                    + model.getFilteredHousekeeperList().get(i).getName().fullName + "\""));
+        }
+    }
+
+    @Test
+    public void execute_laterChanges_notExported() throws Exception {
+        Housekeeper housekeeper = new HousekeeperBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addHousekeeper(housekeeper);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        List<Runnable> pendingExports = new ArrayList<>();
+        Path file = testFolder.resolve("snapshot.jsonl");
+
+        new ExportCommand(Scope.ALL, file, Format.JSON_LINES, pendingExports::add).execute(model);
+        housekeeper.addBooking("2024-05-01 am");
+        model.deleteHousekeeper(housekeeper);
+        assertFalse(Files.exists(file));
+        pendingExports.forEach(Runnable::run);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertFalse(lines.get(0).contains("2024-05-01"));
+    }
+
+    @Test
+    public void execute_currentDataFile_throwsCommandException() {
+        assertCommandFailure(new ExportCommand(Scope.ALL, model.getAddressBookFilePath(), Format.JSON_LINES,
+                DIRECT_EXECUTOR), model, ExportCommand.MESSAGE_CURRENT_FILE);
+    }
+
+    @Test
+    public void execute_folder_throwsCommandException() throws Exception {
+        Path folder = Files.createDirectories(testFolder.resolve("exports.csv"));
+        assertCommandFailure(new ExportCommand(Scope.CLIENT, folder, Format.CSV, DIRECT_EXECUTOR), model,
+                String.format(ExportCommand.MESSAGE_NOT_WRITABLE, folder));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("clients.csv");
+        ExportCommand exportCommand = new ExportCommand(Scope.CLIENT, file, Format.CSV);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Scope.CLIENT, file, Format.CSV)));
+        assertFalse(exportCommand.equals(new ExportCommand(Scope.ALL, file, Format.CSV)));
+        assertFalse(exportCommand.equals(new ExportCommand(Scope.CLIENT, testFolder.resolve("other.csv"),
+                Format.CSV)));
+        assertFalse(exportCommand.equals(new ExportCommand(Scope.CLIENT, file, Format.JSON_LINES)));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(ALICE));
+    }
+}
@@ -0,0 +1,140 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandFailure;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.AMY;
+import static housekeeping.hub.testutil.TypicalPersons.BOB;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.Name;
+import housekeeping.hub.model.person.Phone;
+
+public class ImportCommandTest {
+
+    private static final String AMY_ROW = "client,Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",north,"
+            + "friend,2021-10-10 1 months";
+    private static final String BOB_ROW = "housekeeper,Bob Choo,22222222,bob@example.com,"
+            + "\"Block 123, Bobby Street 3\",south,husband;friend";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validRows_addsThem() throws IOException {
+        Path file = writeFile(ImportCommand.HEADER, AMY_ROW, "", "# a comment", BOB_ROW);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addClient(AMY);
+        expectedModel.addHousekeeper(BOB);
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, 1, file), expectedModel);
+        assertFalse(Files.exists(ImportCommand.getErrorFilePath(file)));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_writesThemToErrorFile() throws IOException {
+        String aliceRow = "client,Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",west";
+        String invalidPhoneRow = "client,Carl Kurz,phone,carl@example.com,Wall Street,east";
+        String housekeeperWithDetailsRow = "housekeeper,Dan Lee,93210283,dan@example.com,Main Street,east,,"
+                + "2021-10-10 1 months";
+        Path file = writeFile(AMY_ROW, aliceRow, invalidPhoneRow, AMY_ROW, "client,Too Few", housekeeperWithDetailsRow);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addClient(AMY);
+
+        Path errorFile = ImportCommand.getErrorFilePath(file);
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, 0, file) + "\n"
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 5, errorFile), expectedModel);
+
+        List<String> expectedErrors = List.of(ImportCommand.HEADER,
+                String.format(ImportCommand.MESSAGE_REJECTED_LINE, 2, ImportCommand.MESSAGE_DUPLICATE_ROW), aliceRow,
+                String.format(ImportCommand.MESSAGE_REJECTED_LINE, 3,
+                        Phone.MESSAGE_CONSTRAINTS), invalidPhoneRow,
+                String.format(ImportCommand.MESSAGE_REJECTED_LINE, 4, ImportCommand.MESSAGE_DUPLICATE_ROW), AMY_ROW,
+                String.format(ImportCommand.MESSAGE_REJECTED_LINE, 5,
+                        String.format(ImportCommand.MESSAGE_COLUMN_COUNT, 6, 8, 2)), "client,Too Few",
+                String.format(ImportCommand.MESSAGE_REJECTED_LINE, 6,
+                        AddHousekeeperCommand.MESSAGE_NO_HOUSEKEEPING_DETAILS), housekeeperWithDetailsRow);
+        assertEquals(expectedErrors, Files.readAllLines(errorFile));
+    }
+
+    @Test
+    public void execute_moreRowsThanChunk_addsAllInOrder() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < ImportCommand.CHUNK_SIZE * 2 + 10; i++) {
+            rows.add("client,Client " + i + ",9" + (1000000 + i) + ",client" + i + "@example.com,Street " + i
+                    + ",north");
+        }
+        Path file = writeFile(rows.toArray(new String[0]));
+
+        new ImportCommand(file).execute(model);
+
+        int typicalClientCount = getTypicalAddressBook().getClientList().size();
+        assertEquals(typicalClientCount + rows.size(), model.getAddressBook().getClientList().size());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(new Name("Client " + i),
+                    model.getAddressBook().getClientList().get(typicalClientCount + i).getName());
+        }
+    }
+
+    @Test
+    public void execute_staleErrorFile_deleted() throws Exception {
+        Path file = writeFile(AMY_ROW);
+        Path errorFile = ImportCommand.getErrorFilePath(file);
+        Files.write(errorFile, List.of("old errors"));
+
+        new ImportCommand(file).execute(model);
+        assertFalse(Files.exists(errorFile));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_FAILURE, file, file));
+    }
+
+    @Test
+    public void getErrorFilePath() {
+        assertEquals(testFolder.resolve("contacts.errors.csv"),
+                ImportCommand.getErrorFilePath(testFolder.resolve("contacts.csv")));
+        assertEquals(testFolder.resolve("contacts.errors.csv"),
+                ImportCommand.getErrorFilePath(testFolder.resolve("contacts")));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("contacts.csv");
+        ImportCommand importCommand = new ImportCommand(file);
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(file)));
+        assertFalse(importCommand.equals(new ImportCommand(testFolder.resolve("other.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(ALICE));
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = testFolder.resolve("contacts.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
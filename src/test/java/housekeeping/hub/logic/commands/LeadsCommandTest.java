@@ -2,9 +2,13 @@ package housekeeping.hub.logic.commands;
 
 import static housekeeping.hub.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
 import java.time.Period;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,6 +16,8 @@ import housekeeping.hub.model.Model;
 import housekeeping.hub.model.ModelManager;
 import housekeeping.hub.model.person.Client;
 import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.LeadScorer;
+import housekeeping.hub.model.tag.Tag;
 import housekeeping.hub.testutil.ClientBuilder;
 
 public class LeadsCommandTest {
@@ -45,4 +51,76 @@ public class LeadsCommandTest {
         assertEquals(model.getFilteredClientList().get(0), clientTwo);
         assertEquals(model.getFilteredClientList().get(1), clientOne);
     }
+
+    @Test
+    public void execute_thenListClients_originalOrderRestored() {
+        Client clientOne = new ClientBuilder().withName("ClientOne").withDetails(new HousekeepingDetails(
+                LocalDate.parse("2021-11-10"), Period.ofMonths(1))).build();
+        Client clientTwo = new ClientBuilder().withName("ClientTwo").withDetails(new HousekeepingDetails(
+                LocalDate.parse("2021-10-10"), Period.ofMonths(1))).build();
+        model.addClient(clientOne);
+        model.addClient(clientTwo);
+
+        new LeadsCommand().execute(model);
+        assertEquals(List.of(clientTwo, clientOne), model.getFilteredClientList());
+
+        new ListClientCommand().execute(model);
+        assertEquals(List.of(clientOne, clientTwo), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_top_showsBestLeadsOnly() {
+        Client monthly = new ClientBuilder().withName("Monthly").withDetails(new HousekeepingDetails(
+                LocalDate.now().minusMonths(2), Period.ofMonths(1))).build();
+        Client weekly = new ClientBuilder().withName("Weekly").withDetails(new HousekeepingDetails(
+                LocalDate.now().minusWeeks(3), Period.ofWeeks(1))).build();
+        Client notDue = new ClientBuilder().withName("Not Due").withDetails(new HousekeepingDetails(
+                LocalDate.now(), Period.ofWeeks(1))).build();
+        model.addClient(monthly);
+        model.addClient(weekly);
+        model.addClient(notDue);
+
+        new LeadsCommand(new LeadScorer(), 1).execute(model);
+        assertEquals(List.of(weekly), model.getFilteredClientList());
+
+        new LeadsCommand(new LeadScorer(), 5).execute(model);
+        assertEquals(List.of(weekly, monthly), model.getFilteredClientList());
+        // only the shown list is sorted
+        assertEquals(List.of(monthly, weekly, notDue), model.getAddressBook().getClientList());
+    }
+
+    @Test
+    public void execute_topThenLeadEdited_editedLeadKeepsItsPlace() {
+        Client monthly = new ClientBuilder().withName("Monthly").withDetails(new HousekeepingDetails(
+                LocalDate.now().minusMonths(2), Period.ofMonths(1))).build();
+        Client weekly = new ClientBuilder().withName("Weekly").withDetails(new HousekeepingDetails(
+                LocalDate.now().minusWeeks(3), Period.ofWeeks(1))).build();
+        model.addClient(monthly);
+        model.addClient(weekly);
+        new LeadsCommand(new LeadScorer(), 5).execute(model);
+
+        Client editedWeekly = new ClientBuilder(weekly).withPhone("91234567").build();
+        model.setClient(weekly, editedWeekly);
+        assertEquals(List.of(editedWeekly, monthly), model.getFilteredClientList());
+    }
+
+    @Test
+    public void equals() {
+        LeadsCommand topTen = new LeadsCommand(new LeadScorer(), 10);
+
+        // same values -> returns true
+        assertTrue(new LeadsCommand().equals(new LeadsCommand()));
+        assertTrue(topTen.equals(new LeadsCommand(new LeadScorer(), 10)));
+
+        // same object -> returns true
+        assertTrue(topTen.equals(topTen));
+
+        // null -> returns false
+        assertFalse(topTen.equals(null));
+
+        // different count or scorer -> returns false
+        assertFalse(topTen.equals(new LeadsCommand()));
+        assertFalse(topTen.equals(new LeadsCommand(new LeadScorer(), 5)));
+        assertFalse(topTen.equals(new LeadsCommand(new LeadScorer(Set.of(new Tag("elderly"))), 10)));
+    }
 }
@@ -0,0 +1,130 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static housekeeping.hub.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandFailure;
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.BENSON;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.logic.parser.AddressBookParser;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.Client;
+import javafx.collections.ListChangeListener;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_runsEveryCommand() throws IOException {
+        Path script = writeScript("# weekly changes", "delete client 1", "", "  delete client 1  ");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deleteClient(ALICE);
+        expectedModel.deleteClient(BENSON);
+
+        assertCommandSuccess(new RunCommand(script, false, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_SUCCESS, 2, script), expectedModel);
+    }
+
+    @Test
+    public void execute_validScript_updatesShownListOnce() throws Exception {
+        Path script = writeScript("delete client 1", "delete client 1", "delete client 1");
+        List<ListChangeListener.Change<? extends Client>> changes = new ArrayList<>();
+        model.getFilteredClientList().addListener((ListChangeListener<Client>) changes::add);
+
+        new RunCommand(script, false, addressBookParser).execute(model);
+        assertEquals(1, model.getFilteredClientList().size());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void execute_failingLines_reportsThemAndKeepsOtherChanges() throws IOException {
+        Path script = writeScript("delete client 1", "delete client 99", "unknown", "run other.txt");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deleteClient(ALICE);
+
+        String expectedMessage = String.format(RunCommand.MESSAGE_FAILED_LINES, 4, script, 3) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 2, MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 3, MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommand.MESSAGE_NESTED_SCRIPT);
+        assertCommandSuccess(new RunCommand(script, false, addressBookParser), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyFailingLines_listsSome() throws Exception {
+        Path script = writeScript(Collections.nCopies(RunCommand.MAX_LISTED_ERRORS + 5, "unknown")
+                .toArray(new String[0]));
+        String result = new RunCommand(script, false, addressBookParser).execute(model).getFeedbackToUser();
+        assertTrue(result.endsWith(String.format(RunCommand.MESSAGE_MORE_ERRORS, 5)));
+        assertFalse(result.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, RunCommand.MAX_LISTED_ERRORS + 1,
+                "")));
+    }
+
+    @Test
+    public void execute_allOrNothingWithFailingLine_noChanges() throws IOException {
+        Path script = writeScript("delete client 1", "delete client 99", "delete client 1");
+        assertCommandFailure(new RunCommand(script, true, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_ALL_OR_NOTHING_FAILED, 2, script,
+                        MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_allOrNothingWithFailingLine_bookingsUnchanged() throws IOException {
+        Path script = writeScript("booking housekeeper add 1 2024-05-12 am", "delete client 99");
+        List<Booking> bookings = new ArrayList<>(model.getFilteredHousekeeperList().get(0).getBookingList()
+                .getBookings());
+        assertCommandFailure(new RunCommand(script, true, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_ALL_OR_NOTHING_FAILED, 2, script,
+                        MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX));
+        assertEquals(bookings, model.getFilteredHousekeeperList().get(0).getBookingList().getBookings());
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path script = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(script, false, addressBookParser), model,
+                String.format(RunCommand.MESSAGE_READ_FAILURE, script, script));
+    }
+
+    @Test
+    public void equals() {
+        Path script = testFolder.resolve("script.txt");
+        RunCommand runCommand = new RunCommand(script, false, addressBookParser);
+
+        assertTrue(runCommand.equals(runCommand));
+        assertTrue(runCommand.equals(new RunCommand(script, false, addressBookParser)));
+        assertFalse(runCommand.equals(new RunCommand(script, true, addressBookParser)));
+        assertFalse(runCommand.equals(new RunCommand(testFolder.resolve("other.txt"), false, addressBookParser)));
+        assertFalse(runCommand.equals(null));
+        assertFalse(runCommand.equals(1));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
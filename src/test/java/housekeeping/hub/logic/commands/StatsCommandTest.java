@@ -0,0 +1,72 @@
+package housekeeping.hub.logic.commands;
+
+import static housekeeping.hub.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandTimer;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    private static final Instant START_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noCommands_showsSizesOnly() {
+        int clientCount = model.getAddressBook().getClientList().size();
+        int housekeeperCount = model.getAddressBook().getHousekeeperList().size();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SIZES, clientCount, clientCount,
+                housekeeperCount, housekeeperCount) + "\n" + StatsCommand.MESSAGE_NO_COMMANDS;
+
+        assertCommandSuccess(new StatsCommand(new CommandMetrics(START_TIME)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_recordedCommands_showsEveryCommandWord() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics(START_TIME);
+        CommandTimer timer = commandMetrics.startCommand("list");
+        timer.endParse();
+        timer.endExecute();
+        timer.finish(true);
+        commandMetrics.startCommand(CommandMetrics.UNKNOWN_COMMAND_WORD).finish(false);
+
+        String feedback = new StatsCommand(commandMetrics).execute(model).getFeedbackToUser();
+        String[] lines = feedback.split("\n");
+        assertEquals(4, lines.length);
+        assertEquals(String.format(StatsCommand.MESSAGE_HEADER, START_TIME), lines[1]);
+        assertTrue(lines[2].startsWith("(unknown): 1 run, 1 failed | parse "));
+        assertTrue(lines[2].endsWith("| execute - | save -"));
+        assertTrue(lines[3].startsWith("list: 1 run, 0 failed | parse "));
+        assertFalse(lines[3].contains("-"));
+    }
+
+    @Test
+    public void equals() {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        StatsCommand statsCommand = new StatsCommand(commandMetrics);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same metrics -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandMetrics)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different metrics -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+    }
+}
@@ -0,0 +1,106 @@
+package housekeeping.hub.logic.metrics;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.FlightRecorderUtil.recordEvents;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.util.JsonUtil;
+import jdk.jfr.consumer.RecordedEvent;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandMetrics commandMetrics = new CommandMetrics(Instant.parse("2024-01-01T00:00:00Z"));
+
+    @Test
+    public void startCommand_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandMetrics.startCommand(null));
+    }
+
+    @Test
+    public void startCommand_successfulCommand_allStagesRecorded() {
+        CommandTimer timer = commandMetrics.startCommand("add");
+        timer.endParse();
+        timer.endExecute();
+        timer.finish(true);
+
+        CommandWordMetrics metrics = commandMetrics.getMetricsByCommandWord().get("add");
+        assertEquals(1, metrics.getCommandCount());
+        assertEquals(0, metrics.getFailureCount());
+        assertEquals(1, metrics.getParseLatencies().getTotalCount());
+        assertEquals(1, metrics.getExecuteLatencies().getTotalCount());
+        assertEquals(1, metrics.getSaveLatencies().getTotalCount());
+    }
+
+    @Test
+    public void startCommand_failedParse_laterStagesNotRecorded() {
+        CommandTimer timer = commandMetrics.startCommand("edit");
+        timer.finish(false);
+        // finishing again does not count the command twice
+        timer.finish(false);
+
+        CommandWordMetrics metrics = commandMetrics.getMetricsByCommandWord().get("edit");
+        assertEquals(1, metrics.getCommandCount());
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(1, metrics.getParseLatencies().getTotalCount());
+        assertEquals(0, metrics.getExecuteLatencies().getTotalCount());
+        assertEquals(0, metrics.getSaveLatencies().getTotalCount());
+    }
+
+    @Test
+    public void startCommand_flightRecorderRecording_commandEventRecorded() throws Throwable {
+        List<RecordedEvent> events = recordEvents(CommandEvent.class, () -> {
+            CommandTimer timer = commandMetrics.startCommand("add");
+            timer.endParse();
+            timer.finish(false);
+        });
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("add", event.getString("commandWord"));
+        assertFalse(event.getBoolean("isSuccessful"));
+        assertEquals(0, event.getLong("saveDuration"));
+        assertTrue(event.getDuration().toNanos() >= event.getLong("parseDuration"));
+    }
+
+    @Test
+    public void getMetricsByCommandWord_sortedByCommandWord() {
+        commandMetrics.startCommand("list").finish(true);
+        commandMetrics.startCommand("add").finish(true);
+        commandMetrics.startCommand("list").finish(true);
+
+        Map<String, CommandWordMetrics> metricsByCommandWord = commandMetrics.getMetricsByCommandWord();
+        assertEquals(List.of("add", "list"), List.copyOf(metricsByCommandWord.keySet()));
+        assertEquals(2, metricsByCommandWord.get("list").getCommandCount());
+    }
+
+    @Test
+    public void saveToFile_savesSummaryOfEveryCommandWord() throws Exception {
+        CommandTimer timer = commandMetrics.startCommand("add");
+        timer.endParse();
+        timer.finish(false);
+        Path filePath = testFolder.resolve("metrics.json");
+
+        commandMetrics.saveToFile(filePath);
+
+        Map<?, ?> saved = JsonUtil.readJsonFile(filePath, Map.class).get();
+        assertEquals("2024-01-01T00:00:00Z", saved.get("sessionStart"));
+        Map<?, ?> add = (Map<?, ?>) ((Map<?, ?>) saved.get("commands")).get("add");
+        assertEquals(1, add.get("count"));
+        assertEquals(1, add.get("failures"));
+        assertEquals(1, ((Map<?, ?>) add.get("execute")).get("count"));
+        assertEquals(0, ((Map<?, ?>) add.get("save")).get("count"));
+    }
+}
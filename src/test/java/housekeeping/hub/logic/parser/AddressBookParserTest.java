@@ -8,21 +8,38 @@ import static housekeeping.hub.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Paths;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import housekeeping.hub.logic.commands.AddClientCommand;
+import housekeeping.hub.logic.commands.BulkCommand;
+import housekeeping.hub.logic.commands.BulkCommand.Selector;
+import housekeeping.hub.logic.commands.BulkDeleteCommand;
 import housekeeping.hub.logic.commands.ClearCommand;
+import housekeeping.hub.logic.commands.ConvertCommand;
 import housekeeping.hub.logic.commands.DeleteClientCommand;
 import housekeeping.hub.logic.commands.DeleteHousekeeperCommand;
 import housekeeping.hub.logic.commands.EditClientCommand;
 import housekeeping.hub.logic.commands.EditCommand.EditPersonDescriptor;
 import housekeeping.hub.logic.commands.EditHousekeeperCommand;
 import housekeeping.hub.logic.commands.ExitCommand;
+import housekeeping.hub.logic.commands.ExportCommand;
+import housekeeping.hub.logic.commands.ExportCommand.Scope;
+import housekeeping.hub.logic.commands.FindCommand;
 import housekeeping.hub.logic.commands.HelpCommand;
+import housekeeping.hub.logic.commands.ImportCommand;
+import housekeeping.hub.logic.commands.LeadsCommand;
 import housekeeping.hub.logic.commands.ListCommand;
+import housekeeping.hub.logic.commands.RunCommand;
+import housekeeping.hub.logic.commands.StatsCommand;
+import housekeeping.hub.logic.metrics.CommandMetrics;
 import housekeeping.hub.logic.parser.exceptions.ParseException;
 import housekeeping.hub.model.person.Client;
 import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.LeadScorer;
+import housekeeping.hub.storage.PersonExporter.Format;
 import housekeeping.hub.testutil.ClientBuilder;
 import housekeeping.hub.testutil.EditPersonDescriptorBuilder;
 import housekeeping.hub.testutil.HousekeeperBuilder;
@@ -45,6 +62,13 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_convert() throws Exception {
+        ConvertCommand command = (ConvertCommand) parser.parseCommand(
+                ConvertCommand.COMMAND_WORD + " sql data/addressbook.db");
+        assertEquals(new ConvertCommand("sql", Paths.get("data/addressbook.db")), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         // Delete client
@@ -111,6 +135,96 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " client") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        AddressBookParser parserWithMetrics = new AddressBookParser(commandMetrics);
+        assertEquals(new StatsCommand(commandMetrics), parserWithMetrics.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandMetrics),
+                parserWithMetrics.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("bookings.txt"), true, parser),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " " + RunCommand.ALL_OR_NOTHING + " bookings.txt"));
+    }
+
+    @Test
+    public void parseCommand_bulk() throws Exception {
+        assertEquals(new BulkDeleteCommand("housekeeper", Selector.ofRange(INDEX_FIRST_PERSON, INDEX_FIRST_PERSON)),
+                parser.parseCommand(BulkCommand.COMMAND_WORD + " housekeeper delete 1"));
+    }
+
+    @Test
+    public void parseCommand_leads() throws Exception {
+        assertEquals(new LeadsCommand(), parser.parseCommand(LeadsCommand.COMMAND_WORD + " 3"));
+        assertEquals(new LeadsCommand(new LeadScorer(), 3), parser.parseCommand(LeadsCommand.COMMAND_WORD + " top 3"));
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(Scope.ALL, Paths.get("backup.jsonl"), Format.JSON_LINES),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " all backup.jsonl"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(Paths.get("contacts.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " contacts.csv"));
+    }
+
+    @Test
+    public void findCommandWord_builtInCommands_found() {
+        assertEquals(Optional.of(ListCommand.COMMAND_WORD), parser.findCommandWord("  list client"));
+        assertEquals(Optional.of(ExitCommand.COMMAND_WORD), parser.findCommandWord("exit"));
+        assertEquals(Optional.empty(), parser.findCommandWord("unknownCommand client"));
+        assertEquals(Optional.empty(), parser.findCommandWord("   "));
+    }
+
+    @Test
+    public void findCommandWord_aliasesAndAddedCommands_resolved() {
+        AddressBookParser parserWithAliases = new AddressBookParser();
+        parserWithAliases.addAlias("ls", ListCommand.COMMAND_WORD);
+        parserWithAliases.addCommand("bye", arguments -> new ExitCommand());
+
+        assertEquals(Optional.of(ListCommand.COMMAND_WORD), parserWithAliases.findCommandWord("ls client"));
+        assertEquals(Optional.of("bye"), parserWithAliases.findCommandWord(" bye"));
+        assertEquals(Optional.of(ExitCommand.COMMAND_WORD), parserWithAliases.findCommandWord("exit"));
+        assertEquals(Optional.empty(), parserWithAliases.findCommandWord("unknownCommand"));
+        assertEquals(Optional.empty(), parser.findCommandWord("ls client"));
+    }
+
+    @Test
+    public void parseCommand_aliasesAndAddedCommands_parsedByTheirParsers() throws Exception {
+        AddressBookParser parserWithAliases = new AddressBookParser();
+        parserWithAliases.addAlias("ls", ListCommand.COMMAND_WORD);
+        parserWithAliases.addCommand("bye", arguments -> new ExitCommand());
+
+        assertEquals(parser.parseCommand(ListCommand.COMMAND_WORD + " client"),
+                parserWithAliases.parseCommand("ls client"));
+        assertTrue(parserWithAliases.parseCommand("bye") instanceof ExitCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls client"));
+    }
+
+    @Test
+    public void addAlias_invalidOrUsedCommandWord_throwsIllegalArgumentException() {
+        AddressBookParser parserWithAliases = new AddressBookParser();
+        assertThrows(IllegalArgumentException.class, () -> parserWithAliases.addAlias("l s", ListCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> parserWithAliases.addAlias("", ListCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () -> parserWithAliases.addAlias("ls", "unknownCommand"));
+        assertThrows(IllegalArgumentException.class, () ->
+                parserWithAliases.addAlias(ExitCommand.COMMAND_WORD, ListCommand.COMMAND_WORD));
+        assertThrows(IllegalArgumentException.class, () ->
+                parserWithAliases.addCommand(ListCommand.COMMAND_WORD, arguments -> new ExitCommand()));
+    }
+
+    @Test
+    public void parseCommand_sameCommandTwice_sameResult() throws Exception {
+        String findCommand = FindCommand.COMMAND_WORD + " client n/foo";
+        assertEquals(parser.parseCommand(findCommand), parser.parseCommand(findCommand));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -136,6 +136,36 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixTaken() {
+        // "-t" is the start of "-tag", so both match at the start of "-tag" and "-tax"
+        Prefix dashTag = new Prefix("-tag");
+        String argsString = " -tag friends -t colleague -tax free";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTag);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, dashTag, "friends");
+        assertArgumentPresent(argMultimap, dashT, "colleague", "ax free");
+
+        // the order the prefixes are given in does not matter
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashTag, dashT);
+        assertArgumentPresent(argMultimap, dashTag, "friends");
+        assertArgumentPresent(argMultimap, dashT, "colleague", "ax free");
+    }
+
+    @Test
+    public void tokenize_sameTokenizerManyTimes_independentResults() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, new Prefix(""));
+        ArgumentMultimap first = tokenizer.split("preamble p/first -t tag");
+        ArgumentMultimap second = tokenizer.split(" p/second");
+
+        assertPreamblePresent(first, "preamble");
+        assertArgumentPresent(first, pSlash, "first");
+        assertArgumentPresent(first, dashT, "tag");
+        assertPreambleEmpty(second);
+        assertArgumentPresent(second, pSlash, "second");
+        assertArgumentAbsent(second, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -3,6 +3,7 @@ package housekeeping.hub.logic.parser;
 import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -397,4 +398,14 @@ public class BookingCommandParserTest {
         assertParseFailure(parser, INVALID_TYPE, MESSAGE_INVALID_FORMAT);
         assertParseFailure(parser, INVALID_ACTION_WORD, MESSAGE_INVALID_FORMAT);
     }
+
+    @Test
+    public void parse_commonFormsWithOtherSpacing_sameCommands() throws Exception {
+        String[] commonForms = {"client delete 2", "housekeeper delete 1 3", "housekeeper list 4"};
+        for (String commonForm : commonForms) {
+            BookingCommand expectedCommand = parser.parse(" " + commonForm);
+            assertEquals(expectedCommand, parser.parse(commonForm.replace(" ", "  ")));
+            assertEquals(expectedCommand, parser.parse(commonForm.replace(" ", "\t")));
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX;
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static housekeeping.hub.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.time.Period;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.commands.BulkCommand;
+import housekeeping.hub.logic.commands.BulkCommand.Selector;
+import housekeeping.hub.logic.commands.BulkDeferCommand;
+import housekeeping.hub.logic.commands.BulkDeleteCommand;
+import housekeeping.hub.logic.commands.BulkEditCommand;
+import housekeeping.hub.model.person.Area;
+import housekeeping.hub.model.person.ContainsKeywordsPredicate;
+import housekeeping.hub.model.tag.Tag;
+
+public class BulkCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkCommand.MESSAGE_USAGE);
+
+    private final BulkCommandParser parser = new BulkCommandParser();
+
+    @Test
+    public void parse_range_returnsBulkCommand() {
+        assertParseSuccess(parser, " client delete 2",
+                new BulkDeleteCommand("client", Selector.ofRange(INDEX_SECOND_PERSON, INDEX_SECOND_PERSON)));
+        assertParseSuccess(parser, " housekeeper delete 1-3 ",
+                new BulkDeleteCommand("housekeeper", Selector.ofRange(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON)));
+    }
+
+    @Test
+    public void parse_keywords_returnsBulkCommand() {
+        Selector selector = Selector.ofPredicate(new ContainsKeywordsPredicate(List.of("Alice", "Bob"), List.of(""),
+                List.of("west")));
+        assertParseSuccess(parser, " client delete n/Alice Bob ar/west", new BulkDeleteCommand("client", selector));
+    }
+
+    @Test
+    public void parse_actions_returnsBulkCommand() {
+        Selector selector = Selector.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        assertParseSuccess(parser, " client tag 1-2 t/vip t/friends", new BulkEditCommand("client", selector,
+                Optional.of(Set.of(new Tag("vip"), new Tag("friends"))), Optional.empty()));
+        assertParseSuccess(parser, " client tag 1-2 t/", new BulkEditCommand("client", selector,
+                Optional.of(Set.of()), Optional.empty()));
+        assertParseSuccess(parser, " housekeeper area 1-2 to/east", new BulkEditCommand("housekeeper", selector,
+                Optional.empty(), Optional.of(new Area("east"))));
+        assertParseSuccess(parser, " client defer 1-2 d/2 weeks", new BulkDeferCommand(selector, Period.ofWeeks(2)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client delete", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client remove 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client tag 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client area 1", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client defer 1", MESSAGE_INVALID_FORMAT);
+
+        // values of another action
+        assertParseFailure(parser, " client delete 1 t/vip", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " client tag 1 to/east", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidSelection_throwsParseException() {
+        assertParseFailure(parser, " client delete 0", MESSAGE_INVALID_CLIENT_DISPLAYED_INDEX);
+        assertParseFailure(parser, " housekeeper delete 1-a", MESSAGE_INVALID_HOUSEKEEPER_DISPLAYED_INDEX);
+        assertParseFailure(parser, " client delete 3-1", BulkCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " client delete 1-2 n/Alice", BulkCommandParser.MESSAGE_RANGE_AND_KEYWORDS);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " client area 1 to/middle", Area.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " client tag 1 t/v~p", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " client defer 1 d/soon", BulkCommandParser.MESSAGE_INVALID_DEFERMENT);
+        assertParseFailure(parser, " housekeeper defer 1 d/2 weeks", BulkDeferCommand.MESSAGE_CLIENTS_ONLY);
+    }
+}
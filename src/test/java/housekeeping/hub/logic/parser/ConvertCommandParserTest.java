@@ -0,0 +1,48 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.logic.commands.ConvertCommand;
+
+public class ConvertCommandParserTest {
+
+    private final ConvertCommandParser parser = new ConvertCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsConvertCommand() {
+        assertParseSuccess(parser, " sql data/addressbook.db",
+                new ConvertCommand("sql", Paths.get("data/addressbook.db")));
+
+        // extra whitespace between backend and file path
+        assertParseSuccess(parser, "  sharded    data/my book.json ",
+                new ConvertCommand("sharded", Paths.get("data/my book.json")));
+    }
+
+    @Test
+    public void parse_configuredSettings_commandWritesWithSettings() {
+        StorageSettings settings = new StorageSettings(StorageSettings.DEFAULT_BACKEND, 4096, SyncMode.FSYNC, 6);
+        assertParseSuccess(new ConvertCommandParser(settings, ConvertCommand.NO_SWITCH),
+                " sql data/addressbook.db",
+                new ConvertCommand("sql", Paths.get("data/addressbook.db"), settings, ConvertCommand.NO_SWITCH));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " sql", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " sql data/\0book.db", ConvertCommandParser.MESSAGE_INVALID_PATH);
+    }
+}
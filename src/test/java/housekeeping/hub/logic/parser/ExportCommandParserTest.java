@@ -0,0 +1,42 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.commands.ExportCommand;
+import housekeeping.hub.logic.commands.ExportCommand.Scope;
+import housekeeping.hub.storage.PersonExporter.Format;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " client data/leads.csv",
+                new ExportCommand(Scope.CLIENT, Paths.get("data/leads.csv"), Format.CSV));
+        assertParseSuccess(parser, "  housekeeper   data/east housekeepers.JSONL ",
+                new ExportCommand(Scope.HOUSEKEEPER, Paths.get("data/east housekeepers.JSONL"), Format.JSON_LINES));
+        assertParseSuccess(parser, " all backup.jsonl",
+                new ExportCommand(Scope.ALL, Paths.get("backup.jsonl"), Format.JSON_LINES));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " client", expectedMessage);
+        assertParseFailure(parser, " clients leads.csv", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        assertParseFailure(parser, " client data/\0leads.csv", ExportCommandParser.MESSAGE_INVALID_PATH);
+        assertParseFailure(parser, " client data/leads.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
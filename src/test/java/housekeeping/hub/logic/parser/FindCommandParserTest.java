@@ -8,8 +8,10 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import housekeeping.hub.logic.Messages;
 import housekeeping.hub.logic.commands.FindClientCommand;
 import housekeeping.hub.logic.commands.FindCommand;
+import housekeeping.hub.logic.commands.FindHousekeeperCommand;
 import housekeeping.hub.model.person.ContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -33,4 +35,16 @@ public class FindCommandParserTest {
         //assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_namesOnly_sameAsTokenized() {
+        FindHousekeeperCommand expectedFindCommand = new FindHousekeeperCommand(new ContainsKeywordsPredicate(
+                Arrays.asList("Alice", "Bob"), Arrays.asList(""), Arrays.asList("")));
+        assertParseSuccess(parser, " housekeeper n/Alice Bob", expectedFindCommand);
+        assertParseSuccess(parser, " housekeeper  n/ \t Alice  Bob ", expectedFindCommand);
+
+        assertParseFailure(parser, " housekeeper n/", FindCommand.MESSAGE_NOT_FOUND);
+        assertParseFailure(parser, " housekeeper n/Alice n/Bob",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_NAME));
+    }
+
 }
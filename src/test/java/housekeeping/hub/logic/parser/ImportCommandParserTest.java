@@ -0,0 +1,34 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " data/contacts.csv", new ImportCommand(Paths.get("data/contacts.csv")));
+
+        // file path with spaces
+        assertParseSuccess(parser, "  data/new franchise.csv ", new ImportCommand(Paths.get("data/new franchise.csv")));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " data/\0contacts.csv", ImportCommandParser.MESSAGE_INVALID_PATH);
+    }
+}
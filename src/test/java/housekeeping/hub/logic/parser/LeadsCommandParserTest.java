@@ -0,0 +1,42 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.commands.LeadsCommand;
+import housekeeping.hub.model.person.LeadScorer;
+import housekeeping.hub.model.tag.Tag;
+
+public class LeadsCommandParserTest {
+
+    private final LeadsCommandParser parser = new LeadsCommandParser();
+
+    @Test
+    public void parse_noTop_returnsLeadsCommand() {
+        assertParseSuccess(parser, "", new LeadsCommand());
+        assertParseSuccess(parser, " all of them", new LeadsCommand());
+    }
+
+    @Test
+    public void parse_top_returnsLeadsCommand() {
+        assertParseSuccess(parser, " top 20", new LeadsCommand(new LeadScorer(), 20));
+        assertParseSuccess(parser, " top 5 t/elderly t/office",
+                new LeadsCommand(new LeadScorer(Set.of(new Tag("elderly"), new Tag("office"))), 5));
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeadsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " top", expectedMessage);
+        assertParseFailure(parser, " top t/elderly", expectedMessage);
+        assertParseFailure(parser, " top 5 10", expectedMessage);
+        assertParseFailure(parser, " top 0", LeadsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " top many", LeadsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " top 5 t/v~p", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
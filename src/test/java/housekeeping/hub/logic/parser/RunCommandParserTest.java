@@ -0,0 +1,42 @@
+package housekeeping.hub.logic.parser;
+
+import static housekeeping.hub.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static housekeeping.hub.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final RunCommandParser parser = new RunCommandParser(addressBookParser);
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        assertParseSuccess(parser, " data/bookings.txt",
+                new RunCommand(Paths.get("data/bookings.txt"), false, addressBookParser));
+
+        // file path with spaces
+        assertParseSuccess(parser, "  data/weekly bookings.txt ",
+                new RunCommand(Paths.get("data/weekly bookings.txt"), false, addressBookParser));
+
+        assertParseSuccess(parser, " all-or-nothing   data/bookings.txt",
+                new RunCommand(Paths.get("data/bookings.txt"), true, addressBookParser));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " all-or-nothing ", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, " data/\0bookings.txt", RunCommandParser.MESSAGE_INVALID_PATH);
+    }
+}
@@ -0,0 +1,80 @@
+package housekeeping.hub.logic.replay;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+
+public class CommandRecorderTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandRecorder(null));
+        assertThrows(NullPointerException.class, () -> new CommandRecorder(testFolder.resolve("a.jsonl"), null));
+    }
+
+    @Test
+    public void record_thenReadRecording_sameCommands() throws Exception {
+        Path filePath = testFolder.resolve("recordings").resolve("commands.jsonl");
+        try (CommandRecorder recorder = new CommandRecorder(filePath, FIXED_CLOCK)) {
+            recorder.record("list client");
+            recorder.record("find client n/\"Alice\" Bob");
+        }
+
+        List<RecordedCommand> expected = List.of(
+                new RecordedCommand(1_700_000_000_000L, "list client"),
+                new RecordedCommand(1_700_000_000_000L, "find client n/\"Alice\" Bob"));
+        assertEquals(expected, CommandRecorder.readRecording(filePath));
+    }
+
+    @Test
+    public void record_existingRecording_appended() throws Exception {
+        Path filePath = testFolder.resolve("commands.jsonl");
+        try (CommandRecorder recorder = new CommandRecorder(filePath, FIXED_CLOCK)) {
+            recorder.record("list client");
+        }
+        try (CommandRecorder recorder = new CommandRecorder(filePath, FIXED_CLOCK)) {
+            recorder.record("exit");
+        }
+
+        List<RecordedCommand> recording = CommandRecorder.readRecording(filePath);
+        assertEquals(2, recording.size());
+        assertEquals("exit", recording.get(1).getCommandText());
+    }
+
+    @Test
+    public void readRecording_missingFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                CommandRecorder.readRecording(testFolder.resolve("missing.jsonl")));
+    }
+
+    @Test
+    public void readRecording_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.jsonl");
+        Files.write(filePath, List.of("{\"time\":1,\"command\":\"list client\"}", "not json"),
+                StandardCharsets.UTF_8);
+        assertThrows(DataLoadingException.class, () -> CommandRecorder.readRecording(filePath));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("list", new RecordedCommand(0, "  list client").getCommandWord());
+        assertEquals("", new RecordedCommand(0, "   ").getCommandWord());
+    }
+}
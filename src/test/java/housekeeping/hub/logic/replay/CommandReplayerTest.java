@@ -0,0 +1,83 @@
+package housekeeping.hub.logic.replay;
+
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.util.LatencyHistogram;
+import housekeeping.hub.logic.Logic;
+import housekeeping.hub.logic.LogicManager;
+import housekeeping.hub.logic.replay.CommandReplayer.Pacing;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.storage.JsonAddressBookStorage;
+import housekeeping.hub.storage.JsonUserPrefsStorage;
+import housekeeping.hub.storage.StorageManager;
+
+public class CommandReplayerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void replay_fullSpeed_allCommandsTimed() throws Exception {
+        List<RecordedCommand> commands = List.of(
+                new RecordedCommand(0, "list client"),
+                new RecordedCommand(10, "delete client 1"),
+                new RecordedCommand(20, "delete client 100"),
+                new RecordedCommand(30, "unknowncommand"));
+        int clientCount = model.getAddressBook().getClientList().size();
+
+        ReplayReport report = new CommandReplayer(logic, Pacing.FULL_SPEED).replay(commands);
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(2, report.getFailureCount());
+        assertEquals(clientCount - 1, model.getAddressBook().getClientList().size());
+        Map<String, LatencyHistogram> byCommandWord = report.getLatenciesByCommandWord();
+        assertEquals(List.of("delete", "list", "unknowncommand"), List.copyOf(byCommandWord.keySet()));
+        assertEquals(2, byCommandWord.get("delete").getTotalCount());
+        assertEquals(4, report.getLatencies().getTotalCount());
+        assertTrue(report.format().contains(ReplayReport.ALL_COMMANDS));
+    }
+
+    @Test
+    public void replay_recordedPacing_waitsForRecordedTimes() throws Exception {
+        List<RecordedCommand> commands = List.of(
+                new RecordedCommand(1000, "list client"),
+                new RecordedCommand(1050, "list housekeeper"));
+
+        ReplayReport report = new CommandReplayer(logic, Pacing.RECORDED).replay(commands);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+        assertTrue(report.getElapsedNanos() >= 50_000_000L);
+    }
+
+    @Test
+    public void replay_noCommands_emptyReport() throws Exception {
+        ReplayReport report = new CommandReplayer(logic, Pacing.RECORDED).replay(List.of());
+        assertEquals(0, report.getCommandCount());
+        assertEquals(0, report.getThroughput());
+    }
+}
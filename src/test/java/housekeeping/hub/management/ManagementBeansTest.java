@@ -0,0 +1,135 @@
+package housekeeping.hub.management;
+
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Paths;
+import java.util.function.Predicate;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.logic.metrics.CommandMetrics;
+import housekeeping.hub.logic.metrics.CommandTimer;
+import housekeeping.hub.model.Model;
+import housekeeping.hub.model.ModelManager;
+import housekeeping.hub.model.UserPrefs;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.storage.StorageMetrics;
+
+public class ManagementBeansTest {
+
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+    private final ManagementBeans managementBeans = new ManagementBeans(server);
+
+    @AfterEach
+    public void tearDown() {
+        managementBeans.unregisterAll();
+    }
+
+    @Test
+    public void register_modelStats_followsModel() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        int clientCount = model.getAddressBook().getClientList().size();
+        assertTrue(managementBeans.register("Model", new ModelStats(model)));
+        ObjectName name = ManagementBeans.getObjectName("Model");
+
+        assertEquals(clientCount, server.getAttribute(name, "ClientCount"));
+        assertEquals(clientCount, server.getAttribute(name, "ListedClientCount"));
+
+        model.deleteClient(ALICE);
+        Predicate<Client> noClients = unused -> false;
+        model.updateFilteredClientList(noClients);
+        assertEquals(clientCount - 1, server.getAttribute(name, "ClientCount"));
+        assertEquals(0, server.getAttribute(name, "ListedClientCount"));
+    }
+
+    @Test
+    public void register_storageStats_readable() throws Exception {
+        assertTrue(managementBeans.register("Storage",
+                new StorageStats("json", Paths.get("data", "addressbook.json"), new StorageMetrics())));
+        ObjectName name = ManagementBeans.getObjectName("Storage");
+
+        assertEquals("json", server.getAttribute(name, "Backend"));
+        assertEquals(0L, server.getAttribute(name, "SaveCount"));
+        assertEquals(0, server.getAttribute(name, "SavesInProgress"));
+        assertEquals(0.0, server.getAttribute(name, "MeanSaveMillis"));
+    }
+
+    @Test
+    public void register_commandStats_readable() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        CommandTimer timer = commandMetrics.startCommand("list");
+        timer.endParse();
+        timer.endExecute();
+        timer.finish(true);
+        commandMetrics.startCommand("list").finish(false);
+        assertTrue(managementBeans.register("Commands", new CommandStats(commandMetrics)));
+        ObjectName name = ManagementBeans.getObjectName("Commands");
+
+        assertEquals(2L, server.getAttribute(name, "CommandCount"));
+        assertEquals(1L, server.getAttribute(name, "FailureCount"));
+        assertTrue((double) server.getAttribute(name, "RecentCommandRate") > 0);
+        TabularData counts = (TabularData) server.getAttribute(name, "CommandCountsByCommandWord");
+        assertEquals(2L, counts.get(new Object[] {"list"}).get("value"));
+    }
+
+    @Test
+    public void register_fxThreadStats_unknownUntilThreadSet() throws Exception {
+        FxThreadStats fxThreadStats = new FxThreadStats();
+        assertTrue(managementBeans.register("FxThread", fxThreadStats));
+        ObjectName name = ManagementBeans.getObjectName("FxThread");
+
+        assertEquals(-1.0, server.getAttribute(name, "CpuTimeMillis"));
+        fxThreadStats.setThread(Thread.currentThread());
+        assertTrue((double) server.getAttribute(name, "CpuTimeMillis") >= 0);
+    }
+
+    @Test
+    public void getBusyFraction_busyAfterQuietSpell_measuredOverRecentWindow() throws Exception {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        FxThreadStats fxThreadStats = new FxThreadStats(200_000_000L);
+        assertEquals(-1.0, fxThreadStats.getBusyFraction());
+
+        long startNanos = System.nanoTime();
+        long startCpuNanos = threadMxBean.getThreadCpuTime(threadId);
+        fxThreadStats.setThread(Thread.currentThread());
+        for (int i = 0; i < 4; i++) {
+            Thread.sleep(250);
+            fxThreadStats.getBusyFraction();
+        }
+        long busyUntil = System.nanoTime() + 250_000_000L;
+        while (System.nanoTime() < busyUntil) {
+            Thread.onSpinWait();
+        }
+
+        // compared with the busy fraction since the start, since the thread may not get a whole CPU while it spins
+        double busyFraction = fxThreadStats.getBusyFraction();
+        double lifetimeBusyFraction = (double) (threadMxBean.getThreadCpuTime(threadId) - startCpuNanos)
+                / (System.nanoTime() - startNanos);
+        assertTrue(busyFraction > 2 * lifetimeBusyFraction);
+    }
+
+    @Test
+    public void register_sameTypeTwice_secondNotRegistered() {
+        assertTrue(managementBeans.register("FxThread", new FxThreadStats()));
+        assertFalse(managementBeans.register("FxThread", new FxThreadStats()));
+    }
+
+    @Test
+    public void unregisterAll_registeredBeans_unregistered() throws Exception {
+        managementBeans.register("FxThread", new FxThreadStats());
+        managementBeans.unregisterAll();
+        assertFalse(server.isRegistered(ManagementBeans.getObjectName("FxThread")));
+    }
+}
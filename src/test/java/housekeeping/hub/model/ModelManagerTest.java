@@ -2,27 +2,49 @@ package housekeeping.hub.model;
 
 import static housekeeping.hub.model.Model.PREDICATE_SHOW_ALL_CLIENTS;
 import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.FlightRecorderUtil.recordEvents;
 import static housekeeping.hub.testutil.TypicalPersons.ALICE;
 import static housekeeping.hub.testutil.TypicalPersons.BENSON;
 import static housekeeping.hub.testutil.TypicalPersons.BOB;
+import static housekeeping.hub.testutil.TypicalPersons.CARL;
 import static housekeeping.hub.testutil.TypicalPersons.ELLE;
+import static housekeeping.hub.testutil.TypicalPersons.FIONA;
+import static housekeeping.hub.testutil.TypicalPersons.GEORGE;
+import static housekeeping.hub.testutil.TypicalPersons.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import housekeeping.hub.commons.core.GuiSettings;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.ClientComparator;
 import housekeeping.hub.model.person.ContainsKeywordsPredicate;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.person.HousekeepingDetails;
+import housekeeping.hub.model.person.LeadsFilterPredicate;
+import housekeeping.hub.model.person.Person;
 import housekeeping.hub.model.person.exceptions.DuplicatePersonException;
 import housekeeping.hub.model.person.exceptions.PersonNotFoundException;
 import housekeeping.hub.testutil.AddressBookBuilder;
+import housekeeping.hub.testutil.ClientBuilder;
+import housekeeping.hub.testutil.HousekeeperBuilder;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class ModelManagerTest {
 
@@ -120,6 +142,49 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredHousekeeperList().remove(0));
     }
 
+    @Test
+    public void updateAndSortFilteredClientList_sortsShownClientsOnly() {
+        Client later = new ClientBuilder(ALICE).withDetails(new HousekeepingDetails(LocalDate.parse("2021-11-10"),
+                Period.ofMonths(1))).build();
+        Client earlier = new ClientBuilder(BENSON).withDetails(new HousekeepingDetails(LocalDate.parse("2021-10-10"),
+                Period.ofMonths(1))).build();
+        modelManager.addClient(later);
+        modelManager.addClient(earlier);
+
+        modelManager.updateAndSortFilteredClientList(new LeadsFilterPredicate(), new ClientComparator());
+        assertEquals(List.of(earlier, later), modelManager.getFilteredClientList());
+        assertEquals(List.of(later, earlier), modelManager.getAddressBook().getClientList());
+
+        // clients edited later are moved to their place in the sorted list, but keep their place in the hub book
+        Client editedLater = new ClientBuilder(later).withDetails(new HousekeepingDetails(LocalDate.parse("2021-09-10"),
+                Period.ofMonths(1))).build();
+        modelManager.setClient(later, editedLater);
+        assertEquals(List.of(editedLater, earlier), modelManager.getFilteredClientList());
+        assertEquals(List.of(editedLater, earlier), modelManager.getAddressBook().getClientList());
+    }
+
+    @Test
+    public void updateFilteredClientList_afterSort_hubBookOrderRestored() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        Comparator<Client> reverseOrder = Comparator.comparing((Client client) -> client.getName().fullName)
+                .reversed();
+
+        modelManager.updateAndSortFilteredClientList(client -> true, reverseOrder);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredClientList());
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+
+        // the staged list is sorted and restored the same way during a transaction
+        modelManager.beginTransaction();
+        modelManager.updateAndSortFilteredClientList(client -> true, reverseOrder);
+        assertEquals(List.of(BENSON, ALICE), modelManager.getFilteredClientList());
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+        modelManager.commitTransaction();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredClientList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withClient(ALICE).withClient(BENSON).build();
@@ -288,4 +353,138 @@ public class ModelManagerTest {
         assertFalse(modelManager.getFilteredHousekeeperList().contains(BOB));
         assertTrue(modelManager.getFilteredHousekeeperList().contains(ELLE));
     }
+
+    @Test
+    public void updateFilteredClientList_flightRecorderRecording_filterEventRecorded() throws Throwable {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+        Predicate<Person> isAlice = ALICE::isSamePerson;
+
+        List<RecordedEvent> events = recordEvents(FilterEvent.class, () ->
+                modelManager.updateFilteredClientList(isAlice));
+
+        assertEquals(1, events.size());
+        assertEquals("clients", events.get(0).getString("list"));
+        assertEquals(2, events.get(0).getInt("listSize"));
+        assertEquals(1, events.get(0).getInt("matchCount"));
+    }
+
+    @Test
+    public void commitTransaction_stagedChanges_appliedInOneChangePerList() {
+        modelManager.addClient(ALICE);
+        modelManager.addHousekeeper(ELLE);
+        ObservableList<Client> shownClients = modelManager.getFilteredClientList();
+        List<ListChangeListener.Change<? extends Client>> changes = new ArrayList<>();
+        shownClients.addListener((ListChangeListener<Client>) changes::add);
+
+        modelManager.beginTransaction();
+        modelManager.deleteClient(ALICE);
+        modelManager.addClient(BENSON);
+        modelManager.setHousekeeper(ELLE, BOB);
+        assertEquals(List.of(BENSON), modelManager.getFilteredClientList());
+        assertTrue(modelManager.hasHousekeeper(BOB));
+        // the lists handed out before the transaction are not changed until it is committed
+        assertEquals(List.of(ALICE), shownClients);
+        assertTrue(changes.isEmpty());
+
+        modelManager.commitTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(List.of(BENSON), shownClients);
+        assertEquals(List.of(BOB), modelManager.getFilteredHousekeeperList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void rollbackTransaction_changesInPlace_discarded() {
+        modelManager.addHousekeeper(ELLE);
+        int bookingCount = ELLE.getBookingList().getBookings().size();
+
+        modelManager.beginTransaction();
+        modelManager.getFilteredHousekeeperList().get(0).addBooking("2024-05-12 am");
+        modelManager.addClient(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.hasClient(ALICE));
+        assertEquals(bookingCount, modelManager.getFilteredHousekeeperList().get(0).getBookingList().getBookings()
+                .size());
+        assertEquals(bookingCount, ELLE.getBookingList().getBookings().size());
+    }
+
+    @Test
+    public void commitTransaction_personsChangedInPlace_onlyTouchedPersonsReplaced() {
+        modelManager.addHousekeeper(ELLE);
+        modelManager.addHousekeeper(FIONA);
+        modelManager.addHousekeeper(GEORGE);
+        ObservableList<Housekeeper> housekeepers = modelManager.getAddressBook().getHousekeeperList();
+        List<String> changes = new ArrayList<>();
+        housekeepers.addListener((ListChangeListener<Housekeeper>) change -> {
+            while (change.next()) {
+                changes.add((change.wasReplaced() ? "replaced " : "other ") + change.getFrom() + "-" + change.getTo());
+            }
+        });
+
+        modelManager.beginTransaction();
+        // the housekeepers are copied when they are taken from the list, as the booking command does
+        Housekeeper fiona = modelManager.getFilteredHousekeeperList().get(1);
+        assertNotSame(FIONA, fiona);
+        fiona.addBooking("2024-05-12 am");
+        Housekeeper editedFiona = new HousekeeperBuilder(fiona).withPhone("91234567").build();
+        modelManager.setHousekeeper(fiona, editedFiona);
+        // changed in place without being replaced
+        Housekeeper george = modelManager.getFilteredHousekeeperList().get(2);
+        george.addBooking("2024-05-13 pm");
+        modelManager.commitTransaction();
+
+        assertSame(ELLE, housekeepers.get(0));
+        assertSame(editedFiona, housekeepers.get(1));
+        assertSame(george, housekeepers.get(2));
+        assertEquals(List.of("replaced 1-2", "replaced 2-3"), changes);
+        assertEquals(GEORGE.getBookingList().getBookings().size() + 1, george.getBookingList().getBookings().size());
+    }
+
+    @Test
+    public void commitTransaction_personsOnlyRead_notReplaced() {
+        modelManager.addClient(ALICE);
+        modelManager.addHousekeeper(ELLE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getAddressBook().getClientList().addListener((ListChangeListener<Client>) changes::add);
+        modelManager.getAddressBook().getHousekeeperList().addListener((ListChangeListener<Housekeeper>) changes::add);
+
+        modelManager.beginTransaction();
+        // the persons are copied when they are taken from the list, but are not changed
+        assertNotSame(ALICE, modelManager.getFilteredClientList().get(0));
+        assertNotSame(ELLE, modelManager.getFilteredHousekeeperList().get(0));
+        modelManager.commitTransaction();
+
+        assertTrue(changes.isEmpty());
+        assertSame(ALICE, modelManager.getAddressBook().getClientList().get(0));
+        assertSame(ELLE, modelManager.getAddressBook().getHousekeeperList().get(0));
+    }
+
+    @Test
+    public void commitTransaction_addedThenEditedAndDeleted_appliedInOrder() {
+        modelManager.addClient(ALICE);
+        modelManager.addClient(BENSON);
+
+        modelManager.beginTransaction();
+        modelManager.addClient(CARL);
+        modelManager.addClient(HOON);
+        Client editedCarl = new ClientBuilder(CARL).withPhone("91234567").build();
+        modelManager.setClient(modelManager.getFilteredClientList().get(2), editedCarl);
+        modelManager.deleteClient(modelManager.getFilteredClientList().get(0));
+        modelManager.commitTransaction();
+
+        assertEquals(List.of(BENSON, editedCarl, HOON), modelManager.getAddressBook().getClientList());
+    }
+
+    @Test
+    public void transaction_invalidState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_TRANSACTION, () ->
+                modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_NO_TRANSACTION, () ->
+                modelManager.rollbackTransaction());
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, ModelManager.MESSAGE_TRANSACTION_BEGUN, () ->
+                modelManager.beginTransaction());
+    }
 }
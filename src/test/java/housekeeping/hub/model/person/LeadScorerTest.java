@@ -0,0 +1,108 @@
+package housekeeping.hub.model.person;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.model.tag.Tag;
+import housekeeping.hub.testutil.ClientBuilder;
+
+public class LeadScorerTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2024-06-01");
+    private static final Period WEEKLY = Period.ofWeeks(1);
+    private static final Period MONTHLY = Period.ofMonths(1);
+
+    private final LeadScorer scorer = new LeadScorer();
+
+    @Test
+    public void getTopLeads_onlyLeads_returnsBestFirst() {
+        Client weekly = lead("Weekly", "west", TODAY.minusDays(21), WEEKLY);
+        Client monthly = lead("Monthly", "west", TODAY.minusMonths(1).minusDays(14), MONTHLY);
+        Client notDue = lead("Not Due", "west", TODAY, WEEKLY);
+        Client booked = new ClientBuilder(lead("Booked", "west", TODAY.minusDays(21), WEEKLY))
+                .withBooking(new Booking(TODAY.plusDays(3), "am")).build();
+        Client withoutDetails = new ClientBuilder().withName("Without Details")
+                .withDetails(new HousekeepingDetails()).build();
+        List<Client> clients = List.of(monthly, notDue, booked, withoutDetails, weekly);
+
+        assertEquals(List.of(weekly, monthly), scorer.getTopLeads(clients, 5, TODAY));
+        assertEquals(List.of(weekly), scorer.getTopLeads(clients, 1, TODAY));
+        assertEquals(List.of(), scorer.getTopLeads(List.of(notDue, booked), 1, TODAY));
+    }
+
+    @Test
+    public void getTopLeads_preferredTags_rankedHigher() {
+        Client alice = lead("Alice", "west", TODAY.minusDays(21), WEEKLY);
+        Client bob = lead("Bob", "west", TODAY.minusDays(21), WEEKLY, "elderly");
+
+        // the same scores are ordered by name
+        assertEquals(List.of(alice, bob), scorer.getTopLeads(List.of(bob, alice), 2, TODAY));
+        assertEquals(List.of(bob, alice), new LeadScorer(Set.of(new Tag("elderly")))
+                .getTopLeads(List.of(alice, bob), 2, TODAY));
+    }
+
+    @Test
+    public void getTopLeads_areasWithMoreLeads_rankedHigher() {
+        Client alice = lead("Alice", "west", TODAY.minusMonths(1).minusDays(14), MONTHLY);
+        Client bob = lead("Bob", "east", TODAY.minusMonths(1).minusDays(14), MONTHLY);
+        Client carl = lead("Carl", "east", TODAY.minusMonths(1).minusDays(1), MONTHLY);
+
+        assertEquals(List.of(bob, alice, carl), scorer.getTopLeads(List.of(alice, bob, carl), 3, TODAY));
+    }
+
+    @Test
+    public void getTopLeads_manyClients_keepsBestOfAllThreads() {
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            clients.add(lead("Client " + i, "north", TODAY.minusDays(7 + i), WEEKLY));
+        }
+
+        assertEquals(List.of(clients.get(9999), clients.get(9998), clients.get(9997)),
+                scorer.getTopLeads(clients, 3, TODAY));
+    }
+
+    @Test
+    public void getTopLeads_invalidCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> scorer.getTopLeads(List.of(), 0, TODAY));
+    }
+
+    @Test
+    public void isLead() {
+        assertTrue(LeadScorer.isLead(lead("Due Today", "west", TODAY.minusDays(7), WEEKLY), TODAY));
+        assertFalse(LeadScorer.isLead(lead("Due Tomorrow", "west", TODAY.minusDays(6), WEEKLY), TODAY));
+    }
+
+    @Test
+    public void equals() {
+        LeadScorer elderlyScorer = new LeadScorer(Set.of(new Tag("elderly")));
+
+        // same values -> returns true
+        assertTrue(elderlyScorer.equals(new LeadScorer(Set.of(new Tag("elderly")))));
+        assertTrue(scorer.equals(new LeadScorer(Set.of())));
+
+        // same object -> returns true
+        assertTrue(scorer.equals(scorer));
+
+        // null -> returns false
+        assertFalse(scorer.equals(null));
+
+        // different preferred tags -> returns false
+        assertFalse(scorer.equals(elderlyScorer));
+    }
+
+    private static Client lead(String name, String area, LocalDate lastHousekeepingDate, Period preferredInterval,
+            String... tags) {
+        return new ClientBuilder().withName(name).withArea(area).withTags(tags)
+                .withDetails(new HousekeepingDetails(lastHousekeepingDate, preferredInterval)).build();
+    }
+}
@@ -6,21 +6,27 @@ import static housekeeping.hub.testutil.Assert.assertThrows;
 import static housekeeping.hub.testutil.TypicalPersons.ALICE;
 import static housekeeping.hub.testutil.TypicalPersons.BENSON;
 import static housekeeping.hub.testutil.TypicalPersons.BOB;
+import static housekeeping.hub.testutil.TypicalPersons.CARL;
+import static housekeeping.hub.testutil.TypicalPersons.DANIEL;
 import static housekeeping.hub.testutil.TypicalPersons.ELLE;
 import static housekeeping.hub.testutil.TypicalPersons.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import housekeeping.hub.model.person.exceptions.DuplicatePersonException;
 import housekeeping.hub.model.person.exceptions.PersonNotFoundException;
 import housekeeping.hub.testutil.ClientBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniquePersonListTest {
 
@@ -62,6 +68,132 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueClientList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.addAll(Arrays.asList(BENSON, HOON));
+        UniquePersonList<Client> expectedUniquePersonList = new UniquePersonList<>();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        assertEquals(expectedUniquePersonList, uniqueClientList);
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniqueClientList.addAll(Arrays.asList(BENSON, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniqueClientList.addAll(Arrays.asList(HOON, HOON)));
+        assertEquals(List.of(ALICE), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        uniqueClientList.removeAll(Arrays.asList(HOON, ALICE));
+        assertEquals(List.of(BENSON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniqueClientList.removeAll(Arrays.asList(ALICE, HOON)));
+        assertEquals(List.of(ALICE), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_existingPersons_replacedInPlace() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        Client editedAlice = new ClientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Client editedHoon = new ClientBuilder(HOON).withTags(VALID_TAG_HUSBAND).build();
+        uniqueClientList.replaceAll(Map.of(HOON, editedHoon, ALICE, editedAlice));
+        assertEquals(List.of(editedAlice, BENSON, editedHoon), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniqueClientList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniqueClientList.replaceAll(Map.of(HOON, HOON)));
+    }
+
+    @Test
+    public void replaceAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON));
+        Client renamedAlice = new ClientBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueClientList.replaceAll(Map.of(ALICE, renamedAlice)));
+        assertEquals(List.of(ALICE, BENSON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceAll_notifiesOnlyReplacedPersons() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        List<String> changes = recordChanges(uniqueClientList);
+        uniqueClientList.replaceAll(Map.of(BENSON, new ClientBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build()));
+        assertEquals(List.of("replaced 1-2"), changes);
+    }
+
+    @Test
+    public void batchUpdate_severalChanges_notifiesOnce() {
+        uniqueClientList.add(ALICE);
+        List<String> changes = recordChanges(uniqueClientList);
+        uniqueClientList.batchUpdate(() -> {
+            uniqueClientList.add(BENSON);
+            uniqueClientList.remove(ALICE);
+            uniqueClientList.add(HOON);
+        });
+        assertEquals(1, changes.size());
+        assertEquals(List.of(BENSON, HOON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_notifiesRemovedRangesInOneChange() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON, HOON, CARL, DANIEL));
+        List<String> changes = recordChanges(uniqueClientList);
+        uniqueClientList.removeAll(List.of(BENSON, HOON, DANIEL));
+        assertEquals(List.of("removed 1-1,removed 2-2"), changes);
+        assertEquals(List.of(ALICE, CARL), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_replacingManyPersons_notifiesOneRemoval() {
+        uniqueClientList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+        List<List<Client>> removals = new ArrayList<>();
+        uniqueClientList.asUnmodifiableObservableList().addListener((ListChangeListener<Client>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    removals.add(new ArrayList<>(change.getRemoved()));
+                }
+            }
+        });
+        uniqueClientList.setPersons(List.of(CARL));
+        assertEquals(List.of(List.of(ALICE, BENSON, HOON)), removals);
+    }
+
+    @Test
+    public void sort_notifiesPermutation() {
+        uniqueClientList.setPersons(Arrays.asList(HOON, ALICE, BENSON));
+        List<String> changes = recordChanges(uniqueClientList);
+        uniqueClientList.sort(Comparator.comparing(client -> client.getName().fullName));
+        assertEquals(List.of("permutated"), changes);
+        assertEquals(List.of(ALICE, BENSON, HOON), uniqueClientList.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns the kinds and ranges of the changes to {@code list} that its listeners are notified of from now on,
+     * with the parts of each compound change separated by commas.
+     */
+    private static <T extends Person> List<String> recordChanges(UniquePersonList<T> list) {
+        List<String> changes = new ArrayList<>();
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<T>) change -> {
+            List<String> parts = new ArrayList<>();
+            while (change.next()) {
+                String kind = change.wasPermutated() ? "permutated" : change.wasReplaced() ? "replaced"
+                        : change.wasAdded() ? "added" : "removed";
+                parts.add(change.wasPermutated() ? kind : kind + " " + change.getFrom() + "-" + change.getTo());
+            }
+            changes.add(String.join(",", parts));
+        });
+        return changes;
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setPerson(null, ALICE));
@@ -0,0 +1,91 @@
+package housekeeping.hub.model.util;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.person.Booking;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2024, 6, 1);
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(7L, REFERENCE_DATE);
+
+    @Test
+    public void constructor_invalidBookingCounts_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1L, REFERENCE_DATE, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1L, REFERENCE_DATE, 1, -1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(1L, REFERENCE_DATE, 731, 1));
+    }
+
+    @Test
+    public void generateClient_sameSeedAndIndex_samePerson() {
+        SyntheticDataGenerator otherGenerator = new SyntheticDataGenerator(7L, REFERENCE_DATE);
+        assertEquals(generator.generateClient(123), otherGenerator.generateClient(123));
+        assertEquals(generator.generateHousekeeper(45), otherGenerator.generateHousekeeper(45));
+
+        // persons do not depend on which other persons were generated before them
+        assertEquals(generator.generateClients(10).get(9), otherGenerator.generateClient(9));
+    }
+
+    @Test
+    public void generateClient_differentSeed_differentPerson() {
+        SyntheticDataGenerator otherGenerator = new SyntheticDataGenerator(8L, REFERENCE_DATE);
+        assertNotEquals(generator.generateClient(0), otherGenerator.generateClient(0));
+    }
+
+    @Test
+    public void generateAddressBook_uniquePersons_success() {
+        // setClients and setHousekeepers reject duplicate persons
+        AddressBook addressBook = generator.generateAddressBook(2000, 200);
+        assertEquals(2000, addressBook.getClientList().size());
+        assertEquals(200, addressBook.getHousekeeperList().size());
+    }
+
+    @Test
+    public void generateClients_someWithoutDetailsSomeBooked() {
+        List<Client> clients = generator.generateClients(1000);
+        assertTrue(clients.stream().anyMatch(client -> !client.hasHousekeepingDetails()));
+        assertTrue(clients.stream().anyMatch(client -> client.getDetails().getBooking() != null));
+        assertTrue(clients.stream().allMatch(client -> !client.hasHousekeepingDetails()
+                || !client.getDetails().getLastHousekeepingDate().isAfter(REFERENCE_DATE)));
+    }
+
+    @Test
+    public void generateHousekeeper_bookingHistory_sortedDistinctAndInRange() {
+        SyntheticDataGenerator historyGenerator = new SyntheticDataGenerator(7L, REFERENCE_DATE, 100, 3);
+        for (int i = 0; i < 20; i++) {
+            Housekeeper housekeeper = historyGenerator.generateHousekeeper(i);
+            ArrayList<Booking> bookings = housekeeper.getBookingList().getBookings();
+            assertTrue(bookings.size() > 200 && bookings.size() <= 300);
+
+            List<Booking> sorted = new ArrayList<>(bookings);
+            Collections.sort(sorted);
+            assertEquals(sorted, bookings);
+            for (int j = 1; j < bookings.size(); j++) {
+                assertFalse(bookings.get(j - 1).equals(bookings.get(j)));
+            }
+            assertFalse(bookings.get(0).getBookedDate().isBefore(REFERENCE_DATE.minusYears(3)));
+            assertTrue(bookings.get(bookings.size() - 1).getBookedDate().isBefore(REFERENCE_DATE.plusDays(15)));
+        }
+    }
+
+    @Test
+    public void generateHousekeeper_noBookings_emptyBookingList() {
+        SyntheticDataGenerator noBookingGenerator = new SyntheticDataGenerator(7L, REFERENCE_DATE, 0, 3);
+        assertTrue(noBookingGenerator.generateHousekeeper(0).getBookingList().getBookings().isEmpty());
+    }
+}
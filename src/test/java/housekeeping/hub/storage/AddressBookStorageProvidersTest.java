@@ -0,0 +1,47 @@
+package housekeeping.hub.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import housekeeping.hub.commons.core.StorageSettings;
+
+public class AddressBookStorageProvidersTest {
+
+    private static final Path FILE_PATH = Paths.get("data", "addressbook.json");
+
+    @Test
+    public void getNames_builtInBackends_allPresent() {
+        assertTrue(AddressBookStorageProviders.getNames().contains(JsonAddressBookStorageProvider.NAME));
+        assertTrue(AddressBookStorageProviders.getNames().contains(ShardedJsonAddressBookStorageProvider.NAME));
+        assertTrue(AddressBookStorageProviders.getNames().contains(SqlAddressBookStorageProvider.NAME));
+    }
+
+    @Test
+    public void find_unknownBackend_empty() {
+        assertFalse(AddressBookStorageProviders.find("csv").isPresent());
+    }
+
+    @Test
+    public void create_knownBackend_storageOfBackend() {
+        AddressBookStorage storage = AddressBookStorageProviders.create(FILE_PATH,
+                new StorageSettings().withBackend(ShardedJsonAddressBookStorageProvider.NAME));
+        assertTrue(storage instanceof ShardedJsonAddressBookStorage);
+        assertEquals(FILE_PATH, storage.getAddressBookFilePath());
+
+        storage = AddressBookStorageProviders.create(FILE_PATH, new StorageSettings());
+        assertTrue(storage instanceof JsonAddressBookStorage);
+    }
+
+    @Test
+    public void create_unknownBackend_fallsBackToJson() {
+        AddressBookStorage storage = AddressBookStorageProviders.create(FILE_PATH,
+                new StorageSettings().withBackend("csv"));
+        assertTrue(storage instanceof JsonAddressBookStorage);
+    }
+}
@@ -1,23 +1,30 @@
 package housekeeping.hub.storage;
 
 import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.FlightRecorderUtil.recordEvents;
 import static housekeeping.hub.testutil.TypicalPersons.ALICE;
 import static housekeeping.hub.testutil.TypicalPersons.HOON;
 import static housekeeping.hub.testutil.TypicalPersons.IDA;
 import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
 import housekeeping.hub.commons.exceptions.DataLoadingException;
 import housekeeping.hub.model.AddressBook;
 import housekeeping.hub.model.ReadOnlyAddressBook;
+import jdk.jfr.consumer.RecordedEvent;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +93,45 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        StorageSettings compressed = new StorageSettings("json", 4096, SyncMode.FSYNC, 6);
+
+        new JsonAddressBookStorage(filePath, compressed).saveAddressBook(original);
+        byte[] content = Files.readAllBytes(filePath);
+        assertTrue(content[0] == (byte) 0x1f && content[1] == (byte) 0x8b);
+
+        // compression is detected on read, whatever the settings of the reading storage
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // an uncompressed save replaces the compressed file
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals('{', Files.readString(filePath).charAt(0));
+        readBack = new JsonAddressBookStorage(filePath, compressed).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_flightRecorderRecording_storageEventsRecorded() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        List<RecordedEvent> events = recordEvents(JsonStorageEvent.class, () -> {
+            jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook(), filePath);
+            jsonAddressBookStorage.readAddressBook(filePath);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(JsonStorageEvent.WRITE, events.get(0).getString("operation"));
+        assertEquals(JsonStorageEvent.READ, events.get(1).getString("operation"));
+        assertEquals(filePath.toString(), events.get(1).getString("filePath"));
+        assertEquals(Files.size(filePath), events.get(0).getLong("bytes"));
+        assertEquals(Files.size(filePath), events.get(1).getLong("bytes"));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
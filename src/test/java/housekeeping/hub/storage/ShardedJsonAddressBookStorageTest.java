@@ -0,0 +1,111 @@
+package housekeeping.hub.storage;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.HOON;
+import static housekeeping.hub.testutil.TypicalPersons.IDA;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+
+public class ShardedJsonAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ShardedJsonAddressBookStorageTest");
+    private static final String UNCHANGED_MARKER = "{ \"marker\" : \"not rewritten\" }";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedJsonAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingManifest_emptyResult() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("NonExistentFile.json");
+        assertFalse(new ShardedJsonAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_missingShards_emptyAddressBook() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("missingShardsManifest.json");
+        ReadOnlyAddressBook readBack = new ShardedJsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("unsupportedVersionManifest.json");
+        assertThrows(DataLoadingException.class, () -> new ShardedJsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertTrue(Files.exists(ShardedJsonAddressBookStorage.getClientShardPath(filePath)));
+        assertTrue(Files.exists(ShardedJsonAddressBookStorage.getHousekeeperShardPath(filePath)));
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing files, and read back
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addHousekeeper(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedShard_notRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path housekeeperShardPath = ShardedJsonAddressBookStorage.getHousekeeperShardPath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Files.writeString(housekeeperShardPath, UNCHANGED_MARKER);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(UNCHANGED_MARKER, Files.readString(housekeeperShardPath));
+
+        // a change to the housekeepers marks the shard dirty again
+        original.addHousekeeper(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_newFilePath_allShardsWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+}
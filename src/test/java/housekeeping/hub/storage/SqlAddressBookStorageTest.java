@@ -0,0 +1,134 @@
+package housekeeping.hub.storage;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.TypicalPersons.ALICE;
+import static housekeeping.hub.testutil.TypicalPersons.BENSON;
+import static housekeeping.hub.testutil.TypicalPersons.HOON;
+import static housekeeping.hub.testutil.TypicalPersons.IDA;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.exceptions.DataLoadingException;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+
+public class SqlAddressBookStorageTest {
+    private static final String UNCHANGED_MARKER = "99999999";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqlAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.db");
+        assertFalse(new SqlAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void read_notDatabaseFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notDatabaseFormat.db");
+        Files.writeString(filePath, "not a database");
+        assertThrows(DataLoadingException.class, () -> new SqlAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing rows, and read back
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addHousekeeper(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Read with a new storage instance
+        readBack = new SqlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedRows_notRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        setClientPhone(filePath, BENSON.getName().fullName, UNCHANGED_MARKER);
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(UNCHANGED_MARKER, getClientPhone(filePath, BENSON.getName().fullName));
+
+        // a full write replaces every row
+        storage.saveAddressBook(original, testFolder.resolve("OtherAddressBook.db"));
+        storage.saveAddressBook(original);
+        assertEquals(BENSON.getPhone().value, getClientPhone(filePath, BENSON.getName().fullName));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.db");
+        assertThrows(NullPointerException.class, () -> new SqlAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new SqlAddressBookStorage(null).saveAddressBook(new AddressBook(), null));
+    }
+
+    private static void setClientPhone(Path filePath, String name, String phone) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(SqlAddressBookStorage.JDBC_URL_PREFIX + filePath);
+             PreparedStatement statement = connection.prepareStatement(
+                     "UPDATE clients SET phone = ? WHERE name = ?")) {
+            statement.setString(1, phone);
+            statement.setString(2, name);
+            statement.executeUpdate();
+        }
+    }
+
+    private static String getClientPhone(Path filePath, String name) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(SqlAddressBookStorage.JDBC_URL_PREFIX + filePath);
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT phone FROM clients WHERE name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
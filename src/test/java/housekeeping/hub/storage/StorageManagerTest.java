@@ -3,7 +3,11 @@ package housekeeping.hub.storage;
 import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +64,42 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_storageMetricsRecorded() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+
+        StorageMetrics storageMetrics = storageManager.getStorageMetrics();
+        assertEquals(1, storageMetrics.getSaveCount());
+        assertEquals(0, storageMetrics.getFailedSaveCount());
+        assertEquals(0, storageMetrics.getSavesInProgress());
+        assertEquals(Files.size(getTempFilePath("ab")), storageMetrics.getLastSaveBytes());
+        assertTrue(storageMetrics.getLastSaveNanos() > 0);
+    }
+
+    @Test
+    public void saveAddressBook_shardedBackend_sizeOfAllFilesRecorded() throws Exception {
+        Path manifestPath = getTempFilePath("sharded.json");
+        storageManager = new StorageManager(new ShardedJsonAddressBookStorage(manifestPath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        storageManager.saveAddressBook(getTypicalAddressBook());
+
+        long expectedBytes = Files.size(manifestPath)
+                + Files.size(ShardedJsonAddressBookStorage.getClientShardPath(manifestPath))
+                + Files.size(ShardedJsonAddressBookStorage.getHousekeeperShardPath(manifestPath));
+        assertEquals(expectedBytes, storageManager.getStorageMetrics().getLastSaveBytes());
+    }
+
+    @Test
+    public void saveAddressBook_failedSave_recordedAsFailed() {
+        // a folder cannot be saved over
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(getTypicalAddressBook(), testFolder));
+
+        StorageMetrics storageMetrics = storageManager.getStorageMetrics();
+        assertEquals(1, storageMetrics.getFailedSaveCount());
+        assertEquals(0, storageMetrics.getSavesInProgress());
+        assertEquals(0, storageMetrics.getLastSaveBytes());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,62 @@
+package housekeeping.hub.storage;
+
+import static housekeeping.hub.testutil.Assert.assertThrows;
+import static housekeeping.hub.testutil.TypicalPersons.getTypicalAddressBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import housekeeping.hub.commons.core.StorageSettings;
+import housekeeping.hub.commons.core.StorageSettings.SyncMode;
+import housekeeping.hub.model.AddressBook;
+import housekeeping.hub.model.ReadOnlyAddressBook;
+import housekeeping.hub.model.person.Client;
+import housekeeping.hub.model.person.Housekeeper;
+import housekeeping.hub.model.util.SyntheticDataGenerator;
+
+public class StreamingJsonAddressBookWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        StreamingJsonAddressBookWriter writer = new StreamingJsonAddressBookWriter();
+        assertThrows(NullPointerException.class, () -> writer.write(null,
+                Collections.<Client>emptyIterator(), Collections.<Housekeeper>emptyIterator()));
+        assertThrows(NullPointerException.class, () -> writer.write(testFolder.resolve("data.json"),
+                null, Collections.<Housekeeper>emptyIterator()));
+    }
+
+    @Test
+    public void write_typicalPersons_readBackByJsonStorage() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        AddressBook original = getTypicalAddressBook();
+
+        long personCount = new StreamingJsonAddressBookWriter().write(filePath,
+                original.getClientList().iterator(), original.getHousekeeperList().iterator());
+
+        assertEquals(original.getClientList().size() + original.getHousekeeperList().size(), personCount);
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void write_generatedPersonsCompressed_readBackByJsonStorage() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("generated.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3L, LocalDate.of(2024, 6, 1), 20, 2);
+        StorageSettings settings = new StorageSettings(StorageSettings.DEFAULT_BACKEND,
+                StorageSettings.DEFAULT_BUFFER_SIZE, SyncMode.NONE, 6);
+
+        new StreamingJsonAddressBookWriter(settings).write(filePath, generator.streamClients(500).iterator(),
+                generator.streamHousekeepers(50).iterator());
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, settings).readAddressBook().get();
+        assertEquals(generator.generateAddressBook(500, 50), new AddressBook(readBack));
+    }
+}
@@ -0,0 +1,36 @@
+package housekeeping.hub.testutil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for testing Java Flight Recorder events.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Runs {@code executable} while recording events of {@code eventClass}, and returns the events recorded.
+     */
+    public static List<RecordedEvent> recordEvents(Class<? extends Event> eventClass, Executable executable)
+            throws Throwable {
+        Path recordingPath = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventClass);
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(recordingPath);
+            return RecordingFile.readAllEvents(recordingPath);
+        } finally {
+            Files.deleteIfExists(recordingPath);
+        }
+    }
+}